@@ -0,0 +1,65 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.VacationRequest;
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Fixed sample data shared by the benchmarks, shaped like the rows returned by the list endpoints.
+ */
+final class BenchmarkData {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 6);
+
+    private static final Instant CREATED_AT = Instant.parse("2025-01-02T09:30:00Z");
+
+    private BenchmarkData() {}
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setLogin("user-" + id);
+        user.setPassword("$2a$10$VEjxo0jq2YG9Rbk2HmX9S.k1uZBGYUHdUcid3g/vfiEl7lwWgOH/K");
+        user.setFirstName("First" + id);
+        user.setLastName("Last" + id);
+        user.setEmail("user-" + id + "@localhost");
+        user.setImageUrl("http://placehold.it/50x50");
+        user.setActivated(true);
+        user.setLangKey("es");
+        user.setCreatedBy("system");
+        user.setCreatedDate(CREATED_AT);
+        user.setLastModifiedBy("system");
+        user.setLastModifiedDate(CREATED_AT);
+        user.setAuthorities(Set.of(new Authority().name(AuthoritiesConstants.USER)));
+        return user;
+    }
+
+    static Employee employee(long id) {
+        return new Employee().id(id).firstName("First" + id).lastName("Last" + id).startDate(FIRST_DAY.minusYears(3)).user(user(id));
+    }
+
+    static VacationRequest vacationRequest(long id) {
+        LocalDate startDate = FIRST_DAY.plusDays(id % 300);
+        return new VacationRequest()
+            .id(id)
+            .startDate(startDate)
+            .endDate(startDate.plusDays(4))
+            .requestedDays(5)
+            .status(VacationStatus.APPROVED_WITH_CHANGES)
+            .approverComment("Approved one day shorter")
+            .approvedStartDate(startDate)
+            .approvedEndDate(startDate.plusDays(3))
+            .approvedDays(4)
+            .createdAt(CREATED_AT)
+            .decidedAt(CREATED_AT.plusSeconds(86_400))
+            .employee(employee(id % 50))
+            .approver(user(1_000 + id % 5))
+            .version(1L);
+    }
+}
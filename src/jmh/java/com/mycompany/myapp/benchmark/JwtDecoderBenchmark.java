@@ -0,0 +1,74 @@
+package com.mycompany.myapp.benchmark;
+
+import static com.mycompany.myapp.security.SecurityUtils.AUTHORITIES_CLAIM;
+import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
+import static com.mycompany.myapp.security.SecurityUtils.USER_ID_CLAIM;
+
+import com.mycompany.myapp.security.Hs512JwtDecoder;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * Benchmarks of the verification of a token as issued by {@code AuthenticateController.createToken}: the Nimbus
+ * decoder against {@link Hs512JwtDecoder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtDecoderBenchmark {
+
+    private JwtDecoder nimbusDecoder;
+
+    private JwtDecoder hs512Decoder;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        byte[] keyBytes = new byte[64];
+        new Random(42).nextBytes(keyBytes);
+        SecretKey secretKey = new SecretKeySpec(keyBytes, JWT_ALGORITHM.getName());
+
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(secretKey).macAlgorithm(JWT_ALGORITHM).build();
+        hs512Decoder = new Hs512JwtDecoder(secretKey, nimbusDecoder, Clock.systemUTC());
+
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.DAYS))
+            .subject("admin")
+            .claim(AUTHORITIES_CLAIM, "ROLE_ADMIN ROLE_USER")
+            .claim(USER_ID_CLAIM, 1L)
+            .build();
+        token = new NimbusJwtEncoder(new ImmutableSecret<>(secretKey))
+            .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims))
+            .getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt nimbus() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt hs512() {
+        return hs512Decoder.decode(token);
+    }
+}
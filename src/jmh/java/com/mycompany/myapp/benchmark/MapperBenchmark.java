@@ -0,0 +1,64 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.domain.VacationRequest;
+import com.mycompany.myapp.service.dto.EmployeeDTO;
+import com.mycompany.myapp.service.dto.VacationRequestDTO;
+import com.mycompany.myapp.service.mapper.EmployeeMapper;
+import com.mycompany.myapp.service.mapper.EmployeeMapperImpl;
+import com.mycompany.myapp.service.mapper.VacationRequestMapper;
+import com.mycompany.myapp.service.mapper.VacationRequestMapperImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the MapStruct entity mappers, one entity per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final VacationRequestMapper vacationRequestMapper = new VacationRequestMapperImpl();
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+
+    private VacationRequest vacationRequest;
+
+    private VacationRequestDTO vacationRequestDTO;
+
+    private Employee employee;
+
+    private EmployeeDTO employeeDTO;
+
+    @Setup
+    public void setup() {
+        vacationRequest = BenchmarkData.vacationRequest(1L);
+        vacationRequestDTO = vacationRequestMapper.toDto(vacationRequest);
+        employee = BenchmarkData.employee(1L);
+        employeeDTO = employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public VacationRequestDTO vacationRequestToDto() {
+        return vacationRequestMapper.toDto(vacationRequest);
+    }
+
+    @Benchmark
+    public VacationRequest vacationRequestToEntity() {
+        return vacationRequestMapper.toEntity(vacationRequestDTO);
+    }
+
+    @Benchmark
+    public EmployeeDTO employeeToDto() {
+        return employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public Employee employeeToEntity() {
+        return employeeMapper.toEntity(employeeDTO);
+    }
+}
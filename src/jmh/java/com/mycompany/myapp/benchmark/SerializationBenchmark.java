@@ -0,0 +1,62 @@
+package com.mycompany.myapp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.service.dto.VacationRequestDTO;
+import com.mycompany.myapp.service.mapper.VacationRequestMapper;
+import com.mycompany.myapp.service.mapper.VacationRequestMapperImpl;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the JSON serialization of a 1,000-row page of vacation requests, configured like the application's
+ * {@link ObjectMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .addModule(new Jdk8Module())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private List<VacationRequestDTO> page;
+
+    @Setup
+    public void setup() {
+        VacationRequestMapper vacationRequestMapper = new VacationRequestMapperImpl();
+        page = LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(BenchmarkData::vacationRequest).map(vacationRequestMapper::toDto).toList();
+    }
+
+    /**
+     * The whole body in memory, like a response that needs its length up front.
+     */
+    @Benchmark
+    public byte[] pageToBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * The body written straight to the response stream, which is what the message converter does.
+     */
+    @Benchmark
+    public void pageToStream() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+}
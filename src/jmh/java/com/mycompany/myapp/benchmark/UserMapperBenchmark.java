@@ -0,0 +1,46 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.service.dto.AdminUserDTO;
+import com.mycompany.myapp.service.mapper.UserMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the hand-written {@link UserMapper} and of {@link AdminUserDTO} construction, on a page of users.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private List<User> users;
+
+    private List<AdminUserDTO> userDTOs;
+
+    @Setup
+    public void setup() {
+        users = LongStream.rangeClosed(1, pageSize).mapToObj(BenchmarkData::user).toList();
+        userDTOs = userMapper.usersToAdminUserDTOs(users);
+    }
+
+    @Benchmark
+    public List<User> userDTOsToUsers() {
+        return userMapper.userDTOsToUsers(userDTOs);
+    }
+
+    @Benchmark
+    public List<AdminUserDTO> adminUserDTOConstruction() {
+        return userMapper.usersToAdminUserDTOs(users);
+    }
+}
@@ -1,6 +1,12 @@
 package com.mycompany.myapp.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Vacaciones.
@@ -13,12 +19,56 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Pagination pagination = new Pagination();
+
+    private final Vacation vacation = new Vacation();
+
+    private final Security security = new Security();
+
+    private final Cache cache = new Cache();
+
+    private final Datasource datasource = new Datasource();
+
+    /**
+     * How the read-only vacation request lists are read: column projections, or entities mapped afterwards (kept to
+     * compare both paths).
+     */
+    private ReadModel readModel = ReadModel.PROJECTION;
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Vacation getVacation() {
+        return vacation;
+    }
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
+    public ReadModel getReadModel() {
+        return readModel;
+    }
+
+    public void setReadModel(ReadModel readModel) {
+        this.readModel = readModel;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +83,509 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Pagination {
+
+        /**
+         * Upper bound applied to every client supplied page size.
+         */
+        private int maxPageSize = 100;
+
+        /**
+         * Largest result an unpaged (legacy) list request may return; larger results are refused.
+         */
+        private int unpagedRowCeiling = 1000;
+
+        public int getMaxPageSize() {
+            return maxPageSize;
+        }
+
+        public void setMaxPageSize(int maxPageSize) {
+            this.maxPageSize = maxPageSize;
+        }
+
+        public int getUnpagedRowCeiling() {
+            return unpagedRowCeiling;
+        }
+
+        public void setUnpagedRowCeiling(int unpagedRowCeiling) {
+            this.unpagedRowCeiling = unpagedRowCeiling;
+        }
+    }
+
+    public static class Vacation {
+
+        /**
+         * Days granted to an employee for a calendar year that has no ledger row yet.
+         */
+        private int annualEntitlementDays = 15;
+
+        /**
+         * Upper bound of vacation requests decided by one bulk decision.
+         */
+        private int maxBulkDecisions = 500;
+
+        /**
+         * Holiday calendar used to count the working days of vacation requests.
+         */
+        private String holidayCalendar = "default";
+
+        public int getAnnualEntitlementDays() {
+            return annualEntitlementDays;
+        }
+
+        public void setAnnualEntitlementDays(int annualEntitlementDays) {
+            this.annualEntitlementDays = annualEntitlementDays;
+        }
+
+        public int getMaxBulkDecisions() {
+            return maxBulkDecisions;
+        }
+
+        public void setMaxBulkDecisions(int maxBulkDecisions) {
+            this.maxBulkDecisions = maxBulkDecisions;
+        }
+
+        public String getHolidayCalendar() {
+            return holidayCalendar;
+        }
+
+        public void setHolidayCalendar(String holidayCalendar) {
+            this.holidayCalendar = holidayCalendar;
+        }
+    }
+
+    public static class Security {
+
+        /**
+         * Upper bound of decoded JWTs kept in memory, 0 to decode every token.
+         */
+        private int tokenCacheSize = 10_000;
+
+        /**
+         * Verify our own HS512 tokens with the allocation-free decoder, falling back to Nimbus for any other token.
+         */
+        private boolean fastJwtDecoder = false;
+
+        /**
+         * Lifetime of access tokens. Sessions last longer by exchanging refresh tokens, which expire after the JHipster
+         * token validity.
+         */
+        private Duration accessTokenValidity = Duration.ofMinutes(15);
+
+        /**
+         * How long after its exchange a refresh token presented again is only refused, instead of revoking the session:
+         * the tabs of a remembered session share their tokens and refresh together.
+         */
+        private Duration refreshTokenReuseGrace = Duration.ofSeconds(10);
+
+        private final PasswordHashing passwordHashing = new PasswordHashing();
+
+        private final LoginThrottle loginThrottle = new LoginThrottle();
+
+        public int getTokenCacheSize() {
+            return tokenCacheSize;
+        }
+
+        public void setTokenCacheSize(int tokenCacheSize) {
+            this.tokenCacheSize = tokenCacheSize;
+        }
+
+        public boolean isFastJwtDecoder() {
+            return fastJwtDecoder;
+        }
+
+        public void setFastJwtDecoder(boolean fastJwtDecoder) {
+            this.fastJwtDecoder = fastJwtDecoder;
+        }
+
+        public Duration getAccessTokenValidity() {
+            return accessTokenValidity;
+        }
+
+        public void setAccessTokenValidity(Duration accessTokenValidity) {
+            this.accessTokenValidity = accessTokenValidity;
+        }
+
+        public Duration getRefreshTokenReuseGrace() {
+            return refreshTokenReuseGrace;
+        }
+
+        public void setRefreshTokenReuseGrace(Duration refreshTokenReuseGrace) {
+            this.refreshTokenReuseGrace = refreshTokenReuseGrace;
+        }
+
+        public PasswordHashing getPasswordHashing() {
+            return passwordHashing;
+        }
+
+        public LoginThrottle getLoginThrottle() {
+            return loginThrottle;
+        }
+
+        public static class PasswordHashing {
+
+            /**
+             * Threads hashing passwords, 0 for one per available processor.
+             */
+            private int threads = 0;
+
+            /**
+             * Passwords waiting for a thread; beyond that, logins are refused with a 503.
+             */
+            private int queueCapacity = 32;
+
+            public int getThreads() {
+                return threads;
+            }
+
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+        }
+
+        public static class LoginThrottle {
+
+            /**
+             * Login attempts allowed per login and period.
+             */
+            private int attemptsPerLogin = 5;
+
+            /**
+             * Login attempts allowed per client address and period; 0 turns the throttle by address off. Behind a
+             * reverse proxy, only meaningful with {@code trusted-proxies} set.
+             */
+            private int attemptsPerAddress = 60;
+
+            /**
+             * Addresses or CIDR ranges of the reverse proxies whose {@code X-Forwarded-For} header is trusted to tell
+             * the client address.
+             */
+            private List<String> trustedProxies = new ArrayList<>();
+
+            private Duration period = Duration.ofMinutes(1);
+
+            /**
+             * Upper bound of logins and of addresses tracked.
+             */
+            private int maxEntries = 10_000;
+
+            public int getAttemptsPerLogin() {
+                return attemptsPerLogin;
+            }
+
+            public void setAttemptsPerLogin(int attemptsPerLogin) {
+                this.attemptsPerLogin = attemptsPerLogin;
+            }
+
+            public int getAttemptsPerAddress() {
+                return attemptsPerAddress;
+            }
+
+            public void setAttemptsPerAddress(int attemptsPerAddress) {
+                this.attemptsPerAddress = attemptsPerAddress;
+            }
+
+            public List<String> getTrustedProxies() {
+                return trustedProxies;
+            }
+
+            public void setTrustedProxies(List<String> trustedProxies) {
+                this.trustedProxies = trustedProxies;
+            }
+
+            public Duration getPeriod() {
+                return period;
+            }
+
+            public void setPeriod(Duration period) {
+                this.period = period;
+            }
+
+            public int getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(int maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Directory of the disk tiers, required when a region has one.
+         */
+        private String diskPath;
+
+        /**
+         * How the nodes tell each other which cache entries went stale.
+         */
+        private InvalidationBus invalidationBus = InvalidationBus.POSTGRES;
+
+        /**
+         * Settings of individual caches, by cache name (use the {@code "[...]"} key syntax for names with dots). Caches
+         * not listed keep the {@code jhipster.cache.ehcache} defaults.
+         */
+        private final Map<String, Region> regions = new LinkedHashMap<>();
+
+        public String getDiskPath() {
+            return diskPath;
+        }
+
+        public void setDiskPath(String diskPath) {
+            this.diskPath = diskPath;
+        }
+
+        public InvalidationBus getInvalidationBus() {
+            return invalidationBus;
+        }
+
+        public void setInvalidationBus(InvalidationBus invalidationBus) {
+            this.invalidationBus = invalidationBus;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public enum InvalidationBus {
+            /**
+             * PostgreSQL {@code LISTEN} / {@code NOTIFY}, between all the nodes using the database.
+             */
+            POSTGRES,
+            /**
+             * Within the JVM only, for tests.
+             */
+            IN_MEMORY,
+        }
+
+        public static class Region {
+
+            /**
+             * Size of the heap tier in entries. Defaults to {@code jhipster.cache.ehcache.max-entries} unless
+             * {@code heap-size} is set.
+             */
+            private Long heapEntries;
+
+            /**
+             * Size of the heap tier in bytes, instead of entries.
+             */
+            private DataSize heapSize;
+
+            /**
+             * Size of the off-heap tier, none if not set. Entries there are serialized and live outside of the garbage
+             * collected heap.
+             */
+            private DataSize offHeapSize;
+
+            /**
+             * Size of the disk tier, none if not set.
+             */
+            private DataSize diskSize;
+
+            /**
+             * Whether the disk tier survives restarts.
+             */
+            private boolean diskPersistent = false;
+
+            /**
+             * Time an entry lives after it is written. Defaults to {@code jhipster.cache.ehcache.time-to-live-seconds}
+             * unless {@code time-to-idle} is set.
+             */
+            private Duration timeToLive;
+
+            /**
+             * Time an entry lives after it is last read, instead of written.
+             */
+            private Duration timeToIdle;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public DataSize getHeapSize() {
+                return heapSize;
+            }
+
+            public void setHeapSize(DataSize heapSize) {
+                this.heapSize = heapSize;
+            }
+
+            public DataSize getOffHeapSize() {
+                return offHeapSize;
+            }
+
+            public void setOffHeapSize(DataSize offHeapSize) {
+                this.offHeapSize = offHeapSize;
+            }
+
+            public DataSize getDiskSize() {
+                return diskSize;
+            }
+
+            public void setDiskSize(DataSize diskSize) {
+                this.diskSize = diskSize;
+            }
+
+            public boolean isDiskPersistent() {
+                return diskPersistent;
+            }
+
+            public void setDiskPersistent(boolean diskPersistent) {
+                this.diskPersistent = diskPersistent;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+        }
+    }
+
+    public static class Datasource {
+
+        /**
+         * How long a connection can be held before it is reported as leaked, with the stack of the code that took it.
+         * Zero disables it, and the capture of those stacks.
+         */
+        private Duration leakDetectionThreshold = Duration.ZERO;
+
+        private final Replica replica = new Replica();
+
+        public Duration getLeakDetectionThreshold() {
+            return leakDetectionThreshold;
+        }
+
+        public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+            this.leakDetectionThreshold = leakDetectionThreshold;
+        }
+
+        public Replica getReplica() {
+            return replica;
+        }
+
+        /**
+         * A second pool read-only transactions are routed to. Routing is on when {@code url} is set.
+         */
+        public static class Replica {
+
+            private String url;
+
+            /**
+             * Defaults to {@code spring.datasource.username}.
+             */
+            private String username;
+
+            /**
+             * Defaults to {@code spring.datasource.password}.
+             */
+            private String password;
+
+            private String poolName = "HikariReplica";
+
+            /**
+             * Defaults to the size of the primary pool.
+             */
+            private Integer maximumPoolSize;
+
+            /**
+             * How long the read-only transactions of a user keep going to the primary after one of their writes, so
+             * they read it despite the replication lag. Zero disables it.
+             */
+            private Duration readYourWrites = Duration.ofSeconds(5);
+
+            /**
+             * Most users tracked for {@code readYourWrites}; past it, users stop sticking to the primary until some
+             * expire.
+             */
+            private int maxTrackedWriters = 10_000;
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public String getPoolName() {
+                return poolName;
+            }
+
+            public void setPoolName(String poolName) {
+                this.poolName = poolName;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+
+            public Duration getReadYourWrites() {
+                return readYourWrites;
+            }
+
+            public void setReadYourWrites(Duration readYourWrites) {
+                this.readYourWrites = readYourWrites;
+            }
+
+            public int getMaxTrackedWriters() {
+                return maxTrackedWriters;
+            }
+
+            public void setMaxTrackedWriters(int maxTrackedWriters) {
+                this.maxTrackedWriters = maxTrackedWriters;
+            }
+        }
+    }
+
+    public enum ReadModel {
+        PROJECTION,
+        ENTITY,
+    }
     // jhipster-needle-application-properties-property-class
 }
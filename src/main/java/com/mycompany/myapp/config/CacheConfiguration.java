@@ -1,9 +1,25 @@
 package com.mycompany.myapp.config;
 
+import java.io.File;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
+import org.ehcache.impl.serialization.PlainJavaSerializer;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -12,6 +28,8 @@ import org.springframework.boot.info.GitProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.*;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import tech.jhipster.config.JHipsterProperties;
 import tech.jhipster.config.cache.PrefixedKeyGenerator;
 
@@ -19,12 +37,18 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CacheConfiguration.class);
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cacheProperties;
     private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final AtomicReference<StatisticsService> ehcacheStatistics = new AtomicReference<>();
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
 
         jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
             CacheConfigurationBuilder.newCacheConfigurationBuilder(
@@ -37,6 +61,45 @@ public class CacheConfiguration {
         );
     }
 
+    /**
+     * The JCache manager, created here instead of by Spring Boot so that disk tiers get their directory.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder().withClassLoader(
+            provider.getDefaultClassLoader()
+        );
+        if (StringUtils.hasText(cacheProperties.getDiskPath())) {
+            configuration = configuration.withService(new DefaultPersistenceConfiguration(new File(cacheProperties.getDiskPath())));
+        }
+        if (EhcacheStatisticsCapture.isAvailable()) {
+            configuration = configuration.withService(new EhcacheStatisticsCapture.Configuration(ehcacheStatistics::set));
+        } else {
+            LOG.debug("Ehcache statistics service not available, cache occupancy will not be reported");
+        }
+        javax.cache.CacheManager cm = provider.getCacheManager(provider.getDefaultURI(), configuration.build());
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cm));
+
+        Set<String> cacheNames = StreamSupport.stream(cm.getCacheNames().spliterator(), false).collect(Collectors.toSet());
+        cacheProperties
+            .getRegions()
+            .keySet()
+            .stream()
+            .filter(name -> !cacheNames.contains(name))
+            .forEach(name -> LOG.warn("application.cache.regions.{} does not match any cache", name));
+        return cm;
+    }
+
+    /**
+     * The statistics of the caches of {@link #jCacheCacheManager}, beyond those of JCache; {@code null} when Ehcache
+     * could not hand it out.
+     */
+    @Bean
+    public StatisticsService ehcacheStatisticsService(javax.cache.CacheManager jCacheCacheManager) {
+        return ehcacheStatistics.get();
+    }
+
     @Bean
     public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
         return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
@@ -52,6 +115,10 @@ public class CacheConfiguration {
             createCache(cm, com.mycompany.myapp.domain.User.class.getName() + ".authorities");
             createCache(cm, com.mycompany.myapp.domain.Employee.class.getName());
             createCache(cm, com.mycompany.myapp.domain.VacationRequest.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.VacationBalance.class.getName());
+            createCache(cm, com.mycompany.myapp.service.VacationBalanceService.BALANCES_BY_EMPLOYEE_AND_YEAR_CACHE);
+            createCache(cm, com.mycompany.myapp.domain.Holiday.class.getName());
+            createCache(cm, com.mycompany.myapp.service.WorkingDayCalculator.WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE);
             // jhipster-needle-ehcache-add-entry
         };
     }
@@ -61,8 +128,76 @@ public class CacheConfiguration {
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, configurationFor(cacheName, cm.getClassLoader()));
+        }
+        // publishes the statistics MBean read by the cache meters and /management/caches
+        cm.enableStatistics(cacheName, true);
+    }
+
+    /**
+     * The configuration of a cache: the defaults, or its {@code application.cache.regions} entry.
+     */
+    private javax.cache.configuration.Configuration<Object, Object> configurationFor(String cacheName, ClassLoader classLoader) {
+        ApplicationProperties.Cache.Region region = cacheProperties.getRegions().get(cacheName);
+        if (region == null) {
+            return jcacheConfiguration;
+        }
+        if (region.getHeapEntries() != null && region.getHeapSize() != null) {
+            throw new IllegalStateException("Cache " + cacheName + ": set heap-entries or heap-size, not both");
+        }
+        if (region.getTimeToLive() != null && region.getTimeToIdle() != null) {
+            throw new IllegalStateException("Cache " + cacheName + ": set time-to-live or time-to-idle, not both");
+        }
+
+        ResourcePoolsBuilder pools = region.getHeapSize() != null
+            ? ResourcePoolsBuilder.newResourcePoolsBuilder().heap(amount(region.getHeapSize()), unit(region.getHeapSize()))
+            : ResourcePoolsBuilder.newResourcePoolsBuilder()
+                .heap(region.getHeapEntries() != null ? region.getHeapEntries() : ehcache.getMaxEntries(), EntryUnit.ENTRIES);
+        if (region.getOffHeapSize() != null) {
+            pools = pools.offheap(amount(region.getOffHeapSize()), unit(region.getOffHeapSize()));
+        }
+        if (region.getDiskSize() != null) {
+            if (!StringUtils.hasText(cacheProperties.getDiskPath())) {
+                throw new IllegalStateException("Cache " + cacheName + " has a disk tier but application.cache.disk-path is not set");
+            }
+            pools = pools.disk(amount(region.getDiskSize()), unit(region.getDiskSize()), region.isDiskPersistent());
+        }
+
+        ExpiryPolicy<Object, Object> expiry = region.getTimeToIdle() != null
+            ? ExpiryPolicyBuilder.timeToIdleExpiration(region.getTimeToIdle())
+            : ExpiryPolicyBuilder.timeToLiveExpiration(
+                region.getTimeToLive() != null ? region.getTimeToLive() : Duration.ofSeconds(ehcache.getTimeToLiveSeconds())
+            );
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class,
+            Object.class,
+            pools
+        ).withExpiry(expiry);
+        if (region.getOffHeapSize() != null || region.getDiskSize() != null) {
+            // entries leaving the heap are serialized; Hibernate cache entries and our entities are Serializable
+            builder = builder
+                .withKeySerializer(new PlainJavaSerializer<>(classLoader))
+                .withValueSerializer(new PlainJavaSerializer<>(classLoader));
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(builder.build());
+    }
+
+    /**
+     * The size in {@link #unit(DataSize)}, without rounding.
+     */
+    static long amount(DataSize size) {
+        return unit(size).convert(size.toBytes(), MemoryUnit.B);
+    }
+
+    /**
+     * The largest unit the size is a whole number of.
+     */
+    static MemoryUnit unit(DataSize size) {
+        long bytes = size.toBytes();
+        if (bytes % DataSize.ofMegabytes(1).toBytes() == 0) {
+            return MemoryUnit.MB;
         }
+        return bytes % DataSize.ofKilobytes(1).toBytes() == 0 ? MemoryUnit.KB : MemoryUnit.B;
     }
 
     @Autowired(required = false)
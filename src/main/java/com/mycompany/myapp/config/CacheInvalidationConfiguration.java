@@ -0,0 +1,59 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.cache.CacheInvalidationBus;
+import com.mycompany.myapp.service.cache.CacheInvalidationEventListener;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
+import com.mycompany.myapp.service.cache.InMemoryCacheInvalidationBus;
+import com.mycompany.myapp.service.cache.PostgresCacheInvalidationBus;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+@Configuration
+public class CacheInvalidationConfiguration {
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+        ApplicationProperties applicationProperties,
+        DataSource dataSource,
+        DataSourceProperties dataSourceProperties
+    ) {
+        return switch (applicationProperties.getCache().getInvalidationBus()) {
+            case POSTGRES -> {
+                // the listening connection is held for good, so it does not come from the pool
+                DataSource listeningDataSource = dataSourceProperties
+                    .initializeDataSourceBuilder()
+                    .type(SimpleDriverDataSource.class)
+                    .build();
+                PostgresCacheInvalidationBus bus = new PostgresCacheInvalidationBus(dataSource, listeningDataSource);
+                bus.start();
+                yield bus;
+            }
+            case IN_MEMORY -> new InMemoryCacheInvalidationBus();
+        };
+    }
+
+    @Bean
+    public CacheInvalidationEventListener cacheInvalidationEventListener(
+        EntityManagerFactory entityManagerFactory,
+        CacheInvalidationService cacheInvalidationService
+    ) {
+        CacheInvalidationEventListener listener = new CacheInvalidationEventListener(cacheInvalidationService);
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, listener);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, listener);
+        return listener;
+    }
+}
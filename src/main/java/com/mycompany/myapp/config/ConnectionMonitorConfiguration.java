@@ -0,0 +1,33 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.ConnectionMonitor;
+import com.mycompany.myapp.management.MonitoredDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps every Hikari pool in a {@link MonitoredDataSource}, so the {@link ConnectionMonitor} follows its connections.
+ * <p>
+ * Spring Boot unwraps the pools for their {@code hikaricp} metrics and health indicators, and
+ * {@code DataSource.unwrap(HikariDataSource.class)} still reaches them.
+ */
+@Configuration
+public class ConnectionMonitorConfiguration {
+
+    @Bean
+    public static BeanPostProcessor connectionMonitorBeanPostProcessor(ObjectProvider<ConnectionMonitor> connectionMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    String poolName = hikari.getPoolName() != null ? hikari.getPoolName() : beanName;
+                    return new MonitoredDataSource(hikari, poolName, connectionMonitor.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
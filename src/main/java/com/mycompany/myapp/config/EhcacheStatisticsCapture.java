@@ -0,0 +1,76 @@
+package com.mycompany.myapp.config;
+
+import java.util.ServiceLoader;
+import java.util.function.Consumer;
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.spi.service.Service;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+import org.ehcache.spi.service.ServiceDependencies;
+import org.ehcache.spi.service.ServiceProvider;
+
+/**
+ * Ehcache service handing out the {@link StatisticsService} of the cache manager it is registered on, which JCache does
+ * not expose: it holds the tier statistics, the only source of the number of entries of a cache that does not touch
+ * them.
+ * <p>
+ * Ehcache finds the service through {@link Factory}, registered in {@code META-INF/services}. Ehcache reads that file
+ * with its own class loader, which does not load the classes of the application when devtools restarts it: check
+ * {@link #isAvailable()} before requesting the service.
+ */
+@ServiceDependencies(StatisticsService.class)
+public class EhcacheStatisticsCapture implements Service {
+
+    private final Consumer<StatisticsService> target;
+
+    EhcacheStatisticsCapture(Consumer<StatisticsService> target) {
+        this.target = target;
+    }
+
+    @Override
+    public void start(ServiceProvider<Service> serviceProvider) {
+        target.accept(serviceProvider.getService(StatisticsService.class));
+    }
+
+    @Override
+    public void stop() {
+        // the statistics service stops with the cache manager
+    }
+
+    /**
+     * Whether Ehcache can create the service.
+     */
+    static boolean isAvailable() {
+        for (ServiceFactory<?> factory : ServiceLoader.load(ServiceFactory.class, ServiceFactory.class.getClassLoader())) {
+            if (factory.getServiceType() == EhcacheStatisticsCapture.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Requests the service from a cache manager.
+     *
+     * @param target receives the statistics service as the cache manager starts.
+     */
+    record Configuration(Consumer<StatisticsService> target) implements ServiceCreationConfiguration<EhcacheStatisticsCapture, Void> {
+        @Override
+        public Class<EhcacheStatisticsCapture> getServiceType() {
+            return EhcacheStatisticsCapture.class;
+        }
+    }
+
+    public static class Factory implements ServiceFactory<EhcacheStatisticsCapture> {
+
+        @Override
+        public EhcacheStatisticsCapture create(ServiceCreationConfiguration<EhcacheStatisticsCapture, ?> configuration) {
+            return new EhcacheStatisticsCapture(configuration instanceof Configuration capture ? capture.target() : statistics -> {});
+        }
+
+        @Override
+        public Class<EhcacheStatisticsCapture> getServiceType() {
+            return EhcacheStatisticsCapture.class;
+        }
+    }
+}
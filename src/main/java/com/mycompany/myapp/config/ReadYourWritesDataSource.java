@@ -0,0 +1,39 @@
+package com.mycompany.myapp.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * The connections of read-only transactions: from the replica, or from the primary for a user who has just written, as
+ * decided by {@link ReplicaReads} when the transaction began.
+ */
+class ReadYourWritesDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+
+    private final DataSource primary;
+
+    private final ReplicaReads replicaReads;
+
+    ReadYourWritesDataSource(DataSource replica, DataSource primary, ReplicaReads replicaReads) {
+        this.replica = replica;
+        this.primary = primary;
+        this.replicaReads = replicaReads;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    private DataSource target() {
+        return replicaReads.readsReplica() ? replica : primary;
+    }
+}
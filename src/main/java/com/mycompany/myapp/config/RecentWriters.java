@@ -0,0 +1,65 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.security.SecurityUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * The users who committed a read-write transaction on this node during the last {@code window}, so their read-only
+ * transactions can keep reading from the primary until the replica has caught up.
+ */
+class RecentWriters implements TransactionExecutionListener {
+
+    private final Duration window;
+
+    private final int maxEntries;
+
+    private final Clock clock;
+
+    private final Map<String, Instant> primaryUntil = new ConcurrentHashMap<>();
+
+    RecentWriters(Duration window, int maxEntries, Clock clock) {
+        this.window = window;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly() && SecurityUtils.isAuthenticated()) {
+            SecurityUtils.getCurrentUserLogin().ifPresent(this::recordWrite);
+        }
+    }
+
+    void recordWrite(String login) {
+        if (window.isZero() || window.isNegative()) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (primaryUntil.size() >= maxEntries && !primaryUntil.containsKey(login)) {
+            primaryUntil.values().removeIf(until -> !until.isAfter(now));
+            if (primaryUntil.size() >= maxEntries) {
+                return;
+            }
+        }
+        primaryUntil.put(login, now.plus(window));
+    }
+
+    boolean isRecentWriter(String login) {
+        Instant until = primaryUntil.get(login);
+        if (until == null) {
+            return false;
+        }
+        if (!until.isAfter(clock.instant())) {
+            primaryUntil.remove(login, until);
+            return false;
+        }
+        return true;
+    }
+}
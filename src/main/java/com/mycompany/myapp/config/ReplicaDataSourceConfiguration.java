@@ -0,0 +1,98 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.cache.PrimaryReads;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Routing of read-only transactions to a replica, when {@code application.datasource.replica.url} is set.
+ * <p>
+ * The application uses a {@link LazyConnectionDataSourceProxy} over the primary pool: the physical connection is only
+ * taken at the first statement, once the transaction has marked it read-only, and read-only connections come from the
+ * replica pool. A user whose read-write transaction committed less than {@code read-your-writes} ago keeps reading
+ * from the primary on this node. Both pools are beans of their own, so each has its {@code hikaricp} metrics and its
+ * {@code db} health indicator, and each is wrapped by {@link ConnectionMonitorConfiguration}, hence injected as a
+ * plain {@link DataSource}.
+ * <p>
+ * Every node caches what it reads, and the replica may lag behind the writes made on any node: replica-routed
+ * transactions do not put into the Hibernate second level cache nor into the Spring caches, whose loads run on the
+ * primary instead, see {@link ReplicaReads}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.datasource.replica", name = "url")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        DataSourceProperties dataSourceProperties,
+        ApplicationProperties applicationProperties
+    ) throws SQLException {
+        ApplicationProperties.Datasource.Replica replica = applicationProperties.getDatasource().getReplica();
+        // same pool settings as the primary, auto-commit included, on another database
+        HikariConfig config = new HikariConfig();
+        primaryDataSource.unwrap(HikariDataSource.class).copyStateTo(config);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+        config.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+        config.setPoolName(replica.getPoolName());
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public RecentWriters recentWriters(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Datasource.Replica replica = applicationProperties.getDatasource().getReplica();
+        return new RecentWriters(replica.getReadYourWrites(), replica.getMaxTrackedWriters(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReplicaReads replicaReads(RecentWriters recentWriters, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new ReplicaReads(recentWriters, entityManagerFactory);
+    }
+
+    @Bean
+    public CacheManager cacheManager(javax.cache.CacheManager jCacheCacheManager, ReplicaReads replicaReads, PrimaryReads primaryReads) {
+        return new ReplicaReadsCacheManager(jCacheCacheManager, replicaReads, primaryReads);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaReads replicaReads
+    ) throws SQLException {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReadYourWritesDataSource(replicaDataSource, primaryDataSource, replicaReads));
+        // given up front, so the proxy does not open a connection to find them out
+        dataSource.setDefaultAutoCommit(primaryDataSource.unwrap(HikariDataSource.class).isAutoCommit());
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+}
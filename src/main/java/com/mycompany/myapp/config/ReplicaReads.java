@@ -0,0 +1,116 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.security.SecurityUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decides, as a transaction begins, whether it reads from the replica, and keeps what it reads there out of the caches
+ * of this node: a row the replica has not caught up with yet would be served from them until the next invalidation.
+ * <p>
+ * The decision is bound to the transaction, so {@link ReadYourWritesDataSource} takes the connection from the pool
+ * decided here. The Hibernate session of a replica-routed transaction reads the second level cache without putting into
+ * it, and {@link ReplicaReadsCacheManager} keeps its Spring cache puts out.
+ */
+class ReplicaReads implements TransactionExecutionListener {
+
+    private final RecentWriters recentWriters;
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    ReplicaReads(RecentWriters recentWriters, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.recentWriters = recentWriters;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Routing routing = new Routing(transaction.isReadOnly() && !isRecentWriter(), currentSession());
+        TransactionSynchronizationManager.bindResource(this, routing);
+        TransactionSynchronizationManager.registerSynchronization(routing);
+        if (routing.replica && routing.session != null) {
+            routing.session.setCacheMode(CacheMode.GET);
+        }
+    }
+
+    /**
+     * @return whether the read-only connections of the current transaction come from the replica; outside of a
+     * transaction, whether they would.
+     */
+    boolean readsReplica() {
+        Routing routing = (Routing) TransactionSynchronizationManager.getResource(this);
+        return routing != null ? routing.replica : !isRecentWriter();
+    }
+
+    /**
+     * @return whether the current transaction reads from the replica, so what it reads must not be cached.
+     */
+    boolean isActive() {
+        Routing routing = (Routing) TransactionSynchronizationManager.getResource(this);
+        return routing != null && routing.replica;
+    }
+
+    private boolean isRecentWriter() {
+        return SecurityUtils.getCurrentUserLogin().filter(recentWriters::isRecentWriter).isPresent();
+    }
+
+    @Nullable
+    private Session currentSession() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return null;
+        }
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(factory);
+        return holder != null ? holder.getEntityManager().unwrap(Session.class) : null;
+    }
+
+    /**
+     * The decision for a transaction, bound to it as a resource.
+     */
+    private final class Routing implements TransactionSynchronization {
+
+        private final boolean replica;
+
+        @Nullable
+        private final Session session;
+
+        @Nullable
+        private final CacheMode cacheMode;
+
+        private Routing(boolean replica, @Nullable Session session) {
+            this.replica = replica;
+            this.session = session;
+            this.cacheMode = session != null ? session.getCacheMode() : null;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ReplicaReads.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ReplicaReads.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaReads.this);
+            // the session outlives the transaction when it was opened before it
+            if (replica && session != null && session.isOpen()) {
+                session.setCacheMode(cacheMode);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.service.cache.PrimaryReads;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.jcache.JCacheCache;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link JCacheCacheManager} keeping the rows read from the replica out of the Spring caches: within a replica-routed
+ * transaction, puts are dropped and the loads of {@link Cache#get(Object, Callable)} run on the primary, through
+ * {@link PrimaryReads}. Its caches are still {@link JCacheCache}s, so Spring Boot binds their metrics.
+ */
+class ReplicaReadsCacheManager extends JCacheCacheManager {
+
+    private final ReplicaReads replicaReads;
+
+    private final PrimaryReads primaryReads;
+
+    ReplicaReadsCacheManager(javax.cache.CacheManager cacheManager, ReplicaReads replicaReads, PrimaryReads primaryReads) {
+        super(cacheManager);
+        this.replicaReads = replicaReads;
+        this.primaryReads = primaryReads;
+    }
+
+    @Override
+    protected Collection<Cache> loadCaches() {
+        javax.cache.CacheManager cacheManager = getCacheManager();
+        Collection<Cache> caches = new LinkedHashSet<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            caches.add(new ReplicaReadsCache(cacheManager.getCache(cacheName), isAllowNullValues()));
+        }
+        return caches;
+    }
+
+    @Override
+    @Nullable
+    protected Cache getMissingCache(String name) {
+        javax.cache.Cache<Object, Object> jCache = getCacheManager().getCache(name);
+        return jCache != null ? new ReplicaReadsCache(jCache, isAllowNullValues()) : null;
+    }
+
+    private final class ReplicaReadsCache extends JCacheCache {
+
+        private ReplicaReadsCache(javax.cache.Cache<Object, Object> jCache, boolean allowNullValues) {
+            super(jCache, allowNullValues);
+        }
+
+        @Override
+        @Nullable
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            if (!replicaReads.isActive()) {
+                return super.get(key, valueLoader);
+            }
+            return super.get(key, () ->
+                primaryReads.load(() -> {
+                    try {
+                        return valueLoader.call();
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new ValueRetrievalException(key, valueLoader, e);
+                    }
+                })
+            );
+        }
+
+        @Override
+        public void put(Object key, @Nullable Object value) {
+            if (!replicaReads.isActive()) {
+                super.put(key, value);
+            }
+        }
+
+        @Override
+        @Nullable
+        public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+            return replicaReads.isActive() ? get(key) : super.putIfAbsent(key, value);
+        }
+    }
+}
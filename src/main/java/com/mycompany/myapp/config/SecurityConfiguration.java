@@ -2,11 +2,16 @@ package com.mycompany.myapp.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.security.*;
 import com.mycompany.myapp.web.filter.SpaWebFilter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
@@ -32,9 +37,25 @@ public class SecurityConfiguration {
         this.jHipsterProperties = jHipsterProperties;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * BCrypt, run on its own CPU-sized executor so that a burst of logins cannot take every web thread.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(ApplicationProperties applicationProperties, SecurityMetersService metersService) {
+        ApplicationProperties.Security.PasswordHashing passwordHashing = applicationProperties.getSecurity().getPasswordHashing();
+        int threads = passwordHashing.getThreads() > 0 ? passwordHashing.getThreads() : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(passwordHashing.getQueueCapacity()),
+            threadFactory
+        );
+        metersService.monitorPasswordHashQueue(executor);
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), executor, metersService);
     }
 
     @Bean
@@ -65,6 +86,7 @@ public class SecurityConfiguration {
                     .requestMatchers(mvc.pattern("/swagger-ui/**")).permitAll()
                     .requestMatchers(mvc.pattern(HttpMethod.POST, "/api/authenticate")).permitAll()
                     .requestMatchers(mvc.pattern(HttpMethod.GET, "/api/authenticate")).permitAll()
+                    .requestMatchers(mvc.pattern(HttpMethod.POST, "/api/authenticate/refresh")).permitAll()
                     .requestMatchers(mvc.pattern("/api/register")).permitAll()
                     .requestMatchers(mvc.pattern("/api/activate")).permitAll()
                     .requestMatchers(mvc.pattern("/api/account/reset-password/init")).permitAll()
@@ -3,8 +3,11 @@ package com.mycompany.myapp.config;
 import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.CachingJwtDecoder;
+import com.mycompany.myapp.security.Hs512JwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
+import java.time.Clock;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -26,8 +29,23 @@ public class SecurityJwtConfiguration {
     private String jwtKey;
 
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
-        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
+    public JwtDecoder jwtDecoder(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
+        NimbusJwtDecoder nimbusDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
+        JwtDecoder verifyingDecoder = applicationProperties.getSecurity().isFastJwtDecoder()
+            ? new Hs512JwtDecoder(getSecretKey(), nimbusDecoder, Clock.systemUTC())
+            : nimbusDecoder;
+        JwtDecoder classifyingDecoder = classifyingDecoder(verifyingDecoder, metersService);
+        int tokenCacheSize = applicationProperties.getSecurity().getTokenCacheSize();
+        if (tokenCacheSize <= 0) {
+            return classifyingDecoder;
+        }
+        return new CachingJwtDecoder(classifyingDecoder, tokenCacheSize, metersService, Clock.systemUTC());
+    }
+
+    /**
+     * Count the tokens rejected by a decoder, by cause.
+     */
+    private static JwtDecoder classifyingDecoder(JwtDecoder jwtDecoder, SecurityMetersService metersService) {
         return token -> {
             try {
                 return jwtDecoder.decode(token);
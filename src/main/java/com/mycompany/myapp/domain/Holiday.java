@@ -0,0 +1,119 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * A public holiday of a holiday calendar. Holidays are not counted as working days of a vacation request.
+ */
+@Entity
+@Table(name = "holiday")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class Holiday implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Size(max = 50)
+    @Column(name = "calendar", length = 50, nullable = false)
+    private String calendar;
+
+    @NotNull
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate date;
+
+    @NotNull
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public Holiday id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCalendar() {
+        return this.calendar;
+    }
+
+    public Holiday calendar(String calendar) {
+        this.setCalendar(calendar);
+        return this;
+    }
+
+    public void setCalendar(String calendar) {
+        this.calendar = calendar;
+    }
+
+    public LocalDate getDate() {
+        return this.date;
+    }
+
+    public Holiday date(LocalDate date) {
+        this.setDate(date);
+        return this;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Holiday name(String name) {
+        this.setName(name);
+        return this;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Holiday)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((Holiday) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "Holiday{" +
+            "id=" + getId() +
+            ", calendar='" + getCalendar() + "'" +
+            ", date='" + getDate() + "'" +
+            ", name='" + getName() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,152 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A refresh token, exchanged for a new access token and a new refresh token without the user's password.
+ * <p>
+ * Only the HMAC of the token is stored. A token can be used once: the token it is exchanged for keeps its expiry, so a
+ * session ends at the same time however often it is refreshed.
+ */
+@Entity
+@Table(name = "refresh_token")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class RefreshToken implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Size(max = 64)
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @NotNull
+    private User user;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public RefreshToken id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTokenHash() {
+        return this.tokenHash;
+    }
+
+    public RefreshToken tokenHash(String tokenHash) {
+        this.setTokenHash(tokenHash);
+        return this;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public Instant getCreatedAt() {
+        return this.createdAt;
+    }
+
+    public RefreshToken createdAt(Instant createdAt) {
+        this.setCreatedAt(createdAt);
+        return this;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    public RefreshToken expiresAt(Instant expiresAt) {
+        this.setExpiresAt(expiresAt);
+        return this;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getUsedAt() {
+        return this.usedAt;
+    }
+
+    public RefreshToken usedAt(Instant usedAt) {
+        this.setUsedAt(usedAt);
+        return this;
+    }
+
+    public void setUsedAt(Instant usedAt) {
+        this.usedAt = usedAt;
+    }
+
+    public User getUser() {
+        return this.user;
+    }
+
+    public RefreshToken user(User user) {
+        this.setUser(user);
+        return this;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RefreshToken)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((RefreshToken) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RefreshToken{" +
+            "id=" + getId() +
+            ", createdAt='" + getCreatedAt() + "'" +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            ", usedAt='" + getUsedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,155 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * Vacation ledger of one employee for one calendar year.
+ * <p>
+ * Rows are maintained incrementally by the request workflow, so reading a balance never aggregates the
+ * request history.
+ */
+@Entity
+@Table(name = "vacation_balance")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class VacationBalance implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "balance_year", nullable = false)
+    private Integer year;
+
+    @NotNull
+    @Column(name = "entitled_days", nullable = false)
+    private Integer entitledDays;
+
+    @NotNull
+    @Column(name = "used_days", nullable = false)
+    private Integer usedDays;
+
+    @NotNull
+    @Column(name = "pending_days", nullable = false)
+    private Integer pendingDays;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @NotNull
+    private Employee employee;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public VacationBalance id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getYear() {
+        return this.year;
+    }
+
+    public VacationBalance year(Integer year) {
+        this.setYear(year);
+        return this;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public Integer getEntitledDays() {
+        return this.entitledDays;
+    }
+
+    public VacationBalance entitledDays(Integer entitledDays) {
+        this.setEntitledDays(entitledDays);
+        return this;
+    }
+
+    public void setEntitledDays(Integer entitledDays) {
+        this.entitledDays = entitledDays;
+    }
+
+    public Integer getUsedDays() {
+        return this.usedDays;
+    }
+
+    public VacationBalance usedDays(Integer usedDays) {
+        this.setUsedDays(usedDays);
+        return this;
+    }
+
+    public void setUsedDays(Integer usedDays) {
+        this.usedDays = usedDays;
+    }
+
+    public Integer getPendingDays() {
+        return this.pendingDays;
+    }
+
+    public VacationBalance pendingDays(Integer pendingDays) {
+        this.setPendingDays(pendingDays);
+        return this;
+    }
+
+    public void setPendingDays(Integer pendingDays) {
+        this.pendingDays = pendingDays;
+    }
+
+    public Employee getEmployee() {
+        return this.employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+
+    public VacationBalance employee(Employee employee) {
+        this.setEmployee(employee);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VacationBalance)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((VacationBalance) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "VacationBalance{" +
+            "id=" + getId() +
+            ", year=" + getYear() +
+            ", entitledDays=" + getEntitledDays() +
+            ", usedDays=" + getUsedDays() +
+            ", pendingDays=" + getPendingDays() +
+            "}";
+    }
+}
@@ -12,15 +12,37 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * A VacationRequest.
+ * <p>
+ * Every association is lazy; repositories pick the fetch plan of their use case with one of the named entity graphs
+ * below, so a page of requests is read with a fixed number of statements.
  */
 @Entity
 @Table(name = "vacation_request")
+@NamedEntityGraph(
+    name = VacationRequest.LIST_GRAPH,
+    attributeNodes = { @NamedAttributeNode("employee"), @NamedAttributeNode("approver") }
+)
+@NamedEntityGraph(
+    name = VacationRequest.DETAIL_GRAPH,
+    attributeNodes = { @NamedAttributeNode(value = "employee", subgraph = "employee"), @NamedAttributeNode("approver") },
+    subgraphs = @NamedSubgraph(name = "employee", attributeNodes = @NamedAttributeNode("user"))
+)
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class VacationRequest implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Lists: the employee and the approver.
+     */
+    public static final String LIST_GRAPH = "VacationRequest.list";
+
+    /**
+     * A single request and the HR review queue: the employee with its user, and the approver.
+     */
+    public static final String DETAIL_GRAPH = "VacationRequest.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
     @SequenceGenerator(name = "sequenceGenerator")
@@ -64,7 +86,7 @@ public class VacationRequest implements Serializable {
     @Column(name = "decided_at")
     private Instant decidedAt;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @NotNull
     @JsonIgnoreProperties(value = { "user" }, allowSetters = true)
     private Employee employee;
@@ -72,6 +94,13 @@ public class VacationRequest implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private User approver;
 
+    /**
+     * Optimistic lock: concurrent writers of the same request conflict instead of overwriting each other.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -243,6 +272,19 @@ public class VacationRequest implements Serializable {
         return this;
     }
 
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public VacationRequest version(Long version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -277,6 +319,7 @@ public class VacationRequest implements Serializable {
             ", approvedDays=" + getApprovedDays() +
             ", createdAt='" + getCreatedAt() + "'" +
             ", decidedAt='" + getDecidedAt() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
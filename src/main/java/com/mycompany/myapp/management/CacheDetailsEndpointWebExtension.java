@@ -0,0 +1,174 @@
+package com.mycompany.myapp.management;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.cache.management.CacheStatisticsMXBean;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePool;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.core.spi.service.StatisticsService;
+import org.ehcache.core.statistics.TierStatistics;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.cache.CachesEndpoint;
+import org.springframework.boot.actuate.cache.CachesEndpointWebExtension;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.EndpointWebExtension;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the resolved configuration of every Ehcache cache - its tiers and expiry - and its statistics - occupancy, hit
+ * ratio and evictions - to {@code GET /management/caches}.
+ * <p>
+ * The configuration is read from the running caches, so it shows what {@code application.cache.regions} resulted in,
+ * defaults included. JCache cannot tell the size of a cache, so the occupancy is the mapping count of its authoritative
+ * tier, read from the Ehcache tier statistics without touching the entries; it is left out when the cache manager does
+ * not hand out its statistics service. Replaces the web extension of Spring Boot,
+ * whose operations are inherited.
+ */
+@Component
+@EndpointWebExtension(endpoint = CachesEndpoint.class)
+public class CacheDetailsEndpointWebExtension extends CachesEndpointWebExtension {
+
+    private static final Object SAMPLE = new Object();
+
+    private final CachesEndpoint delegate;
+
+    private final javax.cache.CacheManager jCacheManager;
+
+    private final StatisticsService ehcacheStatistics;
+
+    public CacheDetailsEndpointWebExtension(
+        CachesEndpoint delegate,
+        javax.cache.CacheManager jCacheManager,
+        ObjectProvider<StatisticsService> ehcacheStatistics
+    ) {
+        super(delegate);
+        this.delegate = delegate;
+        this.jCacheManager = jCacheManager;
+        this.ehcacheStatistics = ehcacheStatistics.getIfAvailable();
+    }
+
+    @ReadOperation
+    public CacheManagersDescriptor caches() {
+        Map<String, CacheManagerDescriptor> cacheManagers = new LinkedHashMap<>();
+        delegate
+            .caches()
+            .getCacheManagers()
+            .forEach((cacheManagerName, cacheManager) -> {
+                Map<String, CacheDescriptor> caches = new LinkedHashMap<>();
+                cacheManager.getCaches().forEach((cacheName, cache) -> caches.put(cacheName, describe(cacheName, cache.getTarget())));
+                cacheManagers.put(cacheManagerName, new CacheManagerDescriptor(caches));
+            });
+        return new CacheManagersDescriptor(cacheManagers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheDescriptor describe(String cacheName, String target) {
+        javax.cache.Cache<Object, Object> jCache = jCacheManager.getCache(cacheName);
+        if (jCache == null) {
+            return new CacheDescriptor(target, List.of(), null, null, null);
+        }
+        CacheRuntimeConfiguration<Object, Object> configuration = jCache.unwrap(org.ehcache.Cache.class).getRuntimeConfiguration();
+
+        List<TierDescriptor> tiers = new ArrayList<>();
+        ResourcePools pools = configuration.getResourcePools();
+        for (ResourceType.Core type : ResourceType.Core.values()) {
+            ResourcePool pool = pools.getPoolForResource(type);
+            if (pool instanceof SizedResourcePool sized) {
+                tiers.add(new TierDescriptor(type.name().toLowerCase(), sized.getSize(), sized.getUnit().toString(), sized.isPersistent()));
+            }
+        }
+
+        // the built-in policies do not look at the entry: a time to live is set on creation, a time to idle on access too
+        ExpiryPolicy<Object, Object> expiry = (ExpiryPolicy<Object, Object>) configuration.getExpiryPolicy();
+        Duration onCreation = expiry.getExpiryForCreation(SAMPLE, SAMPLE);
+        Duration onAccess = expiry.getExpiryForAccess(SAMPLE, () -> SAMPLE);
+        return new CacheDescriptor(
+            target,
+            tiers,
+            onAccess == null ? format(onCreation) : null,
+            onAccess != null ? format(onAccess) : null,
+            statistics(cacheName)
+        );
+    }
+
+    private StatisticsDescriptor statistics(String cacheName) {
+        CacheStatisticsMXBean statistics = CacheMetersBinder.statisticsOf(jCacheManager, cacheName);
+        if (statistics == null) {
+            return null;
+        }
+        long gets = statistics.getCacheGets();
+        long hits = statistics.getCacheHits();
+        long misses = statistics.getCacheMisses();
+        long evictions = statistics.getCacheEvictions();
+        float averageGetTime = statistics.getAverageGetTime();
+        Long entries = occupancy(cacheName);
+        return new StatisticsDescriptor(entries, gets, hits, misses, gets == 0 ? null : (double) hits / gets, evictions, averageGetTime);
+    }
+
+    /**
+     * The entries held: every tier holds a subset of the one below it, so the largest mapping count is the authoritative one.
+     */
+    private Long occupancy(String cacheName) {
+        if (ehcacheStatistics == null) {
+            return null;
+        }
+        return ehcacheStatistics
+            .getCacheStatistics(cacheName)
+            .getTierStatistics()
+            .values()
+            .stream()
+            .mapToLong(TierStatistics::getMappings)
+            .max()
+            .orElse(0);
+    }
+
+    private static String format(Duration duration) {
+        return duration == null || ExpiryPolicy.INFINITE.equals(duration) ? null : duration.toString();
+    }
+
+    public record CacheManagersDescriptor(Map<String, CacheManagerDescriptor> cacheManagers) {}
+
+    public record CacheManagerDescriptor(Map<String, CacheDescriptor> caches) {}
+
+    /**
+     * @param timeToLive the time to live, as an ISO-8601 duration.
+     * @param timeToIdle the time to idle, as an ISO-8601 duration.
+     * @param statistics the statistics, {@code null} if not enabled.
+     */
+    public record CacheDescriptor(
+        String target,
+        List<TierDescriptor> tiers,
+        String timeToLive,
+        String timeToIdle,
+        StatisticsDescriptor statistics
+    ) {}
+
+    /**
+     * @param type {@code heap}, {@code offheap} or {@code disk}.
+     */
+    public record TierDescriptor(String type, long size, String unit, boolean persistent) {}
+
+    /**
+     * Counters since the cache was created.
+     *
+     * @param entries the entries held, all tiers together; {@code null} if unknown.
+     * @param hitRatio hits over gets, {@code null} before the first get.
+     * @param averageGetTime the average time of a get, in microseconds.
+     */
+    public record StatisticsDescriptor(
+        Long entries,
+        long gets,
+        long hits,
+        long misses,
+        Double hitRatio,
+        long evictions,
+        float averageGetTime
+    ) {}
+}
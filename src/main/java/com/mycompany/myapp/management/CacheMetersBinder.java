@@ -0,0 +1,72 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.management.ManagementFactory;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters of the JCache regions not covered by the cache metrics of Spring Boot.
+ * <p>
+ * Spring Boot already binds {@code cache.gets} (hits and misses), {@code cache.puts}, {@code cache.evictions} and
+ * {@code cache.removals} for every region, tagged by cache name, from the JCache statistics that
+ * {@code CacheConfiguration} enables. This adds the average duration of a get, which JCache also keeps.
+ */
+@Component
+public class CacheMetersBinder implements MeterBinder {
+
+    public static final String GET_LATENCY_METER_NAME = "cache.gets.latency";
+    public static final String GET_LATENCY_METER_DESCRIPTION = "Indicates the average time of a get, since the cache was created.";
+
+    private final javax.cache.CacheManager cacheManager;
+
+    public CacheMetersBinder(javax.cache.CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            CacheStatisticsMXBean statistics = statisticsOf(cacheManager, cacheName);
+            if (statistics == null) {
+                continue;
+            }
+            // JCache reports microseconds
+            Gauge.builder(GET_LATENCY_METER_NAME, statistics, stats -> stats.getAverageGetTime() / 1_000_000)
+                .description(GET_LATENCY_METER_DESCRIPTION)
+                .baseUnit("seconds")
+                .tag("cache", cacheName)
+                .register(registry);
+        }
+    }
+
+    /**
+     * The statistics of a cache, read through the MBean JCache registers when statistics are enabled.
+     *
+     * @return the statistics, or {@code null} if they are not enabled for the cache.
+     */
+    static CacheStatisticsMXBean statisticsOf(javax.cache.CacheManager cacheManager, String cacheName) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(
+                "javax.cache:type=CacheStatistics,CacheManager=" +
+                sanitize(cacheManager.getURI().toString()) +
+                ",Cache=" +
+                sanitize(cacheName)
+            );
+            return server.isRegistered(name) ? JMX.newMXBeanProxy(server, name, CacheStatisticsMXBean.class) : null;
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid cache name " + cacheName, e);
+        }
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[,:=\n]", ".");
+    }
+}
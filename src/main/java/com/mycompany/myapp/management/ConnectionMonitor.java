@@ -0,0 +1,286 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Follows the connections taken from the pools wrapped in a {@link MonitoredDataSource}.
+ * <p>
+ * Each connection records how long the application waited for it and how long it was held, in timers tagged by pool
+ * and by the transaction it served: the {@code @Transactional} method that started it, as {@code Class.method}, or
+ * {@code none}. Connections held longer than {@code application.datasource.leak-detection-threshold} are logged once,
+ * with the stack of the code that took them, captured at checkout while the threshold is set.
+ */
+@Component
+public class ConnectionMonitor {
+
+    public static final String ACQUIRE_METER_NAME = "jdbc.connections.acquire";
+    public static final String ACQUIRE_METER_DESCRIPTION = "Indicates the time spent waiting for a connection from the pool.";
+    public static final String HOLD_METER_NAME = "jdbc.connections.hold";
+    public static final String HOLD_METER_DESCRIPTION = "Indicates the time a connection is held before being returned to the pool.";
+    public static final String LEAKS_METER_NAME = "jdbc.connections.leaks";
+    public static final String LEAKS_METER_DESCRIPTION = "Indicates the connections held longer than the leak detection threshold.";
+    public static final String POOL_DIMENSION = "pool";
+    public static final String METHOD_DIMENSION = "method";
+
+    static final String NO_TRANSACTION = "none";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionMonitor.class);
+
+    private final MeterRegistry registry;
+
+    private final Duration leakDetectionThreshold;
+
+    private final AtomicLong leaseIds = new AtomicLong();
+
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, Timer[]> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, MonitoredDataSource> pools = new ConcurrentHashMap<>();
+
+    public ConnectionMonitor(MeterRegistry registry, ApplicationProperties applicationProperties) {
+        this.registry = registry;
+        this.leakDetectionThreshold = applicationProperties.getDatasource().getLeakDetectionThreshold();
+    }
+
+    void register(MonitoredDataSource dataSource) {
+        pools.put(dataSource.getPoolName(), dataSource);
+    }
+
+    Collection<MonitoredDataSource> getPools() {
+        return pools.values();
+    }
+
+    Collection<Lease> getLeases() {
+        return leases.values();
+    }
+
+    Duration getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * @return the acquire and hold timers of a pool, by method.
+     */
+    Map<String, Timer[]> getTimers(String pool) {
+        Map<String, Timer[]> byMethod = new TreeMap<>();
+        timers.forEach((key, meters) -> {
+            if (key.pool().equals(pool)) {
+                byMethod.put(key.method(), meters);
+            }
+        });
+        return byMethod;
+    }
+
+    /**
+     * Follow a connection just taken from a pool.
+     *
+     * @param pool the name of the pool.
+     * @param connection the connection.
+     * @param acquireNanos the time spent waiting for it.
+     * @return the connection to hand to the application.
+     */
+    Connection monitor(String pool, Connection connection, long acquireNanos) {
+        Throwable callSite = isLeakDetectionEnabled() ? new Throwable("Connection taken from " + pool) : null;
+        Lease lease = new Lease(leaseIds.incrementAndGet(), pool, acquireNanos, callSite);
+        lease.method = currentTransaction();
+        leases.put(lease.id, lease);
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionMonitor.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new MonitoredConnection(connection, lease)
+        );
+    }
+
+    private void release(Lease lease) {
+        long holdNanos = System.nanoTime() - lease.acquiredNanos;
+        leases.remove(lease.id);
+        String method = lease.method != null ? lease.method : NO_TRANSACTION;
+        Timer[] meters = timers.computeIfAbsent(new MeterKey(lease.pool, method), this::registerTimers);
+        meters[0].record(lease.acquireNanos, TimeUnit.NANOSECONDS);
+        meters[1].record(holdNanos, TimeUnit.NANOSECONDS);
+        if (lease.leaked) {
+            LOG.info("Connection of {} reported as leaked returned after {} ms", lease.pool, TimeUnit.NANOSECONDS.toMillis(holdNanos));
+        }
+    }
+
+    private Timer[] registerTimers(MeterKey key) {
+        return new Timer[] {
+            Timer.builder(ACQUIRE_METER_NAME)
+                .description(ACQUIRE_METER_DESCRIPTION)
+                .tag(POOL_DIMENSION, key.pool())
+                .tag(METHOD_DIMENSION, key.method())
+                .register(registry),
+            Timer.builder(HOLD_METER_NAME)
+                .description(HOLD_METER_DESCRIPTION)
+                .tag(POOL_DIMENSION, key.pool())
+                .tag(METHOD_DIMENSION, key.method())
+                .register(registry),
+        };
+    }
+
+    /**
+     * Log the connections held longer than the leak detection threshold, once each.
+     */
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void detectLeaks() {
+        if (!isLeakDetectionEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long thresholdNanos = leakDetectionThreshold.toNanos();
+        for (Lease lease : leases.values()) {
+            if (!lease.leaked && now - lease.acquiredNanos > thresholdNanos) {
+                lease.leaked = true;
+                Counter.builder(LEAKS_METER_NAME)
+                    .description(LEAKS_METER_DESCRIPTION)
+                    .tag(POOL_DIMENSION, lease.pool)
+                    .register(registry)
+                    .increment();
+                LOG.warn(
+                    "Connection of {} held for more than {} by {} on thread {}, taken at",
+                    lease.pool,
+                    leakDetectionThreshold,
+                    lease.method != null ? lease.method : NO_TRANSACTION,
+                    lease.thread,
+                    lease.callSite
+                );
+            }
+        }
+    }
+
+    private boolean isLeakDetectionEnabled() {
+        return !(leakDetectionThreshold.isNegative() || leakDetectionThreshold.isZero());
+    }
+
+    /**
+     * The {@code @Transactional} method whose transaction is running, as {@code Class.method}.
+     */
+    static String currentTransaction() {
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (name == null) {
+            return null;
+        }
+        int methodStart = name.lastIndexOf('.');
+        int classStart = methodStart > 0 ? name.lastIndexOf('.', methodStart - 1) : -1;
+        return name.substring(classStart + 1);
+    }
+
+    private record MeterKey(String pool, String method) {}
+
+    /**
+     * A connection taken from a pool and not returned yet.
+     */
+    static final class Lease {
+
+        final long id;
+
+        final String pool;
+
+        final long acquireNanos;
+
+        final long acquiredNanos = System.nanoTime();
+
+        final Instant acquiredAt = Instant.now();
+
+        final String thread = Thread.currentThread().getName();
+
+        final Throwable callSite;
+
+        /**
+         * Read-only transactions take their connection before they are named, so it may be known at the first statement
+         * only.
+         */
+        volatile String method;
+
+        volatile boolean leaked;
+
+        private Lease(long id, String pool, long acquireNanos, Throwable callSite) {
+            this.id = id;
+            this.pool = pool;
+            this.acquireNanos = acquireNanos;
+            this.callSite = callSite;
+        }
+    }
+
+    private final class MonitoredConnection implements InvocationHandler {
+
+        private final Connection target;
+
+        private final Lease lease;
+
+        private boolean closed;
+
+        private MonitoredConnection(Connection target, Lease lease) {
+            this.target = target;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Monitored connection of " + lease.pool + " [" + target + "]";
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "createStatement", "prepareStatement", "prepareCall":
+                    if (lease.method == null) {
+                        lease.method = currentTransaction();
+                    }
+                    break;
+                case "close":
+                    if (closed) {
+                        return null;
+                    }
+                    closed = true;
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        release(lease);
+                    }
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
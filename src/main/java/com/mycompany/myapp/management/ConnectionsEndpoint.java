@@ -0,0 +1,147 @@
+package com.mycompany.myapp.management;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /management/connections}: the state of each connection pool, the time spent waiting for and holding
+ * connections by {@code @Transactional} method, and the connections held right now, longest first.
+ * <p>
+ * Times are in milliseconds. Counts, means and totals cover the life of the application while maximums cover the last
+ * minutes; the {@code jdbc.connections.*} and {@code hikaricp.connections.*} meters give their distribution over time.
+ */
+@Component
+@Endpoint(id = "connections")
+public class ConnectionsEndpoint {
+
+    private final ConnectionMonitor monitor;
+
+    public ConnectionsEndpoint(ConnectionMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public ConnectionsDescriptor connections() {
+        Map<String, PoolDescriptor> pools = new LinkedHashMap<>();
+        for (MonitoredDataSource dataSource : monitor.getPools()) {
+            pools.put(dataSource.getPoolName(), describe(dataSource));
+        }
+        long now = System.nanoTime();
+        List<LeaseDescriptor> held = monitor
+            .getLeases()
+            .stream()
+            .sorted(Comparator.comparingLong(lease -> lease.acquiredNanos))
+            .map(lease -> describe(lease, now))
+            .toList();
+        return new ConnectionsDescriptor(monitor.getLeakDetectionThreshold().toMillis(), pools, held);
+    }
+
+    private PoolDescriptor describe(MonitoredDataSource dataSource) {
+        Integer active = null;
+        Integer idle = null;
+        Integer total = null;
+        Integer pending = null;
+        Integer maximum = null;
+        HikariDataSource hikari = dataSource.getHikariDataSource();
+        if (hikari != null) {
+            maximum = hikari.getMaximumPoolSize();
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            // null until the pool has started
+            if (pool != null) {
+                active = pool.getActiveConnections();
+                idle = pool.getIdleConnections();
+                total = pool.getTotalConnections();
+                pending = pool.getThreadsAwaitingConnection();
+            }
+        }
+        Map<String, MethodDescriptor> methods = new LinkedHashMap<>();
+        monitor
+            .getTimers(dataSource.getPoolName())
+            .forEach((method, timers) ->
+                methods.put(method, new MethodDescriptor(timers[0].count(), describe(timers[0]), describe(timers[1])))
+            );
+        return new PoolDescriptor(active, idle, total, maximum, pending, methods);
+    }
+
+    private static TimeDescriptor describe(Timer timer) {
+        return new TimeDescriptor(
+            timer.mean(TimeUnit.MILLISECONDS),
+            timer.max(TimeUnit.MILLISECONDS),
+            timer.totalTime(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    private LeaseDescriptor describe(ConnectionMonitor.Lease lease, long now) {
+        List<String> callSite = lease.callSite != null
+            ? Arrays.stream(lease.callSite.getStackTrace()).map(StackTraceElement::toString).toList()
+            : null;
+        return new LeaseDescriptor(
+            lease.pool,
+            lease.method != null ? lease.method : ConnectionMonitor.NO_TRANSACTION,
+            lease.thread,
+            lease.acquiredAt,
+            TimeUnit.NANOSECONDS.toMillis(now - lease.acquiredNanos),
+            lease.leaked,
+            callSite
+        );
+    }
+
+    /**
+     * @param leakDetectionThreshold the time after which a held connection is reported as leaked, 0 when disabled.
+     * @param pools the pools, by name.
+     * @param held the connections taken and not returned yet, longest held first.
+     */
+    public record ConnectionsDescriptor(long leakDetectionThreshold, Map<String, PoolDescriptor> pools, List<LeaseDescriptor> held) {}
+
+    /**
+     * @param active the connections in use, {@code null} until the pool has started.
+     * @param idle the connections waiting in the pool.
+     * @param total the connections open.
+     * @param maximum the size of the pool.
+     * @param pending the threads waiting for a connection.
+     * @param methods the use of the pool, by {@code @Transactional} method.
+     */
+    public record PoolDescriptor(
+        Integer active,
+        Integer idle,
+        Integer total,
+        Integer maximum,
+        Integer pending,
+        Map<String, MethodDescriptor> methods
+    ) {}
+
+    /**
+     * @param connections the connections taken and returned.
+     * @param acquire the time spent waiting for them.
+     * @param hold the time they were held.
+     */
+    public record MethodDescriptor(long connections, TimeDescriptor acquire, TimeDescriptor hold) {}
+
+    public record TimeDescriptor(double mean, double max, double total) {}
+
+    /**
+     * @param heldFor the time since the connection was taken, in milliseconds.
+     * @param leaked whether it has been held longer than the leak detection threshold.
+     * @param callSite the stack of the code that took it, when leak detection is enabled.
+     */
+    public record LeaseDescriptor(
+        String pool,
+        String method,
+        String thread,
+        Instant acquiredAt,
+        long heldFor,
+        boolean leaked,
+        List<String> callSite
+    ) {}
+}
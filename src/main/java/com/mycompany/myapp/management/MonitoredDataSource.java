@@ -0,0 +1,59 @@
+package com.mycompany.myapp.management;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A connection pool whose connections are followed by the {@link ConnectionMonitor}.
+ */
+public class MonitoredDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final String poolName;
+
+    private final ConnectionMonitor monitor;
+
+    public MonitoredDataSource(DataSource targetDataSource, String poolName, ConnectionMonitor monitor) {
+        super(targetDataSource);
+        this.poolName = poolName;
+        this.monitor = monitor;
+        monitor.register(this);
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        return monitor.monitor(poolName, connection, System.nanoTime() - start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        return monitor.monitor(poolName, connection, System.nanoTime() - start);
+    }
+
+    /**
+     * The Hikari pool behind this data source, if any.
+     */
+    HikariDataSource getHikariDataSource() {
+        return getTargetDataSource() instanceof HikariDataSource hikari ? hikari : null;
+    }
+
+    /**
+     * Close the pool, as the container would have if it were not wrapped.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+}
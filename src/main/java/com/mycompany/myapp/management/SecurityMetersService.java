@@ -1,7 +1,11 @@
 package com.mycompany.myapp.management;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +17,58 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_DESCRIPTION = "Indicates lookups of decoded tokens in the token cache.";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+    public static final String TOKEN_CACHE_EVICTIONS_METER_NAME = "security.authentication.token-cache.evictions";
+    public static final String TOKEN_CACHE_EVICTIONS_METER_DESCRIPTION = "Indicates decoded tokens removed from the token cache.";
+
+    public static final String PASSWORD_HASH_METER_NAME = "security.authentication.password-hash";
+    public static final String PASSWORD_HASH_METER_DESCRIPTION = "Indicates the time spent hashing passwords.";
+    public static final String PASSWORD_HASH_METER_OPERATION_DIMENSION = "operation";
+    public static final String PASSWORD_HASH_QUEUE_METER_NAME = "security.authentication.password-hash.queue";
+    public static final String PASSWORD_HASH_QUEUE_METER_DESCRIPTION = "Indicates the passwords waiting to be hashed.";
+    public static final String PASSWORD_HASH_REJECTED_METER_NAME = "security.authentication.password-hash.rejected";
+    public static final String PASSWORD_HASH_REJECTED_METER_DESCRIPTION =
+        "Indicates the passwords not hashed because the password hashing executor was saturated.";
+
+    public static final String LOGIN_THROTTLED_METER_NAME = "security.authentication.login-throttled";
+    public static final String LOGIN_THROTTLED_METER_DESCRIPTION = "Indicates login attempts refused before authentication.";
+    public static final String LOGIN_THROTTLED_METER_KEY_DIMENSION = "key";
+
+    private final MeterRegistry registry;
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+    private final Counter tokenCacheEvictionCounter;
+    private final Counter passwordHashRejectedCounter;
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordMatchTimer;
+    private final Counter loginThrottledByLoginCounter;
+    private final Counter loginThrottledByAddressCounter;
 
     public SecurityMetersService(MeterRegistry registry) {
+        this.registry = registry;
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+        this.tokenCacheEvictionCounter = Counter.builder(TOKEN_CACHE_EVICTIONS_METER_NAME)
+            .description(TOKEN_CACHE_EVICTIONS_METER_DESCRIPTION)
+            .register(registry);
+        this.passwordHashRejectedCounter = Counter.builder(PASSWORD_HASH_REJECTED_METER_NAME)
+            .description(PASSWORD_HASH_REJECTED_METER_DESCRIPTION)
+            .register(registry);
+        this.passwordEncodeTimer = passwordHashTimerForOperationBuilder("encode").register(registry);
+        this.passwordMatchTimer = passwordHashTimerForOperationBuilder("matches").register(registry);
+        this.loginThrottledByLoginCounter = loginThrottledCounterForKeyBuilder("login").register(registry);
+        this.loginThrottledByAddressCounter = loginThrottledCounterForKeyBuilder("address").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +78,24 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter.builder(TOKEN_CACHE_METER_NAME)
+            .description(TOKEN_CACHE_METER_DESCRIPTION)
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Timer.Builder passwordHashTimerForOperationBuilder(String operation) {
+        return Timer.builder(PASSWORD_HASH_METER_NAME)
+            .description(PASSWORD_HASH_METER_DESCRIPTION)
+            .tag(PASSWORD_HASH_METER_OPERATION_DIMENSION, operation);
+    }
+
+    private Counter.Builder loginThrottledCounterForKeyBuilder(String key) {
+        return Counter.builder(LOGIN_THROTTLED_METER_NAME)
+            .description(LOGIN_THROTTLED_METER_DESCRIPTION)
+            .tag(LOGIN_THROTTLED_METER_KEY_DIMENSION, key);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +111,42 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss() {
+        this.tokenCacheMissCounter.increment();
+    }
+
+    public void trackTokenCacheEvictions(int count) {
+        this.tokenCacheEvictionCounter.increment(count);
+    }
+
+    public <T> T recordPasswordEncode(Callable<T> hashing) throws Exception {
+        return this.passwordEncodeTimer.recordCallable(hashing);
+    }
+
+    public <T> T recordPasswordMatch(Callable<T> hashing) throws Exception {
+        return this.passwordMatchTimer.recordCallable(hashing);
+    }
+
+    public void trackPasswordHashRejected() {
+        this.passwordHashRejectedCounter.increment();
+    }
+
+    public void monitorPasswordHashQueue(ThreadPoolExecutor executor) {
+        Gauge.builder(PASSWORD_HASH_QUEUE_METER_NAME, executor, e -> e.getQueue().size())
+            .description(PASSWORD_HASH_QUEUE_METER_DESCRIPTION)
+            .register(registry);
+    }
+
+    public void trackLoginThrottledByLogin() {
+        this.loginThrottledByLoginCounter.increment();
+    }
+
+    public void trackLoginThrottledByAddress() {
+        this.loginThrottledByAddressCounter.increment();
+    }
 }
@@ -14,6 +14,14 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    /**
+     * Matches the employees whose first name, last name or login starts with {@code :prefix}, which ends with {@code %}
+     * and has its own wildcards escaped with {@code \}.
+     */
+    String SEARCH_BY_PREFIX =
+        "lower(employee.firstName) like :prefix escape '\\' or lower(employee.lastName) like :prefix escape '\\'" +
+        " or lower(employeeUser.login) like :prefix escape '\\'";
+
     default Optional<Employee> findOneWithEagerRelationships(Long id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -26,6 +34,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(Employee.USER_GRAPH)
+    Page<Employee> findAll(Pageable pageable);
+
     @Query(
         value = "select employee from Employee employee left join fetch employee.user",
         countQuery = "select count(employee) from Employee employee"
@@ -35,6 +47,15 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query("select employee from Employee employee left join fetch employee.user")
     List<Employee> findAllWithToOneRelationships();
 
+    @Query(
+        value = "select employee from Employee employee left join fetch employee.user employeeUser where " + SEARCH_BY_PREFIX,
+        countQuery = "select count(employee) from Employee employee left join employee.user employeeUser where " + SEARCH_BY_PREFIX
+    )
+    Page<Employee> searchWithToOneRelationships(@Param("prefix") String prefix, Pageable pageable);
+
     @Query("select employee from Employee employee left join fetch employee.user where employee.id =:id")
     Optional<Employee> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @Query("select employee.id from Employee employee where employee.user.login = :login")
+    Optional<Long> findIdByUserLogin(@Param("login") String login);
 }
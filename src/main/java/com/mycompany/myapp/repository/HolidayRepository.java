@@ -0,0 +1,22 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Holiday;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link Holiday} entity.
+ */
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+    @Query(
+        "select holiday.date from Holiday holiday" +
+        " where holiday.calendar = :calendar and holiday.date between :from and :to"
+    )
+    List<LocalDate> findDates(@Param("calendar") String calendar, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    boolean existsByCalendar(String calendar);
+}
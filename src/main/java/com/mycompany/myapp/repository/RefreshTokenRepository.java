@@ -0,0 +1,38 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.RefreshToken;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the RefreshToken entity.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    /**
+     * Find a token by its hash, with the user and the authorities needed to issue the next access token, in one
+     * indexed query.
+     */
+    @EntityGraph(attributePaths = { "user", "user.authorities" })
+    Optional<RefreshToken> findOneWithUserByTokenHash(String tokenHash);
+
+    /**
+     * Mark a token as used, unless it already is: two requests racing with the same token cannot both get a new one.
+     *
+     * @return 1 if the token was marked, 0 if it had already been used.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update RefreshToken token set token.usedAt = :usedAt where token.id = :id and token.usedAt is null")
+    int markUsed(@Param("id") Long id, @Param("usedAt") Instant usedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from RefreshToken token where token.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken token where token.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,49 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.VacationBalance;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the {@link VacationBalance} entity.
+ * <p>
+ * Counters are only ever changed with single conditional {@code UPDATE} statements, so concurrent
+ * workflows never read-modify-write a stale balance.
+ */
+@Repository
+public interface VacationBalanceRepository extends JpaRepository<VacationBalance, Long> {
+    @Query("select balance from VacationBalance balance where balance.employee.id = :employeeId and balance.year = :year")
+    Optional<VacationBalance> findOneByEmployeeIdAndYear(@Param("employeeId") Long employeeId, @Param("year") int year);
+
+    @Modifying
+    @Query(
+        value = "insert into vacation_balance (id, employee_id, balance_year, entitled_days, used_days, pending_days)" +
+        " values (nextval('sequence_generator'), :employeeId, :year, :entitledDays, 0, 0)" +
+        " on conflict (employee_id, balance_year) do nothing",
+        nativeQuery = true
+    )
+    int insertIfAbsent(@Param("employeeId") Long employeeId, @Param("year") int year, @Param("entitledDays") int entitledDays);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update VacationBalance balance set balance.pendingDays = balance.pendingDays + :days" +
+        " where balance.employee.id = :employeeId and balance.year = :year" +
+        " and balance.entitledDays - balance.usedDays - balance.pendingDays >= :days"
+    )
+    int reservePending(@Param("employeeId") Long employeeId, @Param("year") int year, @Param("days") int days);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update VacationBalance balance" +
+        " set balance.pendingDays = balance.pendingDays + :pendingDelta, balance.usedDays = balance.usedDays + :usedDelta" +
+        " where balance.employee.id = :employeeId and balance.year = :year"
+    )
+    int adjust(
+        @Param("employeeId") Long employeeId,
+        @Param("year") int year,
+        @Param("pendingDelta") int pendingDelta,
+        @Param("usedDelta") int usedDelta
+    );
+}
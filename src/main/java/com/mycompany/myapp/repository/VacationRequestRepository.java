@@ -2,8 +2,18 @@ package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.VacationRequest;
 import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.projection.AbsenceSpan;
+import com.mycompany.myapp.repository.projection.StatusCount;
+import com.mycompany.myapp.repository.projection.VacationRequestExportRow;
+import com.mycompany.myapp.repository.projection.VacationRequestSummary;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -15,6 +25,16 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface VacationRequestRepository extends JpaRepository<VacationRequest, Long> {
+    /**
+     * Select clause of the {@link VacationRequestSummary} queries: the columns of the list screens, in one statement.
+     */
+    String SUMMARY_SELECT =
+        "select new com.mycompany.myapp.repository.projection.VacationRequestSummary(" +
+        " vacationRequest.id, vacationRequest.startDate, vacationRequest.endDate, vacationRequest.requestedDays, vacationRequest.status," +
+        " vacationRequest.approvedStartDate, vacationRequest.approvedEndDate, vacationRequest.approvedDays, vacationRequest.createdAt," +
+        " vacationRequest.decidedAt, employee.id, employee.firstName, employee.lastName, approver.login, vacationRequest.version)" +
+        " from VacationRequest vacationRequest join vacationRequest.employee employee left join vacationRequest.approver approver";
+
     @Query("select vacationRequest from VacationRequest vacationRequest where vacationRequest.approver.login = ?#{authentication.name}")
     List<VacationRequest> findByApproverIsCurrentUser();
 
@@ -30,21 +50,170 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
         return this.findAllWithToOneRelationships(pageable);
     }
 
+    @Override
+    @EntityGraph(VacationRequest.LIST_GRAPH)
+    Page<VacationRequest> findAll(Pageable pageable);
+
+    @EntityGraph(VacationRequest.LIST_GRAPH)
     @Query(
-        value = "select vacationRequest from VacationRequest vacationRequest left join fetch vacationRequest.approver",
+        value = "select vacationRequest from VacationRequest vacationRequest",
         countQuery = "select count(vacationRequest) from VacationRequest vacationRequest"
     )
     Page<VacationRequest> findAllWithToOneRelationships(Pageable pageable);
 
-    @Query("select vacationRequest from VacationRequest vacationRequest left join fetch vacationRequest.approver")
+    @EntityGraph(VacationRequest.LIST_GRAPH)
+    @Query("select vacationRequest from VacationRequest vacationRequest")
     List<VacationRequest> findAllWithToOneRelationships();
 
+    @EntityGraph(VacationRequest.DETAIL_GRAPH)
+    @Query("select vacationRequest from VacationRequest vacationRequest where vacationRequest.id =:id")
+    Optional<VacationRequest> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @EntityGraph(VacationRequest.LIST_GRAPH)
     @Query(
-        "select vacationRequest from VacationRequest vacationRequest left join fetch vacationRequest.approver where vacationRequest.id =:id"
+        "select vacationRequest from VacationRequest vacationRequest" +
+        " where vacationRequest.employee.id = :employeeId" +
+        " order by vacationRequest.createdAt desc, vacationRequest.id desc"
     )
-    Optional<VacationRequest> findOneWithToOneRelationships(@Param("id") Long id);
+    List<VacationRequest> findFirstByEmployee(@Param("employeeId") Long employeeId, Pageable pageable);
+
+    @EntityGraph(VacationRequest.LIST_GRAPH)
+    @Query(
+        "select vacationRequest from VacationRequest vacationRequest" +
+        " where vacationRequest.employee.id = :employeeId" +
+        " and (vacationRequest.createdAt < :createdAt or (vacationRequest.createdAt = :createdAt and vacationRequest.id < :id))" +
+        " order by vacationRequest.createdAt desc, vacationRequest.id desc"
+    )
+    List<VacationRequest> findNextByEmployee(
+        @Param("employeeId") Long employeeId,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @EntityGraph(VacationRequest.DETAIL_GRAPH)
+    @Query(
+        "select vacationRequest from VacationRequest vacationRequest" +
+        " where vacationRequest.status = :status" +
+        " order by vacationRequest.createdAt asc, vacationRequest.id asc"
+    )
+    List<VacationRequest> findFirstForReview(@Param("status") VacationStatus status, Pageable pageable);
+
+    @EntityGraph(VacationRequest.DETAIL_GRAPH)
+    @Query(
+        "select vacationRequest from VacationRequest vacationRequest" +
+        " where vacationRequest.status = :status" +
+        " and (vacationRequest.createdAt > :createdAt or (vacationRequest.createdAt = :createdAt and vacationRequest.id > :id))" +
+        " order by vacationRequest.createdAt asc, vacationRequest.id asc"
+    )
+    List<VacationRequest> findNextForReview(
+        @Param("status") VacationStatus status,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query(
+        value = SUMMARY_SELECT,
+        countQuery = "select count(vacationRequest) from VacationRequest vacationRequest"
+    )
+    Page<VacationRequestSummary> findAllSummaries(Pageable pageable);
+
+    @Query(
+        SUMMARY_SELECT +
+        " where employee.id = :employeeId" +
+        " order by vacationRequest.createdAt desc, vacationRequest.id desc"
+    )
+    List<VacationRequestSummary> findFirstSummariesByEmployee(@Param("employeeId") Long employeeId, Pageable pageable);
 
-    Page<VacationRequest> findByEmployeeUserLogin(String login, Pageable pageable);
+    @Query(
+        SUMMARY_SELECT +
+        " where employee.id = :employeeId" +
+        " and (vacationRequest.createdAt < :createdAt or (vacationRequest.createdAt = :createdAt and vacationRequest.id < :id))" +
+        " order by vacationRequest.createdAt desc, vacationRequest.id desc"
+    )
+    List<VacationRequestSummary> findNextSummariesByEmployee(
+        @Param("employeeId") Long employeeId,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query(
+        SUMMARY_SELECT +
+        " where vacationRequest.status = :status" +
+        " order by vacationRequest.createdAt asc, vacationRequest.id asc"
+    )
+    List<VacationRequestSummary> findFirstSummariesForReview(@Param("status") VacationStatus status, Pageable pageable);
 
-    Page<VacationRequest> findByStatus(VacationStatus status, Pageable pageable);
+    @Query(
+        SUMMARY_SELECT +
+        " where vacationRequest.status = :status" +
+        " and (vacationRequest.createdAt > :createdAt or (vacationRequest.createdAt = :createdAt and vacationRequest.id > :id))" +
+        " order by vacationRequest.createdAt asc, vacationRequest.id asc"
+    )
+    List<VacationRequestSummary> findNextSummariesForReview(
+        @Param("status") VacationStatus status,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query("select vacationRequest from VacationRequest vacationRequest join fetch vacationRequest.employee where vacationRequest.id in :ids")
+    List<VacationRequest> findAllForDecisionByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(
+        "select vacationRequest from VacationRequest vacationRequest join fetch vacationRequest.employee employee" +
+        " where vacationRequest.status = :status" +
+        " and (:employeeId is null or employee.id = :employeeId)" +
+        " and (:from is null or vacationRequest.startDate >= :from)" +
+        " and (:to is null or vacationRequest.endDate <= :to)" +
+        " order by vacationRequest.createdAt asc, vacationRequest.id asc"
+    )
+    List<VacationRequest> findAllForDecision(
+        @Param("status") VacationStatus status,
+        @Param("employeeId") Long employeeId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        Pageable pageable
+    );
+
+    /**
+     * Stream every vacationRequest as an export row, in id order. Rows are fetched from the database in chunks of
+     * {@code fetch_size} and are not managed entities, so the stream can be consumed in constant memory; it must be
+     * consumed inside a transaction and closed.
+     */
+    @QueryHints(
+        { @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") }
+    )
+    @Query(
+        "select new com.mycompany.myapp.repository.projection.VacationRequestExportRow(" +
+        " vacationRequest.id, vacationRequest.startDate, vacationRequest.endDate, vacationRequest.requestedDays, vacationRequest.status," +
+        " vacationRequest.approverComment, vacationRequest.approvedStartDate, vacationRequest.approvedEndDate, vacationRequest.approvedDays," +
+        " vacationRequest.createdAt, vacationRequest.decidedAt, vacationRequest.employee.id)" +
+        " from VacationRequest vacationRequest order by vacationRequest.id"
+    )
+    Stream<VacationRequestExportRow> streamAllForExport();
+
+    @Query(
+        "select new com.mycompany.myapp.repository.projection.AbsenceSpan(vacationRequest.employee.id," +
+        " coalesce(vacationRequest.approvedStartDate, vacationRequest.startDate), coalesce(vacationRequest.approvedEndDate, vacationRequest.endDate))" +
+        " from VacationRequest vacationRequest" +
+        " where vacationRequest.status in :statuses" +
+        " and coalesce(vacationRequest.approvedStartDate, vacationRequest.startDate) <= :to" +
+        " and coalesce(vacationRequest.approvedEndDate, vacationRequest.endDate) >= :from"
+    )
+    List<AbsenceSpan> findAbsenceSpans(
+        @Param("statuses") Collection<VacationStatus> statuses,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    @Query(
+        "select new com.mycompany.myapp.repository.projection.StatusCount(vacationRequest.status," +
+        " extract(year from vacationRequest.startDate), count(vacationRequest))" +
+        " from VacationRequest vacationRequest" +
+        " group by vacationRequest.status, extract(year from vacationRequest.startDate)"
+    )
+    List<StatusCount> countByStatusAndYear();
 }
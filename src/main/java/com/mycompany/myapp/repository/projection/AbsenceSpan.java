@@ -0,0 +1,8 @@
+package com.mycompany.myapp.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Days an employee is away, both ends included, as approved on a {@link com.mycompany.myapp.domain.VacationRequest}.
+ */
+public record AbsenceSpan(Long employeeId, LocalDate startDate, LocalDate endDate) {}
@@ -0,0 +1,8 @@
+package com.mycompany.myapp.repository.projection;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+
+/**
+ * Number of {@link com.mycompany.myapp.domain.VacationRequest}s in a status, for the year their period starts in.
+ */
+public record StatusCount(VacationStatus status, Integer year, Long count) {}
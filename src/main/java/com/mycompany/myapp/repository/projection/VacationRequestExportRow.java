@@ -0,0 +1,24 @@
+package com.mycompany.myapp.repository.projection;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only view of a {@link com.mycompany.myapp.domain.VacationRequest} for exports, in the column order of
+ * {@code fake-data/vacation_request.csv}.
+ */
+public record VacationRequestExportRow(
+    Long id,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer requestedDays,
+    VacationStatus status,
+    String approverComment,
+    LocalDate approvedStartDate,
+    LocalDate approvedEndDate,
+    Integer approvedDays,
+    Instant createdAt,
+    Instant decidedAt,
+    Long employeeId
+) {}
@@ -0,0 +1,27 @@
+package com.mycompany.myapp.repository.projection;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only view of a {@link com.mycompany.myapp.domain.VacationRequest} for list screens, selected column by
+ * column so that no entity, persistence context snapshot or nested DTO is built per row.
+ */
+public record VacationRequestSummary(
+    Long id,
+    LocalDate startDate,
+    LocalDate endDate,
+    Integer requestedDays,
+    VacationStatus status,
+    LocalDate approvedStartDate,
+    LocalDate approvedEndDate,
+    Integer approvedDays,
+    Instant createdAt,
+    Instant decidedAt,
+    Long employeeId,
+    String employeeFirstName,
+    String employeeLastName,
+    String approverLogin,
+    Long version
+) {}
@@ -0,0 +1,115 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} keeping the tokens decoded by a delegate, so a token sent again is not parsed and verified again.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, so the tokens themselves are not kept in memory, and are
+ * dropped at the token's {@code exp}: from then on the token goes back to the delegate, which rejects it. Only tokens
+ * the delegate accepted are stored, so every invalid token is still rejected and classified by the delegate. When the
+ * cache is full, expired entries are swept and, if that is not enough, a tenth of the entries are dropped.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtDecoder delegate;
+
+    private final int maxEntries;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, SecurityMetersService metersService, Clock clock) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.metersService = metersService;
+        this.clock = clock;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(token);
+        }
+        ByteBuffer key = digest(token);
+        Instant now = clock.instant();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (now.isBefore(entry.expiresAt())) {
+                metersService.trackTokenCacheHit();
+                return entry.jwt();
+            }
+            if (entries.remove(key, entry)) {
+                metersService.trackTokenCacheEvictions(1);
+            }
+        }
+        metersService.trackTokenCacheMiss();
+        Jwt jwt = delegate.decode(token);
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt != null && now.isBefore(expiresAt)) {
+            if (entries.size() >= maxEntries) {
+                makeRoom(now);
+            }
+            entries.put(key, new Entry(jwt, expiresAt));
+        }
+        return jwt;
+    }
+
+    /**
+     * Number of decoded tokens currently kept.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void makeRoom(Instant now) {
+        int evicted = 0;
+        for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();) {
+            if (!now.isBefore(it.next().expiresAt())) {
+                it.remove();
+                evicted++;
+            }
+        }
+        if (entries.size() >= maxEntries) {
+            // tokens dropped before they expire are only decoded once more
+            int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+            for (Iterator<Entry> it = entries.values().iterator(); excess > 0 && it.hasNext(); excess--) {
+                it.next();
+                it.remove();
+                evicted++;
+            }
+        }
+        metersService.trackTokenCacheEvictions(evicted);
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private record Entry(Jwt jwt, Instant expiresAt) {}
+}
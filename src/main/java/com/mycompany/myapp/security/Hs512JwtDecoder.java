@@ -0,0 +1,358 @@
+package com.mycompany.myapp.security;
+
+import static com.mycompany.myapp.security.SecurityUtils.AUTHORITIES_CLAIM;
+import static com.mycompany.myapp.security.SecurityUtils.USER_ID_CLAIM;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} verifying the HS512 tokens issued by {@code AuthenticateController.createToken} without the
+ * general purpose JOSE machinery.
+ * <p>
+ * The header is compared with the one we issue instead of being parsed, the signature is computed with a {@link Mac}
+ * confined to the thread and the Base64URL segments are decoded into buffers of the thread, so a valid token allocates
+ * little more than its claims. The payload is read by a small parser that only knows the claims we issue ({@code sub},
+ * {@code exp}, {@code iat}, {@code auth} and {@code userId}) as flat strings and integers.
+ * <p>
+ * Anything else - another header, an unknown claim, an escaped string, a bad signature, an expired token - is handed to
+ * the fallback decoder, which accepts or rejects it exactly as before, with the same exceptions.
+ */
+public class Hs512JwtDecoder implements JwtDecoder {
+
+    /**
+     * Same leeway as the default timestamp validator of the fallback decoder.
+     */
+    private static final long CLOCK_SKEW_SECONDS = Duration.ofSeconds(60).toSeconds();
+
+    private static final String HEADER = Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(("{\"alg\":\"" + MacAlgorithm.HS512.getName() + "\"}").getBytes(StandardCharsets.US_ASCII));
+
+    private static final int SIGNATURE_LENGTH = 64;
+
+    private static final int ENCODED_SIGNATURE_LENGTH = (SIGNATURE_LENGTH * 4 + 2) / 3;
+
+    /**
+     * Longer tokens are not ours.
+     */
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final JwtDecoder fallback;
+
+    private final Clock clock;
+
+    private final ThreadLocal<Buffers> buffers;
+
+    public Hs512JwtDecoder(SecretKey secretKey, JwtDecoder fallback, Clock clock) {
+        this.fallback = fallback;
+        this.clock = clock;
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(secretKey));
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt jwt = token != null && token.length() <= MAX_TOKEN_LENGTH ? tryDecode(token) : null;
+        return jwt != null ? jwt : fallback.decode(token);
+    }
+
+    /**
+     * Decode one of our tokens.
+     *
+     * @return the token, or {@code null} when the fallback decoder has to decide.
+     */
+    private Jwt tryDecode(String token) {
+        int headerEnd = HEADER.length();
+        if (!token.startsWith(HEADER) || token.length() <= headerEnd || token.charAt(headerEnd) != '.') {
+            return null;
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.length() - payloadEnd - 1 != ENCODED_SIGNATURE_LENGTH) {
+            return null;
+        }
+        Buffers buf = buffers.get();
+        if (!verifySignature(token, payloadEnd, buf)) {
+            return null;
+        }
+        int payloadLength = decodeBase64Url(token, headerEnd + 1, payloadEnd, buf.payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        Claims claims = new ClaimsParser(buf.payload, payloadLength).parse();
+        if (claims == null || claims.subject == null || claims.expiresAt == Long.MIN_VALUE) {
+            return null;
+        }
+        if (clock.instant().getEpochSecond() - CLOCK_SKEW_SECONDS > claims.expiresAt) {
+            return null;
+        }
+        Jwt.Builder builder = Jwt.withTokenValue(token)
+            .header("alg", MacAlgorithm.HS512.getName())
+            .subject(claims.subject)
+            .expiresAt(Instant.ofEpochSecond(claims.expiresAt));
+        if (claims.issuedAt != Long.MIN_VALUE) {
+            builder.issuedAt(Instant.ofEpochSecond(claims.issuedAt));
+        }
+        if (claims.authorities != null) {
+            builder.claim(AUTHORITIES_CLAIM, claims.authorities);
+        }
+        if (claims.userId != Long.MIN_VALUE) {
+            builder.claim(USER_ID_CLAIM, claims.userId);
+        }
+        return builder.build();
+    }
+
+    private static boolean verifySignature(String token, int payloadEnd, Buffers buf) {
+        byte[] signingInput = buf.signingInput;
+        // the token is ASCII, so chars are bytes
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c > 127) {
+                return false;
+            }
+            signingInput[i] = (byte) c;
+        }
+        try {
+            buf.mac.update(signingInput, 0, payloadEnd);
+            buf.mac.doFinal(buf.expected, 0);
+        } catch (GeneralSecurityException e) {
+            buf.mac.reset();
+            return false;
+        }
+        return (
+            decodeBase64Url(token, payloadEnd + 1, token.length(), buf.signature) == SIGNATURE_LENGTH &&
+            MessageDigest.isEqual(buf.expected, buf.signature)
+        );
+    }
+
+    /**
+     * Decode unpadded Base64URL {@code token[from, to)} into {@code out}.
+     *
+     * @return the number of bytes written, or -1 if the segment is not valid Base64URL or does not fit.
+     */
+    static int decodeBase64Url(String token, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || (length / 4) * 3 + Math.max(0, length % 4 - 1) > out.length) {
+            return -1;
+        }
+        int written = 0;
+        int bits = 0;
+        int pending = 0;
+        for (int i = from; i < to; i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            pending += 6;
+            if (pending >= 8) {
+                pending -= 8;
+                out[written++] = (byte) (bits >> pending);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Reusable state of one thread.
+     */
+    private static final class Buffers {
+
+        private final Mac mac;
+
+        private final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+        private Buffers(SecretKey secretKey) {
+            try {
+                mac = Mac.getInstance("HmacSHA512");
+                mac.init(secretKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize HmacSHA512", e);
+            }
+        }
+    }
+
+    private static final class Claims {
+
+        private String subject;
+
+        private long expiresAt = Long.MIN_VALUE;
+
+        private long issuedAt = Long.MIN_VALUE;
+
+        private String authorities;
+
+        private long userId = Long.MIN_VALUE;
+    }
+
+    /**
+     * Parser of a flat JSON object whose members are known claims with string or integer values.
+     */
+    private static final class ClaimsParser {
+
+        private final byte[] json;
+
+        private final int length;
+
+        private int pos;
+
+        private ClaimsParser(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+        }
+
+        /**
+         * @return the claims, or {@code null} if the payload is not one we issue.
+         */
+        private Claims parse() {
+            Claims claims = new Claims();
+            if (!consume('{')) {
+                return null;
+            }
+            if (consume('}')) {
+                return end() ? claims : null;
+            }
+            do {
+                int nameStart = stringStart();
+                int nameEnd = pos - 1;
+                if (nameStart < 0 || !consume(':')) {
+                    return null;
+                }
+                if (!member(claims, nameStart, nameEnd)) {
+                    return null;
+                }
+            } while (consume(','));
+            return consume('}') && end() ? claims : null;
+        }
+
+        private boolean member(Claims claims, int nameStart, int nameEnd) {
+            skipWhitespace();
+            if (nameIs(nameStart, nameEnd, JwtClaimNames.SUB) && claims.subject == null) {
+                claims.subject = string();
+                return claims.subject != null;
+            } else if (nameIs(nameStart, nameEnd, AUTHORITIES_CLAIM) && claims.authorities == null) {
+                claims.authorities = string();
+                return claims.authorities != null;
+            } else if (nameIs(nameStart, nameEnd, JwtClaimNames.EXP) && claims.expiresAt == Long.MIN_VALUE) {
+                claims.expiresAt = number();
+                return claims.expiresAt != Long.MIN_VALUE;
+            } else if (nameIs(nameStart, nameEnd, JwtClaimNames.IAT) && claims.issuedAt == Long.MIN_VALUE) {
+                claims.issuedAt = number();
+                return claims.issuedAt != Long.MIN_VALUE;
+            } else if (nameIs(nameStart, nameEnd, USER_ID_CLAIM) && claims.userId == Long.MIN_VALUE) {
+                claims.userId = number();
+                return claims.userId != Long.MIN_VALUE;
+            }
+            // an unknown or repeated claim
+            return false;
+        }
+
+        /**
+         * Read the opening quote of a string without escapes.
+         *
+         * @return the index of its first character, with {@code pos} after the closing quote, or -1.
+         */
+        private int stringStart() {
+            if (!consume('"')) {
+                return -1;
+            }
+            int start = pos;
+            while (pos < length) {
+                byte b = json[pos++];
+                if (b == '"') {
+                    return start;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private String string() {
+            int start = stringStart();
+            return start < 0 ? null : new String(json, start, pos - 1 - start, StandardCharsets.UTF_8);
+        }
+
+        private long number() {
+            boolean negative = pos < length && json[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+            int start = pos;
+            long value = 0;
+            while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+                if (pos - start == 18) {
+                    return Long.MIN_VALUE;
+                }
+                value = value * 10 + (json[pos++] - '0');
+            }
+            boolean fraction = pos < length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E');
+            if (pos == start || fraction) {
+                return Long.MIN_VALUE;
+            }
+            return negative ? -value : value;
+        }
+
+        private boolean nameIs(int start, int end, String name) {
+            if (end - start != name.length()) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (json[start + i] != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (pos < length && json[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean end() {
+            skipWhitespace();
+            return pos == length;
+        }
+
+        private void skipWhitespace() {
+            while (pos < length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory throttle of the login attempts, by login and by client address.
+ * <p>
+ * Each key has a token bucket kept as a single {@link AtomicLong}: the time at which the bucket will be full again
+ * (the "theoretical arrival time" of the generic cell rate algorithm). An attempt moves it forward by one emission
+ * interval with a compare-and-set, and is refused when that would take it more than one period ahead of now. Buckets
+ * are spread over stripes, each bounded: a bucket back to full holds no information and is dropped by the periodic
+ * sweep, or as soon as its stripe is full.
+ * <p>
+ * The client address is the peer address of the connection. The {@code X-Forwarded-For} header is only read when the
+ * peer is one of {@code application.security.login-throttle.trusted-proxies}: the client is then the last address of
+ * the header not added by a trusted proxy, every line of the header taken together, so a client cannot choose its own
+ * address by sending the header. Behind a proxy that is not listed every client shares the proxy's address, and the
+ * throttle by address should be turned off with {@code application.security.login-throttle.attempts-per-address: 0}.
+ * The servlet container must not rewrite the peer address from the header itself ({@code server.forward-headers-strategy:
+ * none}): Undertow would trust it from any peer.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private static final int STRIPES = 16;
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final Limiter logins;
+
+    private final Limiter addresses;
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    @Autowired
+    public LoginThrottle(ApplicationProperties applicationProperties, SecurityMetersService metersService) {
+        this(applicationProperties.getSecurity().getLoginThrottle(), metersService, Clock.systemUTC());
+    }
+
+    LoginThrottle(ApplicationProperties.Security.LoginThrottle properties, SecurityMetersService metersService, Clock clock) {
+        long periodMillis = properties.getPeriod().toMillis();
+        int maxEntriesPerStripe = Math.max(1, properties.getMaxEntries() / STRIPES);
+        this.logins = new Limiter(properties.getAttemptsPerLogin(), periodMillis, maxEntriesPerStripe);
+        this.addresses = properties.getAttemptsPerAddress() > 0
+            ? new Limiter(properties.getAttemptsPerAddress(), periodMillis, maxEntriesPerStripe)
+            : null;
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+        this.metersService = metersService;
+        this.clock = clock;
+    }
+
+    /**
+     * Count a login attempt, before any user lookup or password hashing.
+     *
+     * @param login the login sent by the client.
+     * @param remoteAddress the address of the client.
+     * @throws LoginThrottledException if the login or the address made too many attempts.
+     */
+    public void acquire(String login, String remoteAddress) {
+        long now = clock.millis();
+        long waitMillis = addresses != null ? addresses.tryAcquire(remoteAddress, now) : 0;
+        if (waitMillis > 0) {
+            LOG.debug("Login attempt refused for address {}", remoteAddress);
+            metersService.trackLoginThrottledByAddress();
+            throw new LoginThrottledException(toRetryAfterSeconds(waitMillis));
+        }
+        waitMillis = logins.tryAcquire(login.toLowerCase(Locale.ENGLISH), now);
+        if (waitMillis > 0) {
+            LOG.debug("Login attempt refused for login {}", login);
+            metersService.trackLoginThrottledByLogin();
+            throw new LoginThrottledException(toRetryAfterSeconds(waitMillis));
+        }
+    }
+
+    /**
+     * The address of the client of a request, to count its attempts.
+     *
+     * @param request the request.
+     * @return the peer address, or the client address forwarded by the trusted proxies.
+     */
+    public String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!isTrustedProxy(address)) {
+            return address;
+        }
+        List<String> forwarded = new ArrayList<>();
+        Enumeration<String> lines = request.getHeaders(FORWARDED_FOR_HEADER);
+        while (lines != null && lines.hasMoreElements()) {
+            for (String hop : lines.nextElement().split(",")) {
+                if (!hop.isBlank()) {
+                    forwarded.add(hop.trim());
+                }
+            }
+        }
+        // each proxy appends the address it received the request from: read from the right, up to the first untrusted one
+        for (int i = forwarded.size() - 1; i >= 0 && isTrustedProxy(address); i--) {
+            address = forwarded.get(i);
+        }
+        return address;
+    }
+
+    /**
+     * Drop the buckets that are full again.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void evictIdle() {
+        long now = clock.millis();
+        logins.evictIdle(now);
+        if (addresses != null) {
+            addresses.evictIdle(now);
+        }
+    }
+
+    /**
+     * Number of buckets currently kept.
+     *
+     * @return the number of buckets, logins and addresses.
+     */
+    public int size() {
+        return logins.size() + (addresses != null ? addresses.size() : 0);
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // not an IP address
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static long toRetryAfterSeconds(long waitMillis) {
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    /**
+     * Token buckets of one kind of key.
+     */
+    private static final class Limiter {
+
+        private final long emissionIntervalMillis;
+
+        private final long toleranceMillis;
+
+        private final int maxEntriesPerStripe;
+
+        @SuppressWarnings("unchecked")
+        private final Map<String, AtomicLong>[] stripes = new Map[STRIPES];
+
+        private Limiter(int attempts, long periodMillis, int maxEntriesPerStripe) {
+            this.emissionIntervalMillis = Math.max(1, periodMillis / Math.max(1, attempts));
+            this.toleranceMillis = emissionIntervalMillis * Math.max(1, attempts);
+            this.maxEntriesPerStripe = maxEntriesPerStripe;
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new ConcurrentHashMap<>();
+            }
+        }
+
+        /**
+         * @return 0 if the attempt is allowed, otherwise the milliseconds until it would be.
+         */
+        private long tryAcquire(String key, long now) {
+            Map<String, AtomicLong> stripe = stripes[(key.hashCode() ^ (key.hashCode() >>> 16)) & (STRIPES - 1)];
+            AtomicLong fullAt = stripe.get(key);
+            if (fullAt == null) {
+                if (stripe.size() >= maxEntriesPerStripe) {
+                    makeRoom(stripe, now);
+                }
+                fullAt = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+            }
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + emissionIntervalMillis;
+                if (next - now > toleranceMillis) {
+                    return next - now - toleranceMillis;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        private void evictIdle(long now) {
+            for (Map<String, AtomicLong> stripe : stripes) {
+                stripe.values().removeIf(fullAt -> fullAt.get() <= now);
+            }
+        }
+
+        private void makeRoom(Map<String, AtomicLong> stripe, long now) {
+            stripe.values().removeIf(fullAt -> fullAt.get() <= now);
+            if (stripe.size() >= maxEntriesPerStripe) {
+                // still full of throttled keys: forget some of them rather than refusing keys never seen
+                int excess = stripe.size() - maxEntriesPerStripe + Math.max(1, maxEntriesPerStripe / 10);
+                Iterator<AtomicLong> it = stripe.values().iterator();
+                while (excess-- > 0 && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+
+        private int size() {
+            int size = 0;
+            for (Map<String, AtomicLong> stripe : stripes) {
+                size += stripe.size();
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} hashing passwords on a dedicated executor instead of the request thread.
+ * <p>
+ * The executor is sized to the CPUs and has a bounded queue, so hashing cannot take more CPU than it is given, and a
+ * request arriving when the queue is full fails at once with {@link PasswordHashingBusyException} (a {@code 503})
+ * instead of waiting: a login storm then only holds a bounded number of web threads, and the rest of the API keeps
+ * being served.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    private final ExecutorService executor;
+
+    private final SecurityMetersService metersService;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, ExecutorService executor, SecurityMetersService metersService) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.metersService = metersService;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> metersService.recordPasswordEncode(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> metersService.recordPasswordMatch(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stop the executor once the hashing in progress is done.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T offload(Callable<T> hashing) {
+        Future<T> result;
+        try {
+            result = executor.submit(hashing);
+        } catch (RejectedExecutionException e) {
+            metersService.trackPasswordHashRejected();
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.mycompany.myapp.security;
+
+/**
+ * Thrown when a password cannot be hashed because the password hashing executor is saturated.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException() {
+        super("Too many password checks in progress, retry later");
+    }
+}
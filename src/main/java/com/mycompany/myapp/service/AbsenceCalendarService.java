@@ -0,0 +1,329 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.AbsenceSpan;
+import com.mycompany.myapp.service.cache.CacheInvalidation;
+import com.mycompany.myapp.service.cache.CacheInvalidationBus;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
+import com.mycompany.myapp.service.cache.PrimaryReads;
+import com.mycompany.myapp.service.dto.AbsenceCalendarDTO;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service answering "who is away on which day" from an in-memory absence index.
+ * <p>
+ * The index holds one bitmap per employee and calendar year, one bit per day of the year (6 longs), set when the
+ * employee is away on an approved request. A year is loaded from the database on first use with a single query and
+ * then kept up to date: approvals set bits once their transaction commits, while other changes to requests drop the
+ * years they touch so they are loaded again. The other nodes are told through the cache invalidation bus, as the
+ * {@value #ABSENCE_INDEX_REGION} region, and drop the years they hold. Years are loaded from the primary database, as
+ * a replica may not have caught up with the requests the index is then kept up to date from.
+ * <p>
+ * Only the {@value #MAX_LOADED_YEARS} years used last are kept, as any year can be asked for.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AbsenceCalendarService {
+
+    public static final String ABSENCE_INDEX_REGION = "absenceIndexByYear";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbsenceCalendarService.class);
+
+    private static final List<VacationStatus> ABSENT_STATUSES = List.of(VacationStatus.APPROVED, VacationStatus.APPROVED_WITH_CHANGES);
+
+    private static final int WORDS_PER_YEAR = (366 + 63) / 64;
+
+    static final int MAX_LOADED_YEARS = 8;
+
+    private final VacationRequestRepository vacationRequestRepository;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    private final PrimaryReads primaryReads;
+
+    /**
+     * The years in use, least recently used first. Guarded by itself; a year is loaded outside of its lock.
+     */
+    private final Map<Integer, LoadedYear> years = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, LoadedYear> eldest) {
+            return size() > MAX_LOADED_YEARS;
+        }
+    };
+
+    public AbsenceCalendarService(
+        VacationRequestRepository vacationRequestRepository,
+        CacheInvalidationService cacheInvalidationService,
+        PrimaryReads primaryReads,
+        CacheInvalidationBus cacheInvalidationBus
+    ) {
+        this.vacationRequestRepository = vacationRequestRepository;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.primaryReads = primaryReads;
+        cacheInvalidationBus.subscribe(this::apply);
+    }
+
+    /**
+     * Count the employees away on each day of a period.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param employeeIds the employees to consider, or {@code null} for everybody.
+     * @return the daily counts.
+     */
+    public AbsenceCalendarDTO countAbsent(LocalDate from, LocalDate to, Collection<Long> employeeIds) {
+        LOG.debug("Request to count absences from {} to {}", from, to);
+        int[] absent = new int[(int) ChronoUnit.DAYS.between(from, to) + 1];
+        int offset = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            YearIndex index = yearIndex(year);
+            int firstDay = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int lastDay = year == to.getYear() ? to.getDayOfYear() - 1 : index.length() - 1;
+            if (employeeIds == null) {
+                for (long[] bitmap : index.bitmaps().values()) {
+                    accumulate(bitmap, firstDay, lastDay, absent, offset);
+                }
+            } else {
+                for (Long employeeId : employeeIds) {
+                    long[] bitmap = index.bitmaps().get(employeeId);
+                    if (bitmap != null) {
+                        accumulate(bitmap, firstDay, lastDay, absent, offset);
+                    }
+                }
+            }
+            offset += lastDay - firstDay + 1;
+        }
+        return new AbsenceCalendarDTO(from, to, absent);
+    }
+
+    /**
+     * Get the employees away on a day.
+     *
+     * @param day the day.
+     * @return the ids of the employees.
+     */
+    public List<Long> findAbsentEmployeeIds(LocalDate day) {
+        LOG.debug("Request to get absent employees on {}", day);
+        int dayOfYear = day.getDayOfYear() - 1;
+        long mask = 1L << dayOfYear;
+        List<Long> employeeIds = new ArrayList<>();
+        yearIndex(day.getYear())
+            .bitmaps()
+            .forEach((employeeId, bitmap) -> {
+                if ((bitmap[dayOfYear >>> 6] & mask) != 0) {
+                    employeeIds.add(employeeId);
+                }
+            });
+        return employeeIds;
+    }
+
+    /**
+     * Mark an employee away from {@code start} to {@code end} once the current transaction commits.
+     *
+     * @param employeeId the id of the employee.
+     * @param start the first day away.
+     * @param end the last day away, included.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markAbsentAfterCommit(Long employeeId, LocalDate start, LocalDate end) {
+        broadcastYears(start, end);
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markAbsent(employeeId, start, end);
+                }
+            }
+        );
+    }
+
+    /**
+     * Drop the index of the years from {@code start} to {@code end} once the current transaction completes.
+     *
+     * @param start a day of the first year.
+     * @param end a day of the last year.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invalidateAfterCompletion(LocalDate start, LocalDate end) {
+        broadcastYears(start, end);
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (years) {
+                        for (int year = start.getYear(); year <= end.getYear(); year++) {
+                            years.remove(year);
+                        }
+                    }
+                }
+            }
+        );
+    }
+
+    /**
+     * Drop the whole index once the current transaction completes.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invalidateAllAfterCompletion() {
+        cacheInvalidationService.broadcast(CacheInvalidation.clear(ABSENCE_INDEX_REGION));
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (years) {
+                        years.clear();
+                    }
+                }
+            }
+        );
+    }
+
+    private void broadcastYears(LocalDate start, LocalDate end) {
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            cacheInvalidationService.broadcast(CacheInvalidation.evict(ABSENCE_INDEX_REGION, (long) year));
+        }
+    }
+
+    /**
+     * Drop the years changed on another node.
+     */
+    void apply(List<CacheInvalidation> invalidations) {
+        synchronized (years) {
+            for (CacheInvalidation invalidation : invalidations) {
+                if (invalidation.type() == CacheInvalidation.Type.ALL) {
+                    years.clear();
+                } else if (ABSENCE_INDEX_REGION.equals(invalidation.region())) {
+                    if (invalidation.type() == CacheInvalidation.Type.EVICT && invalidation.key() instanceof Long year) {
+                        years.remove(year.intValue());
+                    } else {
+                        years.clear();
+                    }
+                }
+            }
+        }
+    }
+
+    private void markAbsent(Long employeeId, LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return;
+        }
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            int firstDay = year == start.getYear() ? start.getDayOfYear() - 1 : 0;
+            int lastDay = year == end.getYear() ? end.getDayOfYear() - 1 : LocalDate.of(year, 12, 31).getDayOfYear() - 1;
+            LoadedYear loadedYear;
+            synchronized (years) {
+                loadedYear = years.get(year);
+            }
+            // years not loaded yet will read the committed request when they are
+            if (loadedYear != null) {
+                loadedYear.set(employeeId, firstDay, lastDay);
+            }
+        }
+    }
+
+    private YearIndex yearIndex(int year) {
+        LoadedYear loadedYear;
+        synchronized (years) {
+            loadedYear = years.computeIfAbsent(year, LoadedYear::new);
+        }
+        return loadedYear.index();
+    }
+
+    private YearIndex load(int year) {
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        LocalDate last = LocalDate.of(year, 12, 31);
+        YearIndex index = new YearIndex(last.getDayOfYear(), new ConcurrentHashMap<>());
+        List<AbsenceSpan> spans = primaryReads.load(() -> vacationRequestRepository.findAbsenceSpans(ABSENT_STATUSES, first, last));
+        for (AbsenceSpan span : spans) {
+            if (span.endDate().isBefore(span.startDate())) {
+                continue;
+            }
+            int firstDay = span.startDate().isBefore(first) ? 0 : span.startDate().getDayOfYear() - 1;
+            int lastDay = span.endDate().isAfter(last) ? index.length() - 1 : span.endDate().getDayOfYear() - 1;
+            index.set(span.employeeId(), firstDay, lastDay);
+        }
+        LOG.debug("Loaded absence index of {}: {} spans, {} employees", year, spans.size(), index.bitmaps().size());
+        return index;
+    }
+
+    /**
+     * Add 1 to {@code absent[offset + day - firstDay]} for every day of {@code [firstDay, lastDay]} set in the bitmap.
+     */
+    private static void accumulate(long[] bitmap, int firstDay, int lastDay, int[] absent, int offset) {
+        int firstWord = firstDay >>> 6;
+        int lastWord = lastDay >>> 6;
+        for (int word = firstWord; word <= lastWord; word++) {
+            long bits = bitmap[word];
+            if (word == firstWord) {
+                bits &= -1L << (firstDay & 63);
+            }
+            if (word == lastWord) {
+                bits &= -1L >>> (63 - (lastDay & 63));
+            }
+            while (bits != 0) {
+                int day = (word << 6) + Long.numberOfTrailingZeros(bits);
+                absent[offset + day - firstDay]++;
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * A year in use, loaded on first read. The load holds the lock of the year only, so a commit marking days of the
+     * same year waits for the load and is applied on top of it, while the other years stay available.
+     */
+    private final class LoadedYear {
+
+        private final int year;
+
+        private YearIndex index;
+
+        private LoadedYear(int year) {
+            this.year = year;
+        }
+
+        synchronized YearIndex index() {
+            if (index == null) {
+                index = load(year);
+            }
+            return index;
+        }
+
+        synchronized void set(Long employeeId, int firstDay, int lastDay) {
+            if (index != null) {
+                index.set(employeeId, firstDay, lastDay);
+            }
+        }
+    }
+
+    /**
+     * Bitmaps of one year, by employee id.
+     *
+     * @param length the number of days of the year.
+     */
+    private record YearIndex(int length, Map<Long, long[]> bitmaps) {
+        void set(Long employeeId, int firstDay, int lastDay) {
+            long[] bitmap = bitmaps.computeIfAbsent(employeeId, key -> new long[WORDS_PER_YEAR]);
+            synchronized (bitmap) {
+                for (int day = firstDay; day <= lastDay; day++) {
+                    bitmap[day >>> 6] |= 1L << day;
+                }
+            }
+        }
+    }
+}
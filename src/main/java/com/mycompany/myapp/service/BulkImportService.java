@@ -0,0 +1,228 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.dto.ImportReportDTO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service importing employees and vacation requests from CSV files with PostgreSQL {@code COPY}.
+ * <p>
+ * A file is streamed into a temporary staging table, validated with one statement per rule and merged into the
+ * target table with one {@code insert ... select}. Rows never become Java objects, so the heap used does not depend
+ * on the size of the file. Files use the layout of the Liquibase fake data: {@code ;} separated, with a header line.
+ * <p>
+ * Imported rows keep their ids, so that the files can reference each other. The ids share {@code sequence_generator}
+ * with the application, whose nodes reserve blocks of ids ahead of use: ids not above the sequence may already be
+ * handed out, and are rejected. The sequence is moved past the accepted ids before they are inserted.
+ */
+@Service
+@Transactional
+public class BulkImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final String ID_ALLOCATED = "id <= (select last_value from sequence_generator)";
+
+    private static final ImportSpec EMPLOYEE = new ImportSpec(
+        "employee_import",
+        "id bigint, first_name varchar(255), last_name varchar(255), start_date date, user_id bigint",
+        "id, first_name, last_name, start_date, user_id",
+        List.of(
+            new Rule("required", "id is null or first_name is null or last_name is null or start_date is null or user_id is null"),
+            new Rule("duplicateid", "id in (select id from employee_import group by id having count(*) > 1)"),
+            new Rule("idallocated", ID_ALLOCATED),
+            new Rule("duplicateuser", "user_id in (select user_id from employee_import group by user_id having count(*) > 1)"),
+            new Rule("usernotfound", "not exists (select 1 from jhi_user u where u.id = employee_import.user_id)"),
+            new Rule(
+                "useralreadylinked",
+                "exists (select 1 from employee e where e.user_id = employee_import.user_id and e.id <> employee_import.id)"
+            )
+        ),
+        "with inserted as (" +
+        " insert into employee (id, first_name, last_name, start_date, user_id)" +
+        " select id, first_name, last_name, start_date, user_id from employee_import where reject_reason is null" +
+        " on conflict do nothing returning 1" +
+        ") select count(*) from inserted",
+        "employee"
+    );
+
+    private static final ImportSpec VACATION_REQUEST = new ImportSpec(
+        "vacation_request_import",
+        "id bigint, start_date date, end_date date, requested_days integer, status varchar(255), approver_comment varchar(500)," +
+        " approved_start_date date, approved_end_date date, approved_days integer, created_at timestamp, decided_at timestamp," +
+        " employee_id bigint",
+        "id, start_date, end_date, requested_days, status, approver_comment, approved_start_date, approved_end_date, approved_days," +
+        " created_at, decided_at, employee_id",
+        List.of(
+            new Rule(
+                "required",
+                "id is null or start_date is null or end_date is null or requested_days is null or status is null" +
+                " or created_at is null or employee_id is null"
+            ),
+            new Rule("duplicateid", "id in (select id from vacation_request_import group by id having count(*) > 1)"),
+            new Rule("idallocated", ID_ALLOCATED),
+            new Rule("statusinvalid", "status not in ('PENDING', 'APPROVED', 'APPROVED_WITH_CHANGES', 'REJECTED')"),
+            new Rule("periodinvalid", "end_date < start_date"),
+            new Rule("requesteddaysinvalid", "requested_days <= 0"),
+            new Rule("employeenotfound", "not exists (select 1 from employee e where e.id = vacation_request_import.employee_id)")
+        ),
+        // the ledger is credited with the rows actually inserted, in the same statement
+        "with inserted as (" +
+        " insert into vacation_request (id, start_date, end_date, requested_days, status, approver_comment, approved_start_date," +
+        " approved_end_date, approved_days, created_at, decided_at, employee_id)" +
+        " select id, start_date, end_date, requested_days, status, approver_comment, approved_start_date, approved_end_date," +
+        " approved_days, created_at, decided_at, employee_id from vacation_request_import where reject_reason is null" +
+        " on conflict do nothing" +
+        " returning employee_id, status, start_date, approved_start_date, requested_days, approved_days" +
+        "), totals as (" +
+        " select employee_id," +
+        " cast(extract(year from case when status = 'PENDING' then start_date else coalesce(approved_start_date, start_date) end) as integer) as balance_year," +
+        " sum(case when status = 'PENDING' then requested_days else 0 end) as pending_days," +
+        " sum(case when status in ('APPROVED', 'APPROVED_WITH_CHANGES') then coalesce(approved_days, requested_days) else 0 end) as used_days" +
+        " from inserted where status <> 'REJECTED' group by 1, 2" +
+        "), credited as (" +
+        " insert into vacation_balance (id, employee_id, balance_year, entitled_days, used_days, pending_days)" +
+        " select nextval('sequence_generator'), employee_id, balance_year, ?, used_days, pending_days from totals" +
+        " on conflict (employee_id, balance_year) do update" +
+        " set used_days = vacation_balance.used_days + excluded.used_days, pending_days = vacation_balance.pending_days + excluded.pending_days" +
+        ")" +
+        " select count(*) from inserted",
+        "vacation_request"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final VacationBalanceService vacationBalanceService;
+
+    private final AbsenceCalendarService absenceCalendarService;
+
+    private final VacationStatusCountService vacationStatusCountService;
+
+    private final ApplicationProperties applicationProperties;
+
+    public BulkImportService(
+        JdbcTemplate jdbcTemplate,
+        VacationBalanceService vacationBalanceService,
+        AbsenceCalendarService absenceCalendarService,
+        VacationStatusCountService vacationStatusCountService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.vacationBalanceService = vacationBalanceService;
+        this.absenceCalendarService = absenceCalendarService;
+        this.vacationStatusCountService = vacationStatusCountService;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Import employees. Rows whose id may already be allocated or whose user is already linked are rejected.
+     *
+     * @param csv the CSV content, in the layout of {@code fake-data/employee.csv}.
+     * @return the import report.
+     */
+    public ImportReportDTO importEmployees(InputStream csv) {
+        LOG.debug("Request to import Employees");
+        return importCsv(EMPLOYEE, csv);
+    }
+
+    /**
+     * Import vacation requests. Rows whose id may already be allocated are rejected; the ledger is credited with the
+     * imported pending and approved days.
+     *
+     * @param csv the CSV content, in the layout of {@code fake-data/vacation_request.csv}.
+     * @return the import report.
+     */
+    public ImportReportDTO importVacationRequests(InputStream csv) {
+        LOG.debug("Request to import VacationRequests");
+        ImportReportDTO report = importCsv(VACATION_REQUEST, csv, applicationProperties.getVacation().getAnnualEntitlementDays());
+        vacationBalanceService.evictAllAfterCompletion();
+        absenceCalendarService.invalidateAllAfterCompletion();
+        vacationStatusCountService.reloadAfterCompletion();
+        return report;
+    }
+
+    private ImportReportDTO importCsv(ImportSpec spec, InputStream csv, Object... mergeArgs) {
+        String staging = spec.stagingTable();
+        jdbcTemplate.execute(
+            "create temporary table " + staging + " (" + spec.columnDefinitions() + ", reject_reason varchar(32)) on commit drop"
+        );
+        long received = copyIn(
+            "copy " + staging + " (" + spec.columns() + ") from stdin with (format csv, delimiter ';', header true)",
+            csv
+        );
+        // temporary tables are not analyzed by autovacuum
+        jdbcTemplate.execute("analyze " + staging);
+
+        for (Rule rule : spec.rules()) {
+            jdbcTemplate.update(
+                "update " + staging + " set reject_reason = ? where reject_reason is null and (" + rule.condition() + ")",
+                rule.reason()
+            );
+        }
+        Map<String, Long> rejected = new LinkedHashMap<>();
+        jdbcTemplate.query(
+            "select reject_reason, count(*) from " + staging + " where reject_reason is not null group by reject_reason order by reject_reason",
+            rs -> {
+                rejected.put(rs.getString(1), rs.getLong(2));
+            }
+        );
+
+        reserveIds(staging);
+        long imported = jdbcTemplate.queryForObject(spec.mergeSql(), Long.class, mergeArgs);
+        long rejectedCount = rejected.values().stream().mapToLong(Long::longValue).sum();
+        LOG.info("Imported {} of {} rows into {}, rejected {}", imported, received, spec.targetTable(), rejected);
+        return new ImportReportDTO(received, imported, received - rejectedCount - imported, rejected);
+    }
+
+    private long copyIn(String sql, InputStream csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, csv);
+            } catch (IOException e) {
+                throw new InvalidImportException("Could not read the import file", e);
+            } catch (SQLException e) {
+                // class 22 is "data exception": a malformed file, not a server problem
+                if (e.getSQLState() != null && e.getSQLState().startsWith("22")) {
+                    throw new InvalidImportException(e.getMessage(), e);
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Move the shared sequence past the accepted ids, before the merge, so that no node allocates them while it runs.
+     * {@code setval} is not rolled back with the import: a failed import only leaves a gap in the ids.
+     */
+    private void reserveIds(String stagingTable) {
+        jdbcTemplate.query(
+            "select setval('sequence_generator', greatest((select max(id) from " +
+            stagingTable +
+            " where reject_reason is null), last_value)) from sequence_generator",
+            rs -> {}
+        );
+    }
+
+    private record Rule(String reason, String condition) {}
+
+    private record ImportSpec(
+        String stagingTable,
+        String columnDefinitions,
+        String columns,
+        List<Rule> rules,
+        String mergeSql,
+        String targetTable
+    ) {}
+}
@@ -4,14 +4,15 @@ import com.mycompany.myapp.domain.Employee;
 import com.mycompany.myapp.repository.EmployeeRepository;
 import com.mycompany.myapp.service.dto.EmployeeDTO;
 import com.mycompany.myapp.service.mapper.EmployeeMapper;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,9 +29,12 @@ public class EmployeeService {
 
     private final EmployeeMapper employeeMapper;
 
-    public EmployeeService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    private final PaginationLimits paginationLimits;
+
+    public EmployeeService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper, PaginationLimits paginationLimits) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
+        this.paginationLimits = paginationLimits;
     }
 
     /**
@@ -80,14 +84,33 @@ public class EmployeeService {
     }
 
     /**
-     * Get all the employees.
+     * Get all the employees, refusing results larger than {@code application.pagination.unpaged-row-ceiling}.
      *
      * @return the list of entities.
+     * @throws ResultTooLargeException if there are more employees than the ceiling.
      */
     @Transactional(readOnly = true)
     public List<EmployeeDTO> findAll() {
         LOG.debug("Request to get all Employees");
-        return employeeRepository.findAll().stream().map(employeeMapper::toDto).collect(Collectors.toCollection(LinkedList::new));
+        int ceiling = paginationLimits.unpagedRowCeiling();
+        // read one row past the ceiling instead of counting first
+        List<Employee> employees = employeeRepository.findAll(PageRequest.of(0, ceiling + 1, Sort.by("id"))).getContent();
+        if (employees.size() > ceiling) {
+            throw new ResultTooLargeException(ceiling);
+        }
+        return employees.stream().map(employeeMapper::toDto).toList();
+    }
+
+    /**
+     * Get one page of the employees.
+     *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeDTO> findAll(Pageable pageable) {
+        LOG.debug("Request to get a page of Employees");
+        return employeeRepository.findAll(paginationLimits.cap(pageable)).map(employeeMapper::toDto);
     }
 
     /**
@@ -95,8 +118,23 @@ public class EmployeeService {
      *
      * @return the list of entities.
      */
+    @Transactional(readOnly = true)
     public Page<EmployeeDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return employeeRepository.findAllWithEagerRelationships(pageable).map(employeeMapper::toDto);
+        return employeeRepository.findAllWithEagerRelationships(paginationLimits.cap(pageable)).map(employeeMapper::toDto);
+    }
+
+    /**
+     * Get one page of the employees whose first name, last name or login starts with the given text, ignoring case.
+     *
+     * @param text the text typed by the user.
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<EmployeeDTO> search(String text, Pageable pageable) {
+        LOG.debug("Request to search a page of Employees : {}", text);
+        String escaped = text.strip().toLowerCase(Locale.ROOT).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return employeeRepository.searchWithToOneRelationships(escaped + "%", paginationLimits.cap(pageable)).map(employeeMapper::toDto);
     }
 
     /**
@@ -0,0 +1,139 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Holiday;
+import com.mycompany.myapp.repository.HolidayRepository;
+import com.mycompany.myapp.service.dto.HolidayDTO;
+import com.mycompany.myapp.service.mapper.HolidayMapper;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link com.mycompany.myapp.domain.Holiday}.
+ * <p>
+ * Every change drops the working days cached for the calendar years it touches.
+ */
+@Service
+@Transactional
+public class HolidayService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HolidayService.class);
+
+    private final HolidayRepository holidayRepository;
+
+    private final HolidayMapper holidayMapper;
+
+    private final WorkingDayCalculator workingDayCalculator;
+
+    private final PaginationLimits paginationLimits;
+
+    public HolidayService(
+        HolidayRepository holidayRepository,
+        HolidayMapper holidayMapper,
+        WorkingDayCalculator workingDayCalculator,
+        PaginationLimits paginationLimits
+    ) {
+        this.holidayRepository = holidayRepository;
+        this.holidayMapper = holidayMapper;
+        this.workingDayCalculator = workingDayCalculator;
+        this.paginationLimits = paginationLimits;
+    }
+
+    /**
+     * Save a holiday.
+     *
+     * @param holidayDTO the entity to save.
+     * @return the persisted entity.
+     */
+    public HolidayDTO save(HolidayDTO holidayDTO) {
+        LOG.debug("Request to save Holiday : {}", holidayDTO);
+        Holiday holiday = holidayMapper.toEntity(holidayDTO);
+        holiday = holidayRepository.save(holiday);
+        invalidate(holiday);
+        return holidayMapper.toDto(holiday);
+    }
+
+    /**
+     * Update a holiday.
+     *
+     * @param holidayDTO the entity to save.
+     * @return the persisted entity.
+     */
+    public HolidayDTO update(HolidayDTO holidayDTO) {
+        LOG.debug("Request to update Holiday : {}", holidayDTO);
+        holidayRepository.findById(holidayDTO.getId()).ifPresent(this::invalidate);
+        Holiday holiday = holidayMapper.toEntity(holidayDTO);
+        holiday = holidayRepository.save(holiday);
+        invalidate(holiday);
+        return holidayMapper.toDto(holiday);
+    }
+
+    /**
+     * Partially update a holiday.
+     *
+     * @param holidayDTO the entity to update partially.
+     * @return the persisted entity.
+     */
+    public Optional<HolidayDTO> partialUpdate(HolidayDTO holidayDTO) {
+        LOG.debug("Request to partially update Holiday : {}", holidayDTO);
+
+        return holidayRepository
+            .findById(holidayDTO.getId())
+            .map(existingHoliday -> {
+                invalidate(existingHoliday);
+                holidayMapper.partialUpdate(existingHoliday, holidayDTO);
+                invalidate(existingHoliday);
+
+                return existingHoliday;
+            })
+            .map(holidayRepository::save)
+            .map(holidayMapper::toDto);
+    }
+
+    /**
+     * Get one page of the holidays.
+     *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<HolidayDTO> findAll(Pageable pageable) {
+        LOG.debug("Request to get a page of Holidays");
+        return holidayRepository.findAll(paginationLimits.cap(pageable)).map(holidayMapper::toDto);
+    }
+
+    /**
+     * Get one holiday by id.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<HolidayDTO> findOne(Long id) {
+        LOG.debug("Request to get Holiday : {}", id);
+        return holidayRepository.findById(id).map(holidayMapper::toDto);
+    }
+
+    /**
+     * Delete the holiday by id.
+     *
+     * @param id the id of the entity.
+     */
+    public void delete(Long id) {
+        LOG.debug("Request to delete Holiday : {}", id);
+        holidayRepository
+            .findById(id)
+            .ifPresent(holiday -> {
+                invalidate(holiday);
+                holidayRepository.delete(holiday);
+            });
+    }
+
+    private void invalidate(Holiday holiday) {
+        workingDayCalculator.invalidateAfterCompletion(holiday.getCalendar(), holiday.getDate().getYear());
+    }
+}
@@ -0,0 +1,13 @@
+package com.mycompany.myapp.service;
+
+/**
+ * Thrown when an import file cannot be read into the staging table.
+ */
+public class InvalidImportException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
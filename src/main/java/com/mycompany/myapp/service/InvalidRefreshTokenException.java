@@ -0,0 +1,13 @@
+package com.mycompany.myapp.service;
+
+/**
+ * Thrown when a refresh token is unknown, expired, already used or belongs to a deactivated user.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.mycompany.myapp.service;
+
+/**
+ * Thrown when a vacation request workflow step is rejected by a business rule.
+ */
+public class InvalidVacationRequestException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String errorKey;
+
+    public InvalidVacationRequestException(String message, String errorKey) {
+        super(message);
+        this.errorKey = errorKey;
+    }
+
+    public String getErrorKey() {
+        return errorKey;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the {@code application.pagination} limits to the pages and slices clients ask for.
+ */
+@Component
+public class PaginationLimits {
+
+    private final ApplicationProperties applicationProperties;
+
+    public PaginationLimits(ApplicationProperties applicationProperties) {
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Cap a client supplied page request.
+     *
+     * @param pageable the pagination information, possibly unpaged.
+     * @return the same page, at most {@code application.pagination.max-page-size} rows long; the first page if it was unpaged.
+     */
+    public Pageable cap(Pageable pageable) {
+        int maxPageSize = maxPageSize();
+        if (pageable.isUnpaged() || pageable.getPageSize() > maxPageSize) {
+            return PageRequest.of(pageable.isPaged() ? pageable.getPageNumber() : 0, maxPageSize, pageable.getSort());
+        }
+        return pageable;
+    }
+
+    /**
+     * Cap a client supplied slice size.
+     *
+     * @param size the requested size.
+     * @return the size, between 1 and {@code application.pagination.max-page-size}.
+     */
+    public int capSize(int size) {
+        return Math.min(Math.max(size, 1), maxPageSize());
+    }
+
+    /**
+     * @return the largest result an unpaged (legacy) list request may return.
+     */
+    public int unpagedRowCeiling() {
+        return applicationProperties.getPagination().getUnpagedRowCeiling();
+    }
+
+    private int maxPageSize() {
+        return applicationProperties.getPagination().getMaxPageSize();
+    }
+}
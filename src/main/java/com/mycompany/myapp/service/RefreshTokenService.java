@@ -0,0 +1,196 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.RefreshToken;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.RefreshTokenRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service issuing and rotating refresh tokens.
+ * <p>
+ * A refresh token is 256 random bits; the table only holds their HMAC-SHA256, keyed with the JWT secret, so a leaked
+ * table cannot be replayed. Refreshing costs one indexed lookup, one HMAC and two small writes, never a password hash.
+ * <p>
+ * Every token is exchanged once. Presenting a token that was already exchanged means it was stolen or replayed, so all
+ * the tokens of its user are revoked and the user has to sign in again; unless it was exchanged less than
+ * {@code application.security.refresh-token-reuse-grace} ago, as the tabs of a remembered session share their tokens
+ * and all refresh when their access token expires: the late ones are refused, and pick up the token stored by the first.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final UserRepository userRepository;
+
+    private final Duration validity;
+
+    private final Duration validityForRememberMe;
+
+    private final Duration reuseGrace;
+
+    private final Clock clock;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final ThreadLocal<Mac> mac;
+
+    @Autowired
+    public RefreshTokenService(
+        RefreshTokenRepository refreshTokenRepository,
+        UserRepository userRepository,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties
+    ) {
+        this(
+            refreshTokenRepository,
+            userRepository,
+            jHipsterProperties.getSecurity().getAuthentication().getJwt(),
+            applicationProperties.getSecurity().getRefreshTokenReuseGrace(),
+            Clock.systemUTC()
+        );
+    }
+
+    RefreshTokenService(
+        RefreshTokenRepository refreshTokenRepository,
+        UserRepository userRepository,
+        JHipsterProperties.Security.Authentication.Jwt jwt,
+        Duration reuseGrace,
+        Clock clock
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.validity = Duration.ofSeconds(jwt.getTokenValidityInSeconds());
+        this.validityForRememberMe = Duration.ofSeconds(jwt.getTokenValidityInSecondsForRememberMe());
+        this.reuseGrace = reuseGrace;
+        this.clock = clock;
+        SecretKeySpec key = new SecretKeySpec(Base64.getDecoder().decode(jwt.getBase64Secret()), "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac hmac = Mac.getInstance("HmacSHA256");
+                hmac.init(key);
+                return hmac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize HmacSHA256", e);
+            }
+        });
+    }
+
+    /**
+     * Issue a refresh token to a user who just signed in.
+     *
+     * @param userId the id of the user.
+     * @param rememberMe whether the session lasts as long as a remembered one.
+     * @return the token, to be handed to the client.
+     */
+    public String create(Long userId, boolean rememberMe) {
+        Instant now = clock.instant();
+        return issue(userRepository.getReferenceById(userId), now, now.plus(rememberMe ? validityForRememberMe : validity));
+    }
+
+    /**
+     * Exchange a refresh token for a new one, which expires when the exchanged one would have.
+     *
+     * @param token the token presented by the client.
+     * @return the user the token belongs to and the new token.
+     * @throws InvalidRefreshTokenException if the token is unknown, expired, already exchanged or its user is deactivated;
+     * all the tokens of the user are revoked if it was exchanged before the grace period.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String token) {
+        Instant now = clock.instant();
+        RefreshToken refreshToken = refreshTokenRepository
+            .findOneWithUserByTokenHash(hash(token))
+            .orElseThrow(() -> new InvalidRefreshTokenException("Unknown refresh token"));
+        User user = refreshToken.getUser();
+        if (!refreshToken.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("Expired refresh token");
+        }
+        // the check on usedAt is repeated by the update, for two requests racing with the same token
+        if (refreshToken.getUsedAt() != null || refreshTokenRepository.markUsed(refreshToken.getId(), now) == 0) {
+            // usedAt is null when the token was exchanged by a concurrent request
+            if (refreshToken.getUsedAt() == null || refreshToken.getUsedAt().plus(reuseGrace).isAfter(now)) {
+                LOG.debug("Refresh token of user {} was just exchanged by another request", user.getLogin());
+                throw new InvalidRefreshTokenException("Refresh token just exchanged");
+            }
+            LOG.warn("Refresh token of user {} was presented again, revoking all of their tokens", user.getLogin());
+            refreshTokenRepository.deleteByUserId(user.getId());
+            throw new InvalidRefreshTokenException("Refresh token already used");
+        }
+        if (!user.isActivated()) {
+            throw new InvalidRefreshTokenException("User " + user.getLogin() + " is not activated");
+        }
+        Set<String> authorities = user.getAuthorities().stream().map(Authority::getName).collect(Collectors.toSet());
+        return new Rotation(user.getId(), user.getLogin(), authorities, issue(user, now, refreshToken.getExpiresAt()));
+    }
+
+    /**
+     * Revoke all the refresh tokens of a user, after a change of password: the sessions opened with the old password
+     * end when their access token expires.
+     *
+     * @param userId the id of the user.
+     */
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.deleteByUserId(userId);
+        LOG.debug("Revoked {} refresh tokens of user {}", revoked, userId);
+    }
+
+    /**
+     * Expired tokens are removed every hour.
+     */
+    @Scheduled(cron = "0 15 * * * ?")
+    public void removeExpiredTokens() {
+        int removed = refreshTokenRepository.deleteExpired(clock.instant());
+        LOG.debug("Removed {} expired refresh tokens", removed);
+    }
+
+    private String issue(User user, Instant now, Instant expiresAt) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = TOKEN_ENCODER.encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken().tokenHash(hash(token)).createdAt(now).expiresAt(expiresAt).user(user));
+        return token;
+    }
+
+    private String hash(String token) {
+        return HexFormat.of().formatHex(mac.get().doFinal(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * The outcome of a successful exchange.
+     *
+     * @param userId the id of the user.
+     * @param login the login of the user.
+     * @param authorities the authorities of the user.
+     * @param refreshToken the new refresh token.
+     */
+    public record Rotation(Long userId, String login, Set<String> authorities, String refreshToken) {}
+}
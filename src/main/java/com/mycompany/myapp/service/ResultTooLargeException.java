@@ -0,0 +1,13 @@
+package com.mycompany.myapp.service;
+
+/**
+ * Thrown when an unpaged query would return more rows than allowed.
+ */
+public class ResultTooLargeException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ResultTooLargeException(int ceiling) {
+        super("The result has more than " + ceiling + " rows, use pagination");
+    }
+}
@@ -7,6 +7,8 @@ import com.mycompany.myapp.repository.AuthorityRepository;
 import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.security.AuthoritiesConstants;
 import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.cache.CacheInvalidation;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
 import com.mycompany.myapp.service.dto.AdminUserDTO;
 import com.mycompany.myapp.service.dto.UserDTO;
 import java.time.Instant;
@@ -41,16 +43,24 @@ public class UserService {
 
     private final CacheManager cacheManager;
 
+    private final CacheInvalidationService cacheInvalidationService;
+
+    private final RefreshTokenService refreshTokenService;
+
     public UserService(
         UserRepository userRepository,
         PasswordEncoder passwordEncoder,
         AuthorityRepository authorityRepository,
-        CacheManager cacheManager
+        CacheManager cacheManager,
+        CacheInvalidationService cacheInvalidationService,
+        RefreshTokenService refreshTokenService
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityRepository = authorityRepository;
         this.cacheManager = cacheManager;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     public Optional<User> activateRegistration(String key) {
@@ -76,6 +86,7 @@ public class UserService {
                 user.setPassword(passwordEncoder.encode(newPassword));
                 user.setResetKey(null);
                 user.setResetDate(null);
+                refreshTokenService.revokeAll(user.getId());
                 this.clearUserCaches(user);
                 return user;
             });
@@ -265,6 +276,7 @@ public class UserService {
                 }
                 String encryptedPassword = passwordEncoder.encode(newPassword);
                 user.setPassword(encryptedPassword);
+                refreshTokenService.revokeAll(user.getId());
                 this.clearUserCaches(user);
                 LOG.debug("Changed password for User: {}", user);
             });
@@ -317,8 +329,10 @@ public class UserService {
 
     private void clearUserCaches(User user) {
         Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).evictIfPresent(user.getLogin());
+        cacheInvalidationService.broadcast(CacheInvalidation.evict(UserRepository.USERS_BY_LOGIN_CACHE, user.getLogin()));
         if (user.getEmail() != null) {
             Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE)).evictIfPresent(user.getEmail());
+            cacheInvalidationService.broadcast(CacheInvalidation.evict(UserRepository.USERS_BY_EMAIL_CACHE, user.getEmail()));
         }
     }
 }
@@ -0,0 +1,192 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.VacationBalance;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.repository.VacationBalanceRepository;
+import com.mycompany.myapp.service.cache.CacheInvalidation;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
+import com.mycompany.myapp.service.dto.VacationBalanceDTO;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service maintaining the per employee, per year vacation ledger ({@link com.mycompany.myapp.domain.VacationBalance}).
+ * <p>
+ * Mutations join the caller's transaction, so a ledger change commits or rolls back together with the
+ * request state transition that caused it. Reads are served from the ledger row, never from the request
+ * history, and the resulting {@link VacationBalanceDTO} is cached by employee and year.
+ */
+@Service
+@Transactional
+public class VacationBalanceService {
+
+    public static final String BALANCES_BY_EMPLOYEE_AND_YEAR_CACHE = "vacationBalancesByEmployeeAndYear";
+
+    private static final Logger LOG = LoggerFactory.getLogger(VacationBalanceService.class);
+
+    private final VacationBalanceRepository vacationBalanceRepository;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    public VacationBalanceService(
+        VacationBalanceRepository vacationBalanceRepository,
+        EmployeeRepository employeeRepository,
+        CacheManager cacheManager,
+        ApplicationProperties applicationProperties,
+        CacheInvalidationService cacheInvalidationService
+    ) {
+        this.vacationBalanceRepository = vacationBalanceRepository;
+        this.employeeRepository = employeeRepository;
+        this.cacheManager = cacheManager;
+        this.applicationProperties = applicationProperties;
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    /**
+     * Get the balance of an employee for a year.
+     * <p>
+     * An employee without ledger row for the year gets the default entitlement and nothing used.
+     *
+     * @param employeeId the id of the employee.
+     * @param year the calendar year.
+     * @return the balance, or empty if the employee does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VacationBalanceDTO> findBalance(Long employeeId, int year) {
+        LOG.debug("Request to get VacationBalance of employee {} for {}", employeeId, year);
+        String key = cacheKey(employeeId, year);
+        VacationBalanceDTO cached = balanceCache().get(key, VacationBalanceDTO.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // checked outside the load, so that no absent balance is cached
+        if (!employeeRepository.existsById(employeeId)) {
+            return Optional.empty();
+        }
+        // the load runs under the lock of the entry: an eviction by a ledger change cannot slip between the read and the put
+        return Optional.of(balanceCache().get(key, () -> loadBalance(employeeId, year)));
+    }
+
+    /**
+     * Get the balance of the employee linked to a user for a year.
+     *
+     * @param login the login of the user.
+     * @param year the calendar year.
+     * @return the balance, or empty if the user is not an employee.
+     */
+    @Transactional(readOnly = true)
+    public Optional<VacationBalanceDTO> findBalanceForLogin(String login, int year) {
+        return employeeRepository.findIdByUserLogin(login).flatMap(employeeId -> findBalance(employeeId, year));
+    }
+
+    /**
+     * Reserve days for a new pending request, failing if the employee has not enough days available.
+     *
+     * @param employeeId the id of the employee.
+     * @param year the calendar year the request is accounted in.
+     * @param days the requested days.
+     * @throws InvalidVacationRequestException if fewer than {@code days} are available.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservePending(Long employeeId, int year, int days) {
+        LOG.debug("Request to reserve {} days of employee {} for {}", days, employeeId, year);
+        vacationBalanceRepository.insertIfAbsent(employeeId, year, defaultEntitlement());
+        if (vacationBalanceRepository.reservePending(employeeId, year, days) == 0) {
+            throw new InvalidVacationRequestException("Not enough vacation days available", "insufficientbalance");
+        }
+        evictAfterCompletion(employeeId, year);
+    }
+
+    /**
+     * Move days between the pending and used counters of a ledger row.
+     *
+     * @param employeeId the id of the employee.
+     * @param year the calendar year.
+     * @param pendingDelta the change of the pending days.
+     * @param usedDelta the change of the used days.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Long employeeId, int year, int pendingDelta, int usedDelta) {
+        if (pendingDelta == 0 && usedDelta == 0) {
+            return;
+        }
+        LOG.debug("Request to adjust VacationBalance of employee {} for {} : pending {}, used {}", employeeId, year, pendingDelta, usedDelta);
+        vacationBalanceRepository.insertIfAbsent(employeeId, year, defaultEntitlement());
+        vacationBalanceRepository.adjust(employeeId, year, pendingDelta, usedDelta);
+        evictAfterCompletion(employeeId, year);
+    }
+
+    /**
+     * Drop every cached balance once the current transaction completes, for ledger changes made outside JPA.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evictAllAfterCompletion() {
+        cacheInvalidationService.broadcast(CacheInvalidation.clear(BALANCES_BY_EMPLOYEE_AND_YEAR_CACHE));
+        cacheInvalidationService.broadcast(CacheInvalidation.clear(VacationBalance.class.getName()));
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    balanceCache().clear();
+                    Objects.requireNonNull(cacheManager.getCache(VacationBalance.class.getName())).clear();
+                }
+            }
+        );
+    }
+
+    private VacationBalanceDTO loadBalance(Long employeeId, int year) {
+        return vacationBalanceRepository
+            .findOneByEmployeeIdAndYear(employeeId, year)
+            .map(row -> VacationBalanceDTO.of(employeeId, year, row.getEntitledDays(), row.getUsedDays(), row.getPendingDays()))
+            .orElseGet(() -> VacationBalanceDTO.of(employeeId, year, defaultEntitlement(), 0, 0));
+    }
+
+    static String cacheKey(Long employeeId, int year) {
+        return employeeId + ":" + year;
+    }
+
+    private int defaultEntitlement() {
+        return applicationProperties.getVacation().getAnnualEntitlementDays();
+    }
+
+    private void evictAfterCompletion(Long employeeId, int year) {
+        String key = cacheKey(employeeId, year);
+        evict(key);
+        cacheInvalidationService.broadcast(CacheInvalidation.evict(BALANCES_BY_EMPLOYEE_AND_YEAR_CACHE, key));
+        // bulk updates only clear the entity region of this node
+        cacheInvalidationService.broadcast(CacheInvalidation.clear(VacationBalance.class.getName()));
+        // a concurrent reader may have cached the pre-commit row in the meantime
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            }
+        );
+    }
+
+    private void evict(String key) {
+        balanceCache().evictIfPresent(key);
+    }
+
+    private Cache balanceCache() {
+        return Objects.requireNonNull(cacheManager.getCache(BALANCES_BY_EMPLOYEE_AND_YEAR_CACHE));
+    }
+}
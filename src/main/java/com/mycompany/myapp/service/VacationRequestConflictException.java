@@ -0,0 +1,23 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.service.dto.VacationRequestDTO;
+
+/**
+ * Thrown when a decision targets a vacation request that was changed since the reviewer read it, carrying the current
+ * state of the request so the client can refresh without reading it again.
+ */
+public class VacationRequestConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient VacationRequestDTO current;
+
+    public VacationRequestConflictException(String message, VacationRequestDTO current) {
+        super(message);
+        this.current = current;
+    }
+
+    public VacationRequestDTO getCurrent() {
+        return current;
+    }
+}
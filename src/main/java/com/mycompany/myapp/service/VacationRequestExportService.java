@@ -0,0 +1,134 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.VacationRequestExportRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service writing every {@link com.mycompany.myapp.domain.VacationRequest} to a stream, as CSV or NDJSON.
+ * <p>
+ * Rows are read with a database cursor and written one at a time, so memory use does not grow with the table. The
+ * transaction stays open while the output is written: call it from the thread that writes the response.
+ */
+@Service
+@Transactional(readOnly = true)
+public class VacationRequestExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VacationRequestExportService.class);
+
+    static final String CSV_HEADER =
+        "id;start_date;end_date;requested_days;status;approver_comment;approved_start_date;approved_end_date;approved_days;created_at;decided_at;employee_id";
+
+    private final VacationRequestRepository vacationRequestRepository;
+
+    private final ObjectWriter ndjsonWriter;
+
+    public VacationRequestExportService(VacationRequestRepository vacationRequestRepository, ObjectMapper objectMapper) {
+        this.vacationRequestRepository = vacationRequestRepository;
+        this.ndjsonWriter = objectMapper
+            .writerFor(VacationRequestExportRow.class)
+            .withRootValueSeparator("\n")
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Write all vacationRequests as CSV, in the layout of {@code fake-data/vacation_request.csv}, so an export can be
+     * imported again.
+     *
+     * @param out the stream to write to, left open.
+     * @return the number of rows written.
+     * @throws IOException if the stream cannot be written.
+     */
+    public long exportCsv(OutputStream out) throws IOException {
+        LOG.debug("Request to export VacationRequests as CSV");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        try (Stream<VacationRequestExportRow> rows = vacationRequestRepository.streamAllForExport()) {
+            for (VacationRequestExportRow row : (Iterable<VacationRequestExportRow>) rows::iterator) {
+                writeCsvRow(writer, row);
+                count++;
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Write all vacationRequests as newline delimited JSON, one object per line.
+     *
+     * @param out the stream to write to, left open.
+     * @return the number of rows written.
+     * @throws IOException if the stream cannot be written.
+     */
+    public long exportNdjson(OutputStream out) throws IOException {
+        LOG.debug("Request to export VacationRequests as NDJSON");
+        long count = 0;
+        try (
+            Stream<VacationRequestExportRow> rows = vacationRequestRepository.streamAllForExport();
+            SequenceWriter sequenceWriter = ndjsonWriter.writeValues(out)
+        ) {
+            for (VacationRequestExportRow row : (Iterable<VacationRequestExportRow>) rows::iterator) {
+                sequenceWriter.write(row);
+                count++;
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, VacationRequestExportRow row) throws IOException {
+        writer.write(csvValue(row.id()));
+        writer.write(';');
+        writer.write(csvValue(row.startDate()));
+        writer.write(';');
+        writer.write(csvValue(row.endDate()));
+        writer.write(';');
+        writer.write(csvValue(row.requestedDays()));
+        writer.write(';');
+        writer.write(csvValue(row.status()));
+        writer.write(';');
+        writer.write(csvValue(row.approverComment()));
+        writer.write(';');
+        writer.write(csvValue(row.approvedStartDate()));
+        writer.write(';');
+        writer.write(csvValue(row.approvedEndDate()));
+        writer.write(';');
+        writer.write(csvValue(row.approvedDays()));
+        writer.write(';');
+        writer.write(csvValue(row.createdAt()));
+        writer.write(';');
+        writer.write(csvValue(row.decidedAt()));
+        writer.write(';');
+        writer.write(csvValue(row.employeeId()));
+        writer.write('\n');
+    }
+
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.isEmpty() || text.indexOf(';') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -1,19 +1,37 @@
 package com.mycompany.myapp.service;
 
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.domain.VacationRequest;
 import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.VacationRequestSummary;
 import com.mycompany.myapp.service.dto.ApprovalCommand;
+import com.mycompany.myapp.service.dto.BulkDecisionCommand;
+import com.mycompany.myapp.service.dto.BulkDecisionResult;
+import com.mycompany.myapp.service.dto.CursorPage;
+import com.mycompany.myapp.service.dto.KeysetCursor;
 import com.mycompany.myapp.service.dto.VacationRequestDTO;
+import com.mycompany.myapp.service.dto.VacationRequestFilter;
 import com.mycompany.myapp.service.mapper.VacationRequestMapper;
-import java.util.LinkedList;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,9 +48,44 @@ public class VacationRequestService {
 
     private final VacationRequestMapper vacationRequestMapper;
 
-    public VacationRequestService(VacationRequestRepository vacationRequestRepository, VacationRequestMapper vacationRequestMapper) {
+    private final EmployeeRepository employeeRepository;
+
+    private final UserRepository userRepository;
+
+    private final VacationBalanceService vacationBalanceService;
+
+    private final AbsenceCalendarService absenceCalendarService;
+
+    private final VacationStatusCountService vacationStatusCountService;
+
+    private final WorkingDayCalculator workingDayCalculator;
+
+    private final PaginationLimits paginationLimits;
+
+    private final ApplicationProperties applicationProperties;
+
+    public VacationRequestService(
+        VacationRequestRepository vacationRequestRepository,
+        VacationRequestMapper vacationRequestMapper,
+        EmployeeRepository employeeRepository,
+        UserRepository userRepository,
+        VacationBalanceService vacationBalanceService,
+        AbsenceCalendarService absenceCalendarService,
+        VacationStatusCountService vacationStatusCountService,
+        WorkingDayCalculator workingDayCalculator,
+        PaginationLimits paginationLimits,
+        ApplicationProperties applicationProperties
+    ) {
         this.vacationRequestRepository = vacationRequestRepository;
         this.vacationRequestMapper = vacationRequestMapper;
+        this.employeeRepository = employeeRepository;
+        this.userRepository = userRepository;
+        this.vacationBalanceService = vacationBalanceService;
+        this.absenceCalendarService = absenceCalendarService;
+        this.vacationStatusCountService = vacationStatusCountService;
+        this.workingDayCalculator = workingDayCalculator;
+        this.paginationLimits = paginationLimits;
+        this.applicationProperties = applicationProperties;
     }
 
     /**
@@ -45,6 +98,9 @@ public class VacationRequestService {
         LOG.debug("Request to save VacationRequest : {}", vacationRequestDTO);
         VacationRequest vacationRequest = vacationRequestMapper.toEntity(vacationRequestDTO);
         vacationRequest = vacationRequestRepository.save(vacationRequest);
+        account(BalanceContribution.of(vacationRequest), 1);
+        invalidateCalendar(vacationRequest);
+        countStatus(vacationRequest, 1);
         return vacationRequestMapper.toDto(vacationRequest);
     }
 
@@ -56,8 +112,22 @@ public class VacationRequestService {
      */
     public VacationRequestDTO update(VacationRequestDTO vacationRequestDTO) {
         LOG.debug("Request to update VacationRequest : {}", vacationRequestDTO);
+        vacationRequestRepository
+            .findById(vacationRequestDTO.getId())
+            .ifPresent(before -> {
+                account(BalanceContribution.of(before), -1);
+                invalidateCalendar(before);
+                countStatus(before, -1);
+                // clients unaware of versions keep the last-write-wins behaviour
+                if (vacationRequestDTO.getVersion() == null) {
+                    vacationRequestDTO.setVersion(before.getVersion());
+                }
+            });
         VacationRequest vacationRequest = vacationRequestMapper.toEntity(vacationRequestDTO);
         vacationRequest = vacationRequestRepository.save(vacationRequest);
+        account(BalanceContribution.of(vacationRequest), 1);
+        invalidateCalendar(vacationRequest);
+        countStatus(vacationRequest, 1);
         return vacationRequestMapper.toDto(vacationRequest);
     }
 
@@ -73,7 +143,14 @@ public class VacationRequestService {
         return vacationRequestRepository
             .findById(vacationRequestDTO.getId())
             .map(existingVacationRequest -> {
+                checkVersion(existingVacationRequest, vacationRequestDTO.getVersion());
+                account(BalanceContribution.of(existingVacationRequest), -1);
+                invalidateCalendar(existingVacationRequest);
+                countStatus(existingVacationRequest, -1);
                 vacationRequestMapper.partialUpdate(existingVacationRequest, vacationRequestDTO);
+                account(BalanceContribution.of(existingVacationRequest), 1);
+                invalidateCalendar(existingVacationRequest);
+                countStatus(existingVacationRequest, 1);
 
                 return existingVacationRequest;
             })
@@ -82,18 +159,35 @@ public class VacationRequestService {
     }
 
     /**
-     * Get all the vacationRequests.
+     * Get all the vacationRequests, refusing results larger than {@code application.pagination.unpaged-row-ceiling}.
      *
      * @return the list of entities.
+     * @throws ResultTooLargeException if there are more vacationRequests than the ceiling.
      */
     @Transactional(readOnly = true)
     public List<VacationRequestDTO> findAll() {
         LOG.debug("Request to get all VacationRequests");
-        return vacationRequestRepository
-            .findAll()
-            .stream()
-            .map(vacationRequestMapper::toDto)
-            .collect(Collectors.toCollection(LinkedList::new));
+        int ceiling = paginationLimits.unpagedRowCeiling();
+        // read one row past the ceiling instead of counting first
+        List<VacationRequest> vacationRequests = vacationRequestRepository
+            .findAll(PageRequest.of(0, ceiling + 1, Sort.by("id")))
+            .getContent();
+        if (vacationRequests.size() > ceiling) {
+            throw new ResultTooLargeException(ceiling);
+        }
+        return vacationRequests.stream().map(vacationRequestMapper::toDto).toList();
+    }
+
+    /**
+     * Get one page of the vacationRequests.
+     *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @return the page of entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<VacationRequestDTO> findAll(Pageable pageable) {
+        LOG.debug("Request to get a page of VacationRequests");
+        return vacationRequestRepository.findAll(paginationLimits.cap(pageable)).map(vacationRequestMapper::toDto);
     }
 
     /**
@@ -101,8 +195,9 @@ public class VacationRequestService {
      *
      * @return the list of entities.
      */
+    @Transactional(readOnly = true)
     public Page<VacationRequestDTO> findAllWithEagerRelationships(Pageable pageable) {
-        return vacationRequestRepository.findAllWithEagerRelationships(pageable).map(vacationRequestMapper::toDto);
+        return vacationRequestRepository.findAllWithEagerRelationships(paginationLimits.cap(pageable)).map(vacationRequestMapper::toDto);
     }
 
     /**
@@ -124,24 +219,507 @@ public class VacationRequestService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete VacationRequest : {}", id);
-        vacationRequestRepository.deleteById(id);
+        vacationRequestRepository
+            .findById(id)
+            .ifPresent(vacationRequest -> {
+                account(BalanceContribution.of(vacationRequest), -1);
+                invalidateCalendar(vacationRequest);
+                countStatus(vacationRequest, -1);
+                vacationRequestRepository.delete(vacationRequest);
+            });
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Create a pending vacationRequest for the employee linked to a user.
+     * <p>
+     * The requested days are the working days of the period, whatever the client sent. They are reserved on the
+     * employee's ledger in the same transaction, which fails when the employee has not enough days available.
+     *
+     * @param dto the requested period.
+     * @param login the login of the user.
+     * @return the persisted entity.
+     */
     public VacationRequestDTO createForCurrentUser(VacationRequestDTO dto, String login) {
-        return null;
+        LOG.debug("Request to create VacationRequest for user {} : {}", login, dto);
+        Long employeeId = employeeRepository
+            .findIdByUserLogin(login)
+            .orElseThrow(() -> new InvalidVacationRequestException("The current user is not an employee", "employeenotfound"));
+        checkPeriod(dto.getStartDate(), dto.getEndDate());
+        int requestedDays = workingDayCalculator.workingDays(dto.getStartDate(), dto.getEndDate());
+        if (requestedDays <= 0) {
+            throw new InvalidVacationRequestException("The vacation period has no working day", "requesteddaysinvalid");
+        }
+        VacationRequest vacationRequest = new VacationRequest()
+            .startDate(dto.getStartDate())
+            .endDate(dto.getEndDate())
+            .requestedDays(requestedDays)
+            .status(VacationStatus.PENDING)
+            .createdAt(Instant.now())
+            .employee(employeeRepository.getReferenceById(employeeId));
+        vacationBalanceService.reservePending(employeeId, vacationRequest.getStartDate().getYear(), vacationRequest.getRequestedDays());
+        countStatus(vacationRequest, 1);
+        return vacationRequestMapper.toDto(vacationRequestRepository.save(vacationRequest));
     }
 
+    /**
+     * Get one slice of the vacationRequests of the employee linked to a user, newest first.
+     * <p>
+     * Slices are read with a seek on {@code (employee_id, created_at desc, id desc)}, so the cost of a
+     * fetch does not depend on how far the client has scrolled.
+     *
+     * @param login the login of the user.
+     * @param cursor the position of the last row of the previous slice, or {@code null} for the first slice.
+     * @param size the requested slice size, capped by {@code application.pagination.max-page-size}.
+     * @return the slice of entities.
+     */
     @Transactional(readOnly = true)
-    public Page<VacationRequestDTO> findByEmployeeLogin(String login, Pageable pageable) {
-        return null;
+    public CursorPage<VacationRequestDTO> findByEmployeeLogin(String login, KeysetCursor cursor, int size) {
+        LOG.debug("Request to get VacationRequests of user {} after {}", login, cursor);
+        Optional<Long> employeeId = employeeRepository.findIdByUserLogin(login);
+        if (employeeId.isEmpty()) {
+            return CursorPage.empty();
+        }
+        int pageSize = paginationLimits.capSize(size);
+        // read one extra row to know whether there is a following slice without a count query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<VacationRequest> rows = cursor == null
+            ? vacationRequestRepository.findFirstByEmployee(employeeId.orElseThrow(), limit)
+            : vacationRequestRepository.findNextByEmployee(employeeId.orElseThrow(), cursor.createdAt(), cursor.id(), limit);
+        return toCursorPage(rows, pageSize, vacationRequestMapper::toDto, VacationRequestService::cursorOf);
+    }
+
+    /**
+     * Get one slice of the HR review queue, oldest first.
+     * <p>
+     * The queue defaults to {@link VacationStatus#PENDING}, which is served by a partial index on the pending rows
+     * only. Employees and users are fetched in the same statement, so one slice is one SQL query.
+     *
+     * @param status the status to review, {@code PENDING} when empty.
+     * @param cursor the position of the last row of the previous slice, or {@code null} for the first slice.
+     * @param size the requested slice size, capped by {@code application.pagination.max-page-size}.
+     * @return the slice of entities.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<VacationRequestDTO> findForReview(Optional<VacationStatus> status, KeysetCursor cursor, int size) {
+        VacationStatus reviewStatus = status.orElse(VacationStatus.PENDING);
+        LOG.debug("Request to get {} VacationRequests for review after {}", reviewStatus, cursor);
+        int pageSize = paginationLimits.capSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<VacationRequest> rows = cursor == null
+            ? vacationRequestRepository.findFirstForReview(reviewStatus, limit)
+            : vacationRequestRepository.findNextForReview(reviewStatus, cursor.createdAt(), cursor.id(), limit);
+        return toCursorPage(rows, pageSize, vacationRequestMapper::toDto, VacationRequestService::cursorOf);
+    }
+
+    /**
+     * Get one page of the vacationRequests as flat summaries.
+     * <p>
+     * With {@code application.read-model=projection} the rows are selected column by column into the summaries; with
+     * {@code entity} they are loaded as entities and converted, which is only kept to compare both paths.
+     *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @return the page of summaries.
+     */
+    @Transactional(readOnly = true)
+    public Page<VacationRequestSummary> findAllSummaries(Pageable pageable) {
+        LOG.debug("Request to get a page of VacationRequest summaries");
+        if (readsEntities()) {
+            return vacationRequestRepository.findAllWithEagerRelationships(paginationLimits.cap(pageable)).map(VacationRequestService::toSummary);
+        }
+        return vacationRequestRepository.findAllSummaries(paginationLimits.cap(pageable));
+    }
+
+    /**
+     * Get one slice of the vacationRequests of the employee linked to a user as flat summaries, newest first.
+     *
+     * @param login the login of the user.
+     * @param cursor the position of the last row of the previous slice, or {@code null} for the first slice.
+     * @param size the requested slice size, capped by {@code application.pagination.max-page-size}.
+     * @return the slice of summaries.
+     * @see #findByEmployeeLogin(String, KeysetCursor, int)
+     * @see #findAllSummaries(Pageable)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<VacationRequestSummary> findSummariesByEmployeeLogin(String login, KeysetCursor cursor, int size) {
+        LOG.debug("Request to get VacationRequest summaries of user {} after {}", login, cursor);
+        Optional<Long> employeeId = employeeRepository.findIdByUserLogin(login);
+        if (employeeId.isEmpty()) {
+            return CursorPage.empty();
+        }
+        int pageSize = paginationLimits.capSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        if (readsEntities()) {
+            List<VacationRequest> rows = cursor == null
+                ? vacationRequestRepository.findFirstByEmployee(employeeId.orElseThrow(), limit)
+                : vacationRequestRepository.findNextByEmployee(employeeId.orElseThrow(), cursor.createdAt(), cursor.id(), limit);
+            return toCursorPage(rows, pageSize, VacationRequestService::toSummary, VacationRequestService::cursorOf);
+        }
+        List<VacationRequestSummary> rows = cursor == null
+            ? vacationRequestRepository.findFirstSummariesByEmployee(employeeId.orElseThrow(), limit)
+            : vacationRequestRepository.findNextSummariesByEmployee(employeeId.orElseThrow(), cursor.createdAt(), cursor.id(), limit);
+        return toCursorPage(rows, pageSize, Function.identity(), summary -> new KeysetCursor(summary.createdAt(), summary.id()));
+    }
+
+    /**
+     * Get one slice of the HR review queue as flat summaries, oldest first.
+     *
+     * @param status the status to review, {@code PENDING} when empty.
+     * @param cursor the position of the last row of the previous slice, or {@code null} for the first slice.
+     * @param size the requested slice size, capped by {@code application.pagination.max-page-size}.
+     * @return the slice of summaries.
+     * @see #findForReview(Optional, KeysetCursor, int)
+     * @see #findAllSummaries(Pageable)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<VacationRequestSummary> findSummariesForReview(Optional<VacationStatus> status, KeysetCursor cursor, int size) {
+        VacationStatus reviewStatus = status.orElse(VacationStatus.PENDING);
+        LOG.debug("Request to get {} VacationRequest summaries for review after {}", reviewStatus, cursor);
+        int pageSize = paginationLimits.capSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        if (readsEntities()) {
+            List<VacationRequest> rows = cursor == null
+                ? vacationRequestRepository.findFirstForReview(reviewStatus, limit)
+                : vacationRequestRepository.findNextForReview(reviewStatus, cursor.createdAt(), cursor.id(), limit);
+            return toCursorPage(rows, pageSize, VacationRequestService::toSummary, VacationRequestService::cursorOf);
+        }
+        List<VacationRequestSummary> rows = cursor == null
+            ? vacationRequestRepository.findFirstSummariesForReview(reviewStatus, limit)
+            : vacationRequestRepository.findNextSummariesForReview(reviewStatus, cursor.createdAt(), cursor.id(), limit);
+        return toCursorPage(rows, pageSize, Function.identity(), summary -> new KeysetCursor(summary.createdAt(), summary.id()));
+    }
+
+    /**
+     * Approve, approve with changes or reject a pending vacationRequest.
+     * <p>
+     * The employee's ledger is updated in the same transaction: the reserved days are released and the
+     * approved days, if any, are booked as used. Approved days are the working days of the approved period.
+     * <p>
+     * No row lock is taken: the request is written with a version check, flushed before the ledger is touched, so of
+     * two reviewers deciding the same request the second one fails fast with an optimistic locking failure.
+     *
+     * @param id the id of the entity.
+     * @param cmd the decision.
+     * @param approverLogin the login of the deciding user.
+     * @return the decided entity, or empty if it does not exist.
+     * @throws VacationRequestConflictException if the request is no longer pending, or no longer at the version given
+     * by the decision.
+     */
+    public Optional<VacationRequestDTO> decide(Long id, ApprovalCommand cmd, String approverLogin) {
+        LOG.debug("Request to decide VacationRequest {} by {} : {}", id, approverLogin, cmd);
+        ApprovalCommand decision = checkDecision(cmd);
+        return vacationRequestRepository
+            .findById(id)
+            .map(vacationRequest -> {
+                if (
+                    vacationRequest.getStatus() != VacationStatus.PENDING ||
+                    (decision.version() != null && !decision.version().equals(vacationRequest.getVersion()))
+                ) {
+                    throw new VacationRequestConflictException(
+                        "The vacation request has changed since it was read",
+                        vacationRequestMapper.toDto(vacationRequest)
+                    );
+                }
+                BalanceChanges changes = new BalanceChanges();
+                applyDecision(vacationRequest, decision, userRepository.findOneByLogin(approverLogin).orElse(null), Instant.now(), changes);
+                countDecision(vacationRequest);
+                // the version checked update goes first, so a losing reviewer never touches the ledger row
+                vacationRequestRepository.flush();
+                apply(changes);
+                markAbsent(vacationRequest);
+                return vacationRequestMapper.toDto(vacationRequest);
+            });
+    }
+
+    /**
+     * Apply one decision to several vacationRequests, selected by ids or by filter.
+     * <p>
+     * Everything happens in one transaction: the candidates are read with one query, the ledger receives one update per
+     * employee and year, and the request updates are flushed as JDBC batches at commit. Requests that cannot take the
+     * decision are skipped and reported, they do not fail the others. A request changed concurrently fails the whole
+     * transaction with an optimistic locking failure, after which a retry reports it as already decided. The version of
+     * the decision is not checked here.
+     *
+     * @param command the selection and the decision.
+     * @param approverLogin the login of the deciding user.
+     * @return the outcome for each selected request, in selection order.
+     */
+    public List<BulkDecisionResult> decideAll(BulkDecisionCommand command, String approverLogin) {
+        LOG.debug("Request to decide VacationRequests by {} : {}", approverLogin, command);
+        if (command.decision() == null) {
+            throw new InvalidVacationRequestException("A decision is required", "decisioninvalid");
+        }
+        ApprovalCommand decision = checkDecision(command.decision());
+        int maxBulkDecisions = applicationProperties.getVacation().getMaxBulkDecisions();
+        List<VacationRequest> candidates;
+        List<Long> selectedIds;
+        if (command.hasIds()) {
+            selectedIds = command.ids().stream().distinct().toList();
+            if (selectedIds.size() > maxBulkDecisions) {
+                throw new InvalidVacationRequestException("Too many vacation requests for one decision", "bulktoolarge");
+            }
+            candidates = vacationRequestRepository.findAllForDecisionByIdIn(selectedIds);
+        } else {
+            VacationRequestFilter filter = command.filter() != null
+                ? command.filter()
+                : new VacationRequestFilter(null, null, null, null);
+            candidates = vacationRequestRepository.findAllForDecision(
+                filter.statusOrPending(),
+                filter.employeeId(),
+                filter.from(),
+                filter.to(),
+                PageRequest.of(0, maxBulkDecisions + 1)
+            );
+            if (candidates.size() > maxBulkDecisions) {
+                throw new InvalidVacationRequestException("Too many vacation requests for one decision", "bulktoolarge");
+            }
+            selectedIds = candidates.stream().map(VacationRequest::getId).toList();
+        }
+
+        Map<Long, VacationRequest> candidatesById = candidates.stream().collect(Collectors.toMap(VacationRequest::getId, Function.identity()));
+        User approver = userRepository.findOneByLogin(approverLogin).orElse(null);
+        Instant decidedAt = Instant.now();
+        BalanceChanges changes = new BalanceChanges();
+        List<BulkDecisionResult> results = new ArrayList<>(selectedIds.size());
+        for (Long id : selectedIds) {
+            VacationRequest vacationRequest = candidatesById.get(id);
+            if (vacationRequest == null) {
+                results.add(BulkDecisionResult.notFound(id));
+                continue;
+            }
+            try {
+                applyDecision(vacationRequest, decision, approver, decidedAt, changes);
+                countDecision(vacationRequest);
+                markAbsent(vacationRequest);
+                results.add(BulkDecisionResult.decided(id, vacationRequest.getStatus()));
+            } catch (InvalidVacationRequestException e) {
+                results.add(BulkDecisionResult.skipped(id, vacationRequest.getStatus(), e.getErrorKey()));
+            }
+        }
+        apply(changes);
+        return results;
+    }
+
+    /**
+     * Check a decision and return it with the approved days derived from the approved period.
+     */
+    private ApprovalCommand checkDecision(ApprovalCommand cmd) {
+        return switch (cmd.action() == null ? "" : cmd.action()) {
+            case "APPROVE", "REJECT" -> cmd;
+            case "APPROVE_WITH_CHANGES" -> {
+                checkPeriod(cmd.approvedStartDate(), cmd.approvedEndDate());
+                int approvedDays = workingDayCalculator.workingDays(cmd.approvedStartDate(), cmd.approvedEndDate());
+                if (approvedDays <= 0) {
+                    throw new InvalidVacationRequestException("The approved period has no working day", "periodinvalid");
+                }
+                yield new ApprovalCommand(
+                    cmd.action(),
+                    cmd.approvedStartDate(),
+                    cmd.approvedEndDate(),
+                    approvedDays,
+                    cmd.approverComment(),
+                    cmd.version()
+                );
+            }
+            default -> throw new InvalidVacationRequestException("Unknown decision " + cmd.action(), "decisioninvalid");
+        };
+    }
+
+    private static void checkVersion(VacationRequest vacationRequest, Long version) {
+        if (version != null && !version.equals(vacationRequest.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(VacationRequest.class, vacationRequest.getId());
+        }
+    }
+
+    /**
+     * A vacation period must not end before it starts, nor last more than a year.
+     */
+    private static void checkPeriod(LocalDate start, LocalDate end) {
+        if (start == null || end == null || end.isBefore(start) || end.isAfter(start.plusYears(1))) {
+            throw new InvalidVacationRequestException("Invalid vacation period", "periodinvalid");
+        }
+    }
+
+    /**
+     * Apply an already checked decision to a pending vacationRequest and record its ledger effect in {@code changes}.
+     */
+    private static void applyDecision(
+        VacationRequest vacationRequest,
+        ApprovalCommand cmd,
+        User approver,
+        Instant decidedAt,
+        BalanceChanges changes
+    ) {
+        if (vacationRequest.getStatus() != VacationStatus.PENDING) {
+            throw new InvalidVacationRequestException("The vacation request has already been decided", "alreadydecided");
+        }
+        changes.add(BalanceContribution.of(vacationRequest), -1);
+        switch (cmd.action()) {
+            case "APPROVE" -> vacationRequest
+                .status(VacationStatus.APPROVED)
+                .approvedStartDate(vacationRequest.getStartDate())
+                .approvedEndDate(vacationRequest.getEndDate())
+                .approvedDays(vacationRequest.getRequestedDays());
+            case "APPROVE_WITH_CHANGES" -> vacationRequest
+                .status(VacationStatus.APPROVED_WITH_CHANGES)
+                .approvedStartDate(cmd.approvedStartDate())
+                .approvedEndDate(cmd.approvedEndDate())
+                .approvedDays(cmd.approvedDays());
+            default -> vacationRequest.status(VacationStatus.REJECTED).approvedStartDate(null).approvedEndDate(null).approvedDays(null);
+        }
+        vacationRequest.approverComment(cmd.approverComment()).approver(approver).decidedAt(decidedAt);
+        changes.add(BalanceContribution.of(vacationRequest), 1);
+    }
+
+    private void account(BalanceContribution contribution, int sign) {
+        apply(new BalanceChanges().add(contribution, sign));
+    }
+
+    private void apply(BalanceChanges changes) {
+        changes.deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                vacationBalanceService.adjust(key.employeeId(), key.year(), delta[0], delta[1]);
+            }
+        });
+    }
+
+    /**
+     * Count a vacationRequest in ({@code sign} 1) or out of ({@code sign} -1) its current status once committed.
+     */
+    private void countStatus(VacationRequest vacationRequest, int sign) {
+        if (vacationRequest.getStatus() != null && vacationRequest.getStartDate() != null) {
+            vacationStatusCountService.countAfterCommit(vacationRequest.getStatus(), vacationRequest.getStartDate().getYear(), sign);
+        }
+    }
+
+    /**
+     * Move a just decided vacationRequest from the pending count to the count of its decision once committed.
+     */
+    private void countDecision(VacationRequest vacationRequest) {
+        vacationStatusCountService.countAfterCommit(VacationStatus.PENDING, vacationRequest.getStartDate().getYear(), -1);
+        countStatus(vacationRequest, 1);
+    }
+
+    /**
+     * Add the days of an approved vacationRequest to the absence calendar once committed.
+     */
+    private void markAbsent(VacationRequest vacationRequest) {
+        if (isAbsence(vacationRequest)) {
+            absenceCalendarService.markAbsentAfterCommit(
+                vacationRequest.getEmployee().getId(),
+                absenceStart(vacationRequest),
+                absenceEnd(vacationRequest)
+            );
+        }
+    }
+
+    /**
+     * Reload the absence calendar years of an approved vacationRequest that is changed or removed, since its days may
+     * overlap with another approved request of the employee.
+     */
+    private void invalidateCalendar(VacationRequest vacationRequest) {
+        if (isAbsence(vacationRequest)) {
+            absenceCalendarService.invalidateAfterCompletion(absenceStart(vacationRequest), absenceEnd(vacationRequest));
+        }
+    }
+
+    private static boolean isAbsence(VacationRequest vacationRequest) {
+        return (
+            (vacationRequest.getStatus() == VacationStatus.APPROVED || vacationRequest.getStatus() == VacationStatus.APPROVED_WITH_CHANGES) &&
+            vacationRequest.getEmployee() != null &&
+            absenceStart(vacationRequest) != null &&
+            absenceEnd(vacationRequest) != null
+        );
+    }
+
+    private static LocalDate absenceStart(VacationRequest vacationRequest) {
+        return vacationRequest.getApprovedStartDate() != null ? vacationRequest.getApprovedStartDate() : vacationRequest.getStartDate();
+    }
+
+    private static LocalDate absenceEnd(VacationRequest vacationRequest) {
+        return vacationRequest.getApprovedEndDate() != null ? vacationRequest.getApprovedEndDate() : vacationRequest.getEndDate();
+    }
+
+    private record BalanceKey(Long employeeId, int year) {}
+
+    /**
+     * Net ledger effect of several contributions, so each employee and year is updated once.
+     */
+    private static final class BalanceChanges {
+
+        // pending delta, used delta
+        private final Map<BalanceKey, int[]> deltas = new LinkedHashMap<>();
+
+        BalanceChanges add(BalanceContribution contribution, int sign) {
+            if (contribution != null) {
+                int[] delta = deltas.computeIfAbsent(new BalanceKey(contribution.employeeId(), contribution.year()), key -> new int[2]);
+                delta[0] += sign * contribution.pendingDays();
+                delta[1] += sign * contribution.usedDays();
+            }
+            return this;
+        }
+    }
+
+    /**
+     * What a vacationRequest adds to its employee's ledger in its current state.
+     */
+    private record BalanceContribution(Long employeeId, int year, int pendingDays, int usedDays) {
+        static BalanceContribution of(VacationRequest vacationRequest) {
+            if (vacationRequest.getEmployee() == null || vacationRequest.getStatus() == null) {
+                return null;
+            }
+            Long employeeId = vacationRequest.getEmployee().getId();
+            return switch (vacationRequest.getStatus()) {
+                case PENDING -> new BalanceContribution(
+                    employeeId,
+                    vacationRequest.getStartDate().getYear(),
+                    vacationRequest.getRequestedDays(),
+                    0
+                );
+                case APPROVED, APPROVED_WITH_CHANGES -> {
+                    LocalDate start = vacationRequest.getApprovedStartDate() != null
+                        ? vacationRequest.getApprovedStartDate()
+                        : vacationRequest.getStartDate();
+                    int days = vacationRequest.getApprovedDays() != null ? vacationRequest.getApprovedDays() : vacationRequest.getRequestedDays();
+                    yield new BalanceContribution(employeeId, start.getYear(), 0, days);
+                }
+                case REJECTED -> null;
+            };
+        }
+    }
+
+    private boolean readsEntities() {
+        return applicationProperties.getReadModel() == ApplicationProperties.ReadModel.ENTITY;
+    }
+
+    private static <R, T> CursorPage<T> toCursorPage(List<R> rows, int pageSize, Function<R, T> toContent, Function<R, KeysetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows.stream().map(toContent).toList(), null);
+        }
+        List<R> slice = rows.subList(0, pageSize);
+        return new CursorPage<>(slice.stream().map(toContent).toList(), cursorOf.apply(slice.get(pageSize - 1)).encode());
     }
 
-    public Page<VacationRequestDTO> findForReview(Optional<VacationStatus> status, Pageable pageable) {
-        return null;
+    private static KeysetCursor cursorOf(VacationRequest vacationRequest) {
+        return new KeysetCursor(vacationRequest.getCreatedAt(), vacationRequest.getId());
     }
 
-    public VacationRequestDTO decide(Long id, ApprovalCommand cmd, String approverLogin) {
-        return null;
+    private static VacationRequestSummary toSummary(VacationRequest vacationRequest) {
+        return new VacationRequestSummary(
+            vacationRequest.getId(),
+            vacationRequest.getStartDate(),
+            vacationRequest.getEndDate(),
+            vacationRequest.getRequestedDays(),
+            vacationRequest.getStatus(),
+            vacationRequest.getApprovedStartDate(),
+            vacationRequest.getApprovedEndDate(),
+            vacationRequest.getApprovedDays(),
+            vacationRequest.getCreatedAt(),
+            vacationRequest.getDecidedAt(),
+            vacationRequest.getEmployee().getId(),
+            vacationRequest.getEmployee().getFirstName(),
+            vacationRequest.getEmployee().getLastName(),
+            vacationRequest.getApprover() != null ? vacationRequest.getApprover().getLogin() : null,
+            vacationRequest.getVersion()
+        );
     }
 }
@@ -0,0 +1,187 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.StatusCount;
+import com.mycompany.myapp.service.cache.PrimaryReads;
+import com.mycompany.myapp.service.dto.VacationStatusCountsDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service counting the vacationRequests of each status, in total and by the year their period starts in, without a
+ * {@code count(*)} per read.
+ * <p>
+ * The counts are loaded with one grouped query on first use and kept in memory. Each status transition records its
+ * change in the transaction making it; the changes of a transaction are applied together once it commits, and dropped
+ * if it rolls back. Transitions committed by other nodes, or committed while the counts are reloaded, are picked up by
+ * the reconciliation that reloads them from the database every minute. Both loads read the primary, never a replica
+ * lagging behind it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class VacationStatusCountService {
+
+    public static final String STATUS_METER_NAME = "vacation.requests";
+    public static final String STATUS_METER_DESCRIPTION = "Indicates the number of vacation requests in each status.";
+    public static final String STATUS_METER_STATUS_DIMENSION = "status";
+
+    private static final Logger LOG = LoggerFactory.getLogger(VacationStatusCountService.class);
+
+    private static final VacationStatus[] STATUSES = VacationStatus.values();
+
+    private final VacationRequestRepository vacationRequestRepository;
+
+    private final PrimaryReads primaryReads;
+
+    /**
+     * Counts by year, indexed by status ordinal; {@code null} until loaded. Guarded by {@code this}.
+     */
+    private Map<Integer, long[]> countsByYear;
+
+    public VacationStatusCountService(
+        VacationRequestRepository vacationRequestRepository,
+        PrimaryReads primaryReads,
+        MeterRegistry meterRegistry
+    ) {
+        this.vacationRequestRepository = vacationRequestRepository;
+        this.primaryReads = primaryReads;
+        for (VacationStatus status : STATUSES) {
+            Gauge.builder(STATUS_METER_NAME, this, service -> service.getCounts(null).counts().get(status))
+                .description(STATUS_METER_DESCRIPTION)
+                .tag(STATUS_METER_STATUS_DIMENSION, status.name().toLowerCase())
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Get the number of vacationRequests in each status.
+     *
+     * @param year the year the periods start in, or {@code null} for every year.
+     * @return the counts.
+     */
+    public VacationStatusCountsDTO getCounts(Integer year) {
+        Map<VacationStatus, Long> counts = new EnumMap<>(VacationStatus.class);
+        synchronized (this) {
+            if (countsByYear == null) {
+                countsByYear = load();
+            }
+            for (VacationStatus status : STATUSES) {
+                long count = 0;
+                if (year == null) {
+                    for (long[] yearCounts : countsByYear.values()) {
+                        count += yearCounts[status.ordinal()];
+                    }
+                } else {
+                    long[] yearCounts = countsByYear.get(year);
+                    count = yearCounts != null ? yearCounts[status.ordinal()] : 0;
+                }
+                counts.put(status, count);
+            }
+        }
+        return new VacationStatusCountsDTO(year, counts);
+    }
+
+    /**
+     * Record that a vacationRequest entered ({@code delta} 1) or left ({@code delta} -1) a status, to be counted once the
+     * current transaction commits.
+     *
+     * @param status the status.
+     * @param year the year the period of the vacationRequest starts in.
+     * @param delta the change of the count.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void countAfterCommit(VacationStatus status, int year, int delta) {
+        Changes changes = (Changes) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new Changes();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        changes.deltas.computeIfAbsent(year, key -> new long[STATUSES.length])[status.ordinal()] += delta;
+    }
+
+    /**
+     * Reload the counts once the current transaction completes, for vacationRequests changed outside this service.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reloadAfterCompletion() {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    synchronized (VacationStatusCountService.this) {
+                        countsByYear = null;
+                    }
+                }
+            }
+        );
+    }
+
+    /**
+     * Reload the counts from the database, dropping the drift from the transitions this node did not see.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void reconcile() {
+        Map<Integer, long[]> loaded = load();
+        synchronized (this) {
+            countsByYear = loaded;
+        }
+    }
+
+    private Map<Integer, long[]> load() {
+        List<StatusCount> statusCounts = primaryReads.load(vacationRequestRepository::countByStatusAndYear);
+        Map<Integer, long[]> loaded = new HashMap<>();
+        for (StatusCount statusCount : statusCounts) {
+            loaded.computeIfAbsent(statusCount.year(), key -> new long[STATUSES.length])[statusCount.status().ordinal()] =
+                statusCount.count();
+        }
+        LOG.debug("Loaded vacation request counts of {} years", loaded.size());
+        return loaded;
+    }
+
+    private synchronized void apply(Map<Integer, long[]> deltas) {
+        if (countsByYear == null) {
+            // the next load reads the committed rows
+            return;
+        }
+        deltas.forEach((year, yearDeltas) -> {
+            long[] yearCounts = countsByYear.computeIfAbsent(year, key -> new long[STATUSES.length]);
+            for (int i = 0; i < yearCounts.length; i++) {
+                yearCounts[i] += yearDeltas[i];
+            }
+        });
+    }
+
+    /**
+     * The count changes of a transaction, bound to it as a resource.
+     */
+    private final class Changes implements TransactionSynchronization {
+
+        private final Map<Integer, long[]> deltas = new LinkedHashMap<>();
+
+        @Override
+        public void afterCommit() {
+            apply(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(VacationStatusCountService.this);
+        }
+    }
+}
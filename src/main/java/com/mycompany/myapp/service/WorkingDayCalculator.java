@@ -0,0 +1,135 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.repository.HolidayRepository;
+import com.mycompany.myapp.service.cache.CacheInvalidation;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts the working days of a period: days that are neither a weekend day nor a holiday of the calendar.
+ * <p>
+ * Each calendar year of a holiday calendar is turned once into a prefix-sum array, {@code prefix[d]} being the number
+ * of working days among the first {@code d} days of the year, so counting the days of a period costs two array reads
+ * per year it spans. Arrays are loaded on first use into the {@value #WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE} cache,
+ * whose size is bounded like any other cache region, and dropped on every node when a holiday of their calendar and
+ * year changes.
+ */
+@Service
+public class WorkingDayCalculator {
+
+    public static final String WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE = "workingDaysByCalendarAndYear";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkingDayCalculator.class);
+
+    private final HolidayRepository holidayRepository;
+
+    private final CacheManager cacheManager;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    private final ApplicationProperties applicationProperties;
+
+    public WorkingDayCalculator(
+        HolidayRepository holidayRepository,
+        CacheManager cacheManager,
+        CacheInvalidationService cacheInvalidationService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.holidayRepository = holidayRepository;
+        this.cacheManager = cacheManager;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Count the working days of a period in the default holiday calendar.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @return the number of working days, {@code 0} if {@code to} is before {@code from}.
+     */
+    public int workingDays(LocalDate from, LocalDate to) {
+        return workingDays(applicationProperties.getVacation().getHolidayCalendar(), from, to);
+    }
+
+    /**
+     * Count the working days of a period.
+     *
+     * @param calendar the holiday calendar.
+     * @param from the first day.
+     * @param to the last day, included.
+     * @return the number of working days, {@code 0} if {@code to} is before {@code from}.
+     */
+    public int workingDays(String calendar, LocalDate from, LocalDate to) {
+        int days = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            int calendarYear = year;
+            int[] prefix = prefixSumsCache().get(cacheKey(calendar, year), () -> load(calendar, calendarYear));
+            int firstDay = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int endDay = year == to.getYear() ? to.getDayOfYear() : prefix.length - 1;
+            days += prefix[endDay] - prefix[firstDay];
+        }
+        return Math.max(days, 0);
+    }
+
+    /**
+     * Drop the cached year of a calendar once the current transaction completes, here and on the other nodes.
+     *
+     * @param calendar the holiday calendar.
+     * @param year the calendar year.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void invalidateAfterCompletion(String calendar, int year) {
+        String key = cacheKey(calendar, year);
+        cacheInvalidationService.broadcast(CacheInvalidation.evict(WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE, key));
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    prefixSumsCache().evict(key);
+                }
+            }
+        );
+    }
+
+    static String cacheKey(String calendar, int year) {
+        return calendar + ":" + year;
+    }
+
+    private Cache prefixSumsCache() {
+        return Objects.requireNonNull(cacheManager.getCache(WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE));
+    }
+
+    private int[] load(String calendar, int year) {
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        LocalDate last = LocalDate.of(year, 12, 31);
+        Set<LocalDate> holidays = new HashSet<>(holidayRepository.findDates(calendar, first, last));
+        int length = last.getDayOfYear();
+        int[] prefix = new int[length + 1];
+        LocalDate day = first;
+        for (int d = 0; d < length; d++, day = day.plusDays(1)) {
+            prefix[d + 1] = prefix[d] + (isWeekend(day) || holidays.contains(day) ? 0 : 1);
+        }
+        LOG.debug("Loaded working days of calendar {} for {}: {} holidays", calendar, year, holidays.size());
+        return prefix;
+    }
+
+    private static boolean isWeekend(LocalDate day) {
+        DayOfWeek dayOfWeek = day.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+}
@@ -0,0 +1,53 @@
+package com.mycompany.myapp.service.cache;
+
+/**
+ * An entry or a region to drop from the caches of every node.
+ *
+ * @param type what to drop.
+ * @param region the cache name, entity name or collection role; {@code null} for {@link Type#ALL}.
+ * @param key the cache key, entity id or collection owner id; {@code null} for whole regions.
+ */
+public record CacheInvalidation(Type type, String region, Object key) {
+    public enum Type {
+        /**
+         * An entry of a Spring cache.
+         */
+        EVICT,
+        /**
+         * A whole cache, Spring or Hibernate.
+         */
+        CLEAR,
+        /**
+         * An entity of the Hibernate second level cache.
+         */
+        ENTITY,
+        /**
+         * A collection of the Hibernate second level cache.
+         */
+        COLLECTION,
+        /**
+         * Every cache.
+         */
+        ALL,
+    }
+
+    public static CacheInvalidation evict(String cacheName, Object key) {
+        return new CacheInvalidation(Type.EVICT, cacheName, key);
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(Type.CLEAR, cacheName, null);
+    }
+
+    public static CacheInvalidation entity(String entityName, Object id) {
+        return new CacheInvalidation(Type.ENTITY, entityName, id);
+    }
+
+    public static CacheInvalidation collection(String role, Object ownerId) {
+        return new CacheInvalidation(Type.COLLECTION, role, ownerId);
+    }
+
+    public static CacheInvalidation all() {
+        return new CacheInvalidation(Type.ALL, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.service.cache;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between the nodes of the application.
+ */
+public interface CacheInvalidationBus {
+    /**
+     * Send invalidations to the other nodes. Delivery is best effort: a node that missed some drops all its caches.
+     *
+     * @param invalidations the invalidations, sent together.
+     */
+    void publish(List<CacheInvalidation> invalidations);
+
+    /**
+     * Receive the invalidations sent by the other nodes.
+     *
+     * @param subscriber called with each received batch, possibly from another thread.
+     */
+    void subscribe(Consumer<List<CacheInvalidation>> subscriber);
+}
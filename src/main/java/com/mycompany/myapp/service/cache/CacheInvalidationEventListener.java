@@ -0,0 +1,85 @@
+package com.mycompany.myapp.service.cache;
+
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Hibernate listener broadcasting the second level cache entries made stale by a flush: updated and deleted entities,
+ * and changed collections. Inserts are not broadcast, no other node can hold them yet.
+ * <p>
+ * The events are raised while flushing, inside the transaction, so {@link CacheInvalidationService} publishes them
+ * with the rest of the batch once it commits.
+ */
+public class CacheInvalidationEventListener
+    implements
+        PostUpdateEventListener,
+        PostDeleteEventListener,
+        PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener,
+        PostCollectionRecreateEventListener {
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    public CacheInvalidationEventListener(CacheInvalidationService cacheInvalidationService) {
+        this.cacheInvalidationService = cacheInvalidationService;
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        entityChanged(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        entityChanged(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        collectionChanged(event);
+    }
+
+    private void entityChanged(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache()) {
+            cacheInvalidationService.broadcast(CacheInvalidation.entity(persister.getEntityName(), id));
+        }
+    }
+
+    private void collectionChanged(AbstractCollectionEvent event) {
+        Object ownerId = event.getAffectedOwnerIdOrNull();
+        String role = event.getCollection().getRole();
+        if (ownerId == null || role == null) {
+            return;
+        }
+        CollectionPersister persister = event.getSession().getFactory().getMappingMetamodel().getCollectionDescriptor(role);
+        if (persister.hasCache()) {
+            cacheInvalidationService.broadcast(CacheInvalidation.collection(role, ownerId));
+        }
+    }
+}
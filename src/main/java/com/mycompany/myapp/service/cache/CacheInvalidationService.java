@@ -0,0 +1,114 @@
+package com.mycompany.myapp.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service keeping the caches of the other nodes consistent with the changes of this one.
+ * <p>
+ * Invalidations raised during a transaction are collected and published as one batch once it commits, and dropped if
+ * it rolls back; outside of a transaction they are published right away. Invalidations received from the other nodes
+ * are applied to the local Spring caches and Hibernate second level cache. The local caches are never touched here:
+ * callers evict their own entries, and Hibernate updates its own regions.
+ */
+@Service
+public class CacheInvalidationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationService.class);
+
+    private final CacheInvalidationBus bus;
+
+    private final CacheManager cacheManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheInvalidationService(CacheInvalidationBus bus, CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.bus = bus;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        bus.subscribe(this::apply);
+    }
+
+    /**
+     * Invalidate an entry or a region on the other nodes, once the current transaction commits.
+     *
+     * @param invalidation the invalidation.
+     */
+    public void broadcast(CacheInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.publish(List.of(invalidation));
+            return;
+        }
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        batch.invalidations.add(invalidation);
+    }
+
+    /**
+     * Apply invalidations received from another node.
+     *
+     * @param invalidations the invalidations.
+     */
+    void apply(List<CacheInvalidation> invalidations) {
+        LOG.debug("Applying {} cache invalidations", invalidations.size());
+        for (CacheInvalidation invalidation : invalidations) {
+            switch (invalidation.type()) {
+                case EVICT -> {
+                    Cache cache = cacheManager.getCache(invalidation.region());
+                    if (cache != null) {
+                        cache.evict(invalidation.key());
+                    }
+                }
+                case CLEAR -> {
+                    Cache cache = cacheManager.getCache(invalidation.region());
+                    if (cache != null) {
+                        cache.clear();
+                    }
+                }
+                case ENTITY -> secondLevelCache().evictEntityData(invalidation.region(), invalidation.key());
+                case COLLECTION -> secondLevelCache().evictCollectionData(invalidation.region(), invalidation.key());
+                case ALL -> {
+                    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+                    secondLevelCache().evictAllRegions();
+                }
+            }
+        }
+    }
+
+    private org.hibernate.Cache secondLevelCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * The invalidations of a transaction, bound to it as a resource.
+     */
+    private final class Batch implements TransactionSynchronization {
+
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            bus.publish(new ArrayList<>(invalidations));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationService.this);
+        }
+    }
+}
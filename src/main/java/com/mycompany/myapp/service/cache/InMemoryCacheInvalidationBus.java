@@ -0,0 +1,26 @@
+package com.mycompany.myapp.service.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} confined to the JVM, for a single node and for tests: batches are delivered to the
+ * subscribers right away, on the publishing thread.
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<List<CacheInvalidation>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<CacheInvalidation> invalidations) {
+        for (Consumer<List<CacheInvalidation>> subscriber : subscribers) {
+            subscriber.accept(invalidations);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
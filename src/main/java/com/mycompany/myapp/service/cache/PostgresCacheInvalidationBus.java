@@ -0,0 +1,268 @@
+package com.mycompany.myapp.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link CacheInvalidationBus} over PostgreSQL {@code LISTEN} / {@code NOTIFY}.
+ * <p>
+ * A batch is sent as few notifications as the 8000 byte payload limit allows, one invalidation per line, after the id
+ * of the sending node so that a node skips its own batches. Each node listens on a connection of its own, outside of
+ * the pool; when it is lost, the notifications sent in the meantime are lost too, so the node drops all its caches once
+ * it listens again.
+ */
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    static final String CHANNEL = "cache_invalidation";
+
+    /**
+     * Below the 8000 bytes accepted by {@code NOTIFY}.
+     */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private static final int POLL_MILLIS = 500;
+
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+
+    private final DataSource publishingDataSource;
+
+    private final DataSource listeningDataSource;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final List<Consumer<List<CacheInvalidation>>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    private Thread listener;
+
+    /**
+     * @param publishingDataSource the pool to send notifications with.
+     * @param listeningDataSource opens the connection to listen on, held as long as the bus runs: better not a pool.
+     */
+    public PostgresCacheInvalidationBus(DataSource publishingDataSource, DataSource listeningDataSource) {
+        this.publishingDataSource = publishingDataSource;
+        this.listeningDataSource = listeningDataSource;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    public synchronized void close() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.join(2L * POLL_MILLIS);
+            listener = null;
+        }
+    }
+
+    /**
+     * Sends the notifications on a connection of its own, so it can be called after the commit of the transaction that
+     * caused them, while the connection of that transaction is still bound to the thread.
+     */
+    @Override
+    public void publish(List<CacheInvalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        try (Connection connection = publishingDataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+                for (String payload : payloads(nodeId, invalidations)) {
+                    statement.setString(1, CHANNEL);
+                    statement.setString(2, payload);
+                    statement.executeQuery().close();
+                }
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            // the other nodes keep their entries until they expire
+            LOG.warn("Could not publish {} cache invalidations: {}", invalidations.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<CacheInvalidation>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    private void listen() {
+        long reconnectDelay = 1000;
+        boolean listenedBefore = false;
+        while (running) {
+            try (Connection connection = listeningDataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + CHANNEL);
+                }
+                if (listenedBefore) {
+                    LOG.info("Listening to cache invalidations again, dropping all caches");
+                    deliver(List.of(CacheInvalidation.all()));
+                }
+                listenedBefore = true;
+                reconnectDelay = 1000;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOG.warn("Lost the cache invalidation connection, retrying in {} ms: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        int headerEnd = payload.indexOf('\n');
+        if (headerEnd < 0 || payload.substring(0, headerEnd).equals(nodeId)) {
+            return;
+        }
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        for (String line : payload.substring(headerEnd + 1).split("\n")) {
+            CacheInvalidation invalidation = decode(line);
+            if (invalidation == null) {
+                LOG.warn("Ignoring unknown cache invalidation {}", line);
+            } else {
+                invalidations.add(invalidation);
+            }
+        }
+        deliver(invalidations);
+    }
+
+    private void deliver(List<CacheInvalidation> invalidations) {
+        for (Consumer<List<CacheInvalidation>> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidations);
+            } catch (RuntimeException e) {
+                LOG.warn("Could not apply cache invalidations", e);
+            }
+        }
+    }
+
+    /**
+     * Split a batch into notification payloads: the node id, then one invalidation per line.
+     */
+    static List<String> payloads(String nodeId, List<CacheInvalidation> invalidations) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        int payloadBytes = utf8Length(nodeId);
+        int lines = 0;
+        for (CacheInvalidation invalidation : invalidations) {
+            String line = encode(invalidation);
+            int lineBytes = utf8Length(line) + 1;
+            if (lineBytes + utf8Length(nodeId) + 1 > MAX_PAYLOAD_BYTES) {
+                // a key too long for a notification: drop the whole region instead
+                line = encode(invalidation.region() != null ? CacheInvalidation.clear(invalidation.region()) : CacheInvalidation.all());
+                lineBytes = utf8Length(line) + 1;
+            }
+            if (lines > 0 && payloadBytes + lineBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+                payload.append(nodeId);
+                payloadBytes = utf8Length(nodeId);
+                lines = 0;
+            }
+            payload.append('\n').append(line);
+            payloadBytes += lineBytes;
+            lines++;
+        }
+        if (lines > 0) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * {@code type TAB region TAB key}, the key prefixed by its type: {@code s} for strings, {@code l} for longs. Entries
+     * with other keys are sent as their whole region.
+     */
+    static String encode(CacheInvalidation invalidation) {
+        Object key = invalidation.key();
+        String encodedKey;
+        if (key == null) {
+            encodedKey = "";
+        } else if (key instanceof String string && string.indexOf('\n') < 0) {
+            encodedKey = "s" + string;
+        } else if (key instanceof Long) {
+            encodedKey = "l" + key;
+        } else {
+            return encode(CacheInvalidation.clear(invalidation.region()));
+        }
+        String region = invalidation.region() != null ? invalidation.region() : "";
+        return invalidation.type().name() + '\t' + region + '\t' + encodedKey;
+    }
+
+    /**
+     * @return the invalidation, or {@code null} if the line cannot be read.
+     */
+    static CacheInvalidation decode(String line) {
+        String[] fields = line.split("\t", 3);
+        if (fields.length != 3) {
+            return null;
+        }
+        CacheInvalidation.Type type;
+        try {
+            type = CacheInvalidation.Type.valueOf(fields[0]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        String region = fields[1].isEmpty() ? null : fields[1];
+        String encodedKey = fields[2];
+        Object key;
+        if (encodedKey.isEmpty()) {
+            key = null;
+        } else if (encodedKey.charAt(0) == 's') {
+            key = encodedKey.substring(1);
+        } else if (encodedKey.charAt(0) == 'l') {
+            try {
+                key = Long.valueOf(encodedKey.substring(1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        return new CacheInvalidation(type, region, key);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
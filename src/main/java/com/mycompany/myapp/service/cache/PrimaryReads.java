@@ -0,0 +1,51 @@
+package com.mycompany.myapp.service.cache;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the loads whose result is kept in memory against the primary database.
+ * <p>
+ * When {@code application.datasource.replica.url} is set, read-only transactions read a replica, which may lag behind
+ * the primary: a row it has not caught up with yet would be kept, and served to every user of this node, until the
+ * next invalidation. Such loads run in a read-write transaction of their own instead, unless the current transaction
+ * already is one.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate readWriteTransaction;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager, ApplicationProperties applicationProperties) {
+        if (applicationProperties.getDatasource().getReplica().getUrl() == null) {
+            this.readWriteTransaction = null;
+        } else {
+            this.readWriteTransaction = new TransactionTemplate(transactionManager);
+            this.readWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+    }
+
+    /**
+     * Run a load on the primary.
+     *
+     * @param loader the load.
+     * @return the result of the load.
+     */
+    public <T> T load(Supplier<T> loader) {
+        if (readWriteTransaction == null || isReadWriteTransactionActive()) {
+            return loader.get();
+        }
+        return readWriteTransaction.execute(status -> loader.get());
+    }
+
+    private static boolean isReadWriteTransactionActive() {
+        return (
+            TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        );
+    }
+}
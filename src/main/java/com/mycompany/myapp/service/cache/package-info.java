@@ -0,0 +1,4 @@
+/**
+ * Invalidation of the caches of the other application nodes.
+ */
+package com.mycompany.myapp.service.cache;
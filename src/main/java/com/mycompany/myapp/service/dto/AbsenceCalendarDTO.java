@@ -0,0 +1,12 @@
+package com.mycompany.myapp.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Number of employees away on each day of a period.
+ *
+ * @param from the first day of the period.
+ * @param to the last day of the period, included.
+ * @param absent the number of employees away, {@code absent[0]} being for {@code from}.
+ */
+public record AbsenceCalendarDTO(LocalDate from, LocalDate to, int[] absent) {}
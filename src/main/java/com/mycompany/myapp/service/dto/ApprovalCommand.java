@@ -7,5 +7,6 @@ public record ApprovalCommand(
     LocalDate approvedStartDate,
     LocalDate approvedEndDate,
     Integer approvedDays,
-    String approverComment
+    String approverComment,
+    Long version // optional: the version the reviewer decided on, checked against the current one
 ) {}
@@ -0,0 +1,13 @@
+package com.mycompany.myapp.service.dto;
+
+import java.util.List;
+
+/**
+ * One decision applied to several vacation requests, selected either by {@code ids} or, when no ids are given, by
+ * {@code filter}.
+ */
+public record BulkDecisionCommand(List<Long> ids, VacationRequestFilter filter, ApprovalCommand decision) {
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+}
@@ -0,0 +1,31 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+
+/**
+ * Outcome of a bulk decision for one vacation request.
+ *
+ * @param id the id of the vacation request.
+ * @param outcome what happened to it.
+ * @param status its status after the decision, {@code null} when not found.
+ * @param errorKey why it was skipped, {@code null} otherwise.
+ */
+public record BulkDecisionResult(Long id, Outcome outcome, VacationStatus status, String errorKey) {
+    public enum Outcome {
+        DECIDED,
+        SKIPPED,
+        NOT_FOUND,
+    }
+
+    public static BulkDecisionResult decided(Long id, VacationStatus status) {
+        return new BulkDecisionResult(id, Outcome.DECIDED, status, null);
+    }
+
+    public static BulkDecisionResult skipped(Long id, VacationStatus status, String errorKey) {
+        return new BulkDecisionResult(id, Outcome.SKIPPED, status, errorKey);
+    }
+
+    public static BulkDecisionResult notFound(Long id) {
+        return new BulkDecisionResult(id, Outcome.NOT_FOUND, null, "idnotfound");
+    }
+}
@@ -0,0 +1,19 @@
+package com.mycompany.myapp.service.dto;
+
+import java.util.List;
+
+/**
+ * A slice of a keyset paginated result.
+ *
+ * @param content the rows of the slice.
+ * @param nextCursor the opaque cursor to fetch the following slice, or {@code null} on the last slice.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
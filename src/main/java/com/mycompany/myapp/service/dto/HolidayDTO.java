@@ -0,0 +1,89 @@
+package com.mycompany.myapp.service.dto;
+
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.Holiday} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class HolidayDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    @Size(max = 50)
+    private String calendar;
+
+    @NotNull
+    private LocalDate date;
+
+    @NotNull
+    private String name;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCalendar() {
+        return calendar;
+    }
+
+    public void setCalendar(String calendar) {
+        this.calendar = calendar;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HolidayDTO)) {
+            return false;
+        }
+
+        HolidayDTO holidayDTO = (HolidayDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, holidayDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "HolidayDTO{" +
+            "id=" + getId() +
+            ", calendar='" + getCalendar() + "'" +
+            ", date='" + getDate() + "'" +
+            ", name='" + getName() + "'" +
+            "}";
+    }
+}
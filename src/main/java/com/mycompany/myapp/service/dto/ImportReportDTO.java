@@ -0,0 +1,13 @@
+package com.mycompany.myapp.service.dto;
+
+import java.util.Map;
+
+/**
+ * Summary of a bulk import.
+ *
+ * @param received the rows read from the file.
+ * @param imported the rows inserted.
+ * @param skipped the valid rows not inserted because they already exist.
+ * @param rejected the invalid rows, counted by reason.
+ */
+public record ImportReportDTO(long received, long imported, long skipped, Map<String, Long> rejected) {}
@@ -0,0 +1,54 @@
+package com.mycompany.myapp.service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last row of a keyset (seek) page, ordered by {@code createdAt} then {@code id}.
+ * <p>
+ * The cursor is handed to clients as an opaque, URL safe token; its layout is not part of the API.
+ */
+public record KeysetCursor(Instant createdAt, Long id) {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final char SEPARATOR = ':';
+
+    public KeysetCursor {
+        Objects.requireNonNull(createdAt, "createdAt");
+        Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Encode this cursor as an opaque token.
+     *
+     * @return the token.
+     */
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + String.valueOf(SEPARATOR) + createdAt.getNano() + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a token previously produced by {@link #encode()}.
+     *
+     * @param token the token.
+     * @return the cursor.
+     * @throws IllegalArgumentException if the token is not a valid cursor.
+     */
+    public static KeysetCursor decode(String token) {
+        String[] parts = new String(DECODER.decode(token), StandardCharsets.US_ASCII).split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            return new KeysetCursor(Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])), Long.valueOf(parts[2]));
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
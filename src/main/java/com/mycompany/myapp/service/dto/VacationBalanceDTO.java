@@ -0,0 +1,15 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.VacationBalance} entity.
+ *
+ * @param availableDays the days that can still be requested: entitled minus used minus pending.
+ */
+public record VacationBalanceDTO(Long employeeId, Integer year, Integer entitledDays, Integer usedDays, Integer pendingDays, Integer availableDays)
+    implements Serializable {
+    public static VacationBalanceDTO of(Long employeeId, int year, int entitledDays, int usedDays, int pendingDays) {
+        return new VacationBalanceDTO(employeeId, year, entitledDays, usedDays, pendingDays, entitledDays - usedDays - pendingDays);
+    }
+}
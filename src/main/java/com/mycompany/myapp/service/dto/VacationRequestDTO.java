@@ -46,6 +46,8 @@ public class VacationRequestDTO implements Serializable {
 
     private UserDTO approver;
 
+    private Long version;
+
     public Long getId() {
         return id;
     }
@@ -150,6 +152,14 @@ public class VacationRequestDTO implements Serializable {
         this.approver = approver;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -188,6 +198,7 @@ public class VacationRequestDTO implements Serializable {
             ", decidedAt='" + getDecidedAt() + "'" +
             ", employee=" + getEmployee() +
             ", approver=" + getApprover() +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,14 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import java.time.LocalDate;
+
+/**
+ * Selects vacation requests by status, employee and period. Absent criteria match everything; the status defaults to
+ * {@link VacationStatus#PENDING}.
+ */
+public record VacationRequestFilter(VacationStatus status, Long employeeId, LocalDate from, LocalDate to) {
+    public VacationStatus statusOrPending() {
+        return status != null ? status : VacationStatus.PENDING;
+    }
+}
@@ -0,0 +1,12 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import java.util.Map;
+
+/**
+ * Number of vacation requests in each status.
+ *
+ * @param year the year the periods start in, or {@code null} for every year.
+ * @param counts the number of vacation requests, by status.
+ */
+public record VacationStatusCountsDTO(Integer year, Map<VacationStatus, Long> counts) {}
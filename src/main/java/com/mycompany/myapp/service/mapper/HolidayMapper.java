@@ -0,0 +1,11 @@
+package com.mycompany.myapp.service.mapper;
+
+import com.mycompany.myapp.domain.Holiday;
+import com.mycompany.myapp.service.dto.HolidayDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Holiday} and its DTO {@link HolidayDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface HolidayMapper extends EntityMapper<HolidayDTO, Holiday> {}
@@ -0,0 +1,67 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.service.AbsenceCalendarService;
+import com.mycompany.myapp.service.dto.AbsenceCalendarDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the team absence calendar.
+ */
+@RestController
+@RequestMapping("/api/absence-calendar")
+@PreAuthorize("hasRole('ROLE_HR')")
+public class AbsenceCalendarResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbsenceCalendarResource.class);
+
+    private static final String ENTITY_NAME = "absenceCalendar";
+
+    private static final long MAX_RANGE_DAYS = 3 * 366;
+
+    private final AbsenceCalendarService absenceCalendarService;
+
+    public AbsenceCalendarResource(AbsenceCalendarService absenceCalendarService) {
+        this.absenceCalendarService = absenceCalendarService;
+    }
+
+    /**
+     * {@code GET  /absence-calendar?from=&to=} : count the employees away on each day of a period.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param employeeIds the employees to consider, everybody when absent.
+     * @return the daily counts, or with status {@code 400 (Bad Request)} if the period is invalid or longer than three years.
+     */
+    @GetMapping("")
+    public AbsenceCalendarDTO getAbsenceCalendar(
+        @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(name = "employeeIds", required = false) List<Long> employeeIds
+    ) {
+        LOG.debug("REST request to get the absence calendar from {} to {}", from, to);
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestAlertException("Invalid period", ENTITY_NAME, "periodinvalid");
+        }
+        return absenceCalendarService.countAbsent(from, to, employeeIds);
+    }
+
+    /**
+     * {@code GET  /absence-calendar/:day} : get the employees away on a day.
+     *
+     * @param day the day.
+     * @return the ids of the employees away.
+     */
+    @GetMapping("/{day}")
+    public List<Long> getAbsentEmployees(@PathVariable("day") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+        LOG.debug("REST request to get the employees away on {}", day);
+        return absenceCalendarService.findAbsentEmployeeIds(day);
+    }
+}
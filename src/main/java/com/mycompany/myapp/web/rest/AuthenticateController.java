@@ -4,17 +4,23 @@ import static com.mycompany.myapp.security.SecurityUtils.AUTHORITIES_CLAIM;
 import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
 import static com.mycompany.myapp.security.SecurityUtils.USER_ID_CLAIM;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.security.DomainUserDetailsService.UserWithId;
+import com.mycompany.myapp.security.LoginThrottle;
+import com.mycompany.myapp.service.RefreshTokenService;
 import com.mycompany.myapp.web.rest.vm.LoginVM;
+import com.mycompany.myapp.web.rest.vm.RefreshTokenVM;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.security.Principal;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +28,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -40,21 +47,32 @@ public class AuthenticateController {
 
     private final JwtEncoder jwtEncoder;
 
-    @Value("${jhipster.security.authentication.jwt.token-validity-in-seconds:0}")
-    private long tokenValidityInSeconds;
-
-    @Value("${jhipster.security.authentication.jwt.token-validity-in-seconds-for-remember-me:0}")
-    private long tokenValidityInSecondsForRememberMe;
+    private final Duration accessTokenValidity;
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public AuthenticateController(JwtEncoder jwtEncoder, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final LoginThrottle loginThrottle;
+
+    private final RefreshTokenService refreshTokenService;
+
+    public AuthenticateController(
+        JwtEncoder jwtEncoder,
+        ApplicationProperties applicationProperties,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        LoginThrottle loginThrottle,
+        RefreshTokenService refreshTokenService
+    ) {
         this.jwtEncoder = jwtEncoder;
+        this.accessTokenValidity = applicationProperties.getSecurity().getAccessTokenValidity();
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.loginThrottle = loginThrottle;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        // refused attempts cost neither a user lookup nor a password hash
+        loginThrottle.acquire(loginVM.getUsername(), loginThrottle.clientAddress(request));
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
@@ -62,10 +80,36 @@ public class AuthenticateController {
 
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = this.createToken(authentication, loginVM.isRememberMe());
+        String jwt = this.createToken(authentication);
+        String refreshToken = authentication.getPrincipal() instanceof UserWithId user
+            ? refreshTokenService.create(user.getId(), loginVM.isRememberMe())
+            : null;
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setBearerAuth(jwt);
-        return new ResponseEntity<>(new JWTToken(jwt), httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(new JWTToken(jwt, refreshToken), httpHeaders, HttpStatus.OK);
+    }
+
+    /**
+     * {@code POST /authenticate/refresh} : exchange a refresh token for a new access token and a new refresh token.
+     *
+     * @param refreshTokenVM the refresh token.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the new tokens,
+     * or with status {@code 401 (Unauthorized)} if the refresh token is not valid.
+     */
+    @PostMapping("/authenticate/refresh")
+    public ResponseEntity<JWTToken> refresh(@Valid @RequestBody RefreshTokenVM refreshTokenVM) {
+        LOG.debug("REST request to refresh an access token");
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshTokenVM.getRefreshToken());
+        List<GrantedAuthority> authorities = rotation.authorities().stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+            new UserWithId(rotation.login(), "", authorities, rotation.userId()),
+            null,
+            authorities
+        );
+        String jwt = this.createToken(authentication);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setBearerAuth(jwt);
+        return new ResponseEntity<>(new JWTToken(jwt, rotation.refreshToken()), httpHeaders, HttpStatus.OK);
     }
 
     /**
@@ -80,16 +124,12 @@ public class AuthenticateController {
         return ResponseEntity.status(principal == null ? HttpStatus.UNAUTHORIZED : HttpStatus.NO_CONTENT).build();
     }
 
-    public String createToken(Authentication authentication, boolean rememberMe) {
+    public String createToken(Authentication authentication) {
         String authorities = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.joining(" "));
 
+        // access tokens are short-lived, even with rememberMe: the refresh token carries the session
         Instant now = Instant.now();
-        Instant validity;
-        if (rememberMe) {
-            validity = now.plus(this.tokenValidityInSecondsForRememberMe, ChronoUnit.SECONDS);
-        } else {
-            validity = now.plus(this.tokenValidityInSeconds, ChronoUnit.SECONDS);
-        }
+        Instant validity = now.plus(this.accessTokenValidity);
 
         // @formatter:off
         JwtClaimsSet.Builder builder = JwtClaimsSet.builder()
@@ -108,12 +148,16 @@ public class AuthenticateController {
     /**
      * Object to return as body in JWT Authentication.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     static class JWTToken {
 
         private String idToken;
 
-        JWTToken(String idToken) {
+        private String refreshToken;
+
+        JWTToken(String idToken, String refreshToken) {
             this.idToken = idToken;
+            this.refreshToken = refreshToken;
         }
 
         @JsonProperty("id_token")
@@ -124,5 +168,14 @@ public class AuthenticateController {
         void setIdToken(String idToken) {
             this.idToken = idToken;
         }
+
+        @JsonProperty("refresh_token")
+        String getRefreshToken() {
+            return refreshToken;
+        }
+
+        void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
     }
 }
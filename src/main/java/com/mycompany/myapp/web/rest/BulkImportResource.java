@@ -0,0 +1,54 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.BulkImportService;
+import com.mycompany.myapp.service.dto.ImportReportDTO;
+import java.io.InputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for bulk imports of CSV files.
+ * <p>
+ * The request body is handed to the database as a stream, so files of any size can be posted as is, e.g.
+ * {@code curl -H 'Content-Type: text/csv' --data-binary @vacation_request.csv}.
+ */
+@RestController
+@RequestMapping("/api/admin/imports")
+@PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+public class BulkImportResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkImportResource.class);
+
+    private final BulkImportService bulkImportService;
+
+    public BulkImportResource(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    /**
+     * {@code POST  /admin/imports/employees} : Import employees from a CSV file.
+     *
+     * @param csv the CSV content, in the layout of {@code fake-data/employee.csv}.
+     * @return the import report, or with status {@code 400 (Bad Request)} if the file cannot be parsed.
+     */
+    @PostMapping(value = "/employees", consumes = "text/csv")
+    public ImportReportDTO importEmployees(InputStream csv) {
+        LOG.debug("REST request to import Employees");
+        return bulkImportService.importEmployees(csv);
+    }
+
+    /**
+     * {@code POST  /admin/imports/vacation-requests} : Import vacation requests from a CSV file.
+     *
+     * @param csv the CSV content, in the layout of {@code fake-data/vacation_request.csv}.
+     * @return the import report, or with status {@code 400 (Bad Request)} if the file cannot be parsed.
+     */
+    @PostMapping(value = "/vacation-requests", consumes = "text/csv")
+    public ImportReportDTO importVacationRequests(InputStream csv) {
+        LOG.debug("REST request to import VacationRequests");
+        return bulkImportService.importVacationRequests(csv);
+    }
+}
@@ -13,10 +13,17 @@ import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -131,15 +138,31 @@ public class EmployeeResource {
     }
 
     /**
-     * {@code GET  /employees} : get all the employees.
+     * {@code GET  /employees} : get the employees, one page at a time.
      *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @param unpaged legacy flag to get all the employees in one list, refused above {@code application.pagination.unpaged-row-ceiling} rows.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of employees in body.
+     * @param search only the employees whose first name, last name or login starts with this text, ignoring case.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of employees in body,
+     * or with status {@code 413 (Payload Too Large)} if an unpaged result is too large.
      */
     @GetMapping("")
-    public List<EmployeeDTO> getAllEmployees(@RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload) {
-        LOG.debug("REST request to get all Employees");
-        return employeeService.findAll();
+    public ResponseEntity<List<EmployeeDTO>> getAllEmployees(
+        @ParameterObject Pageable pageable,
+        @RequestParam(name = "unpaged", required = false, defaultValue = "false") boolean unpaged,
+        @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload,
+        @RequestParam(name = "search", required = false) String search
+    ) {
+        LOG.debug("REST request to get a page of Employees");
+        if (unpaged) {
+            return ResponseEntity.ok(employeeService.findAll());
+        }
+        Page<EmployeeDTO> page = StringUtils.hasText(search)
+            ? employeeService.search(search, pageable)
+            : eagerload ? employeeService.findAllWithEagerRelationships(pageable) : employeeService.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
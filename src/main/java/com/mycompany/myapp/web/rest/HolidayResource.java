@@ -0,0 +1,219 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.repository.HolidayRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.HolidayService;
+import com.mycompany.myapp.service.WorkingDayCalculator;
+import com.mycompany.myapp.service.dto.HolidayDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for managing {@link com.mycompany.myapp.domain.Holiday}.
+ */
+@RestController
+@RequestMapping("/api/holidays")
+public class HolidayResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HolidayResource.class);
+
+    private static final String ENTITY_NAME = "holiday";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final HolidayService holidayService;
+
+    private final HolidayRepository holidayRepository;
+
+    private final WorkingDayCalculator workingDayCalculator;
+
+    public HolidayResource(HolidayService holidayService, HolidayRepository holidayRepository, WorkingDayCalculator workingDayCalculator) {
+        this.holidayService = holidayService;
+        this.holidayRepository = holidayRepository;
+        this.workingDayCalculator = workingDayCalculator;
+    }
+
+    /**
+     * {@code POST  /holidays} : Create a new holiday.
+     *
+     * @param holidayDTO the holidayDTO to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new holidayDTO, or with status {@code 400 (Bad Request)} if the holiday has already an ID.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<HolidayDTO> createHoliday(@Valid @RequestBody HolidayDTO holidayDTO) throws URISyntaxException {
+        LOG.debug("REST request to save Holiday : {}", holidayDTO);
+        if (holidayDTO.getId() != null) {
+            throw new BadRequestAlertException("A new holiday cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        holidayDTO = holidayService.save(holidayDTO);
+        return ResponseEntity.created(new URI("/api/holidays/" + holidayDTO.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, holidayDTO.getId().toString()))
+            .body(holidayDTO);
+    }
+
+    /**
+     * {@code PUT  /holidays/:id} : Updates an existing holiday.
+     *
+     * @param id the id of the holidayDTO to save.
+     * @param holidayDTO the holidayDTO to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated holidayDTO,
+     * or with status {@code 400 (Bad Request)} if the holidayDTO is not valid,
+     * or with status {@code 500 (Internal Server Error)} if the holidayDTO couldn't be updated.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<HolidayDTO> updateHoliday(
+        @PathVariable(value = "id", required = false) final Long id,
+        @Valid @RequestBody HolidayDTO holidayDTO
+    ) throws URISyntaxException {
+        LOG.debug("REST request to update Holiday : {}, {}", id, holidayDTO);
+        if (holidayDTO.getId() == null) {
+            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
+        }
+        if (!Objects.equals(id, holidayDTO.getId())) {
+            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
+        }
+
+        if (!holidayRepository.existsById(id)) {
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+
+        holidayDTO = holidayService.update(holidayDTO);
+        return ResponseEntity.ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, holidayDTO.getId().toString()))
+            .body(holidayDTO);
+    }
+
+    /**
+     * {@code PATCH  /holidays/:id} : Partial updates given fields of an existing holiday, field will ignore if it is null
+     *
+     * @param id the id of the holidayDTO to save.
+     * @param holidayDTO the holidayDTO to update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated holidayDTO,
+     * or with status {@code 400 (Bad Request)} if the holidayDTO is not valid,
+     * or with status {@code 404 (Not Found)} if the holidayDTO is not found,
+     * or with status {@code 500 (Internal Server Error)} if the holidayDTO couldn't be updated.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PatchMapping(value = "/{id}", consumes = { "application/json", "application/merge-patch+json" })
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<HolidayDTO> partialUpdateHoliday(
+        @PathVariable(value = "id", required = false) final Long id,
+        @NotNull @RequestBody HolidayDTO holidayDTO
+    ) throws URISyntaxException {
+        LOG.debug("REST request to partial update Holiday partially : {}, {}", id, holidayDTO);
+        if (holidayDTO.getId() == null) {
+            throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
+        }
+        if (!Objects.equals(id, holidayDTO.getId())) {
+            throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
+        }
+
+        if (!holidayRepository.existsById(id)) {
+            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        }
+
+        Optional<HolidayDTO> result = holidayService.partialUpdate(holidayDTO);
+
+        return ResponseUtil.wrapOrNotFound(
+            result,
+            HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, holidayDTO.getId().toString())
+        );
+    }
+
+    /**
+     * {@code GET  /holidays} : get the holidays, one page at a time.
+     *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of holidays in body.
+     */
+    @GetMapping("")
+    public ResponseEntity<List<HolidayDTO>> getAllHolidays(@ParameterObject Pageable pageable) {
+        LOG.debug("REST request to get a page of Holidays");
+        Page<HolidayDTO> page = holidayService.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /holidays/working-days} : count the working days of a period, as a vacation request would.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param calendar the holiday calendar, defaults to {@code application.vacation.holiday-calendar}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of working days in body,
+     * or with status {@code 400 (Bad Request)} if the period is invalid or the calendar has no holidays.
+     */
+    @GetMapping("/working-days")
+    public ResponseEntity<Integer> getWorkingDays(
+        @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(name = "calendar", required = false) String calendar
+    ) {
+        LOG.debug("REST request to count working days from {} to {}", from, to);
+        if (to.isBefore(from) || to.isAfter(from.plusYears(1))) {
+            throw new BadRequestAlertException("Invalid period", ENTITY_NAME, "periodinvalid");
+        }
+        // every calendar name would otherwise get its own cached tables
+        if (calendar != null && !holidayRepository.existsByCalendar(calendar)) {
+            throw new BadRequestAlertException("Unknown holiday calendar", ENTITY_NAME, "calendarunknown");
+        }
+        int days = calendar == null ? workingDayCalculator.workingDays(from, to) : workingDayCalculator.workingDays(calendar, from, to);
+        return ResponseEntity.ok(days);
+    }
+
+    /**
+     * {@code GET  /holidays/:id} : get the "id" holiday.
+     *
+     * @param id the id of the holidayDTO to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the holidayDTO, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<HolidayDTO> getHoliday(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get Holiday : {}", id);
+        Optional<HolidayDTO> holidayDTO = holidayService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(holidayDTO);
+    }
+
+    /**
+     * {@code DELETE  /holidays/:id} : delete the "id" holiday.
+     *
+     * @param id the id of the holidayDTO to delete.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> deleteHoliday(@PathVariable("id") Long id) {
+        LOG.debug("REST request to delete Holiday : {}", id);
+        holidayService.delete(id);
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.VacationBalanceService;
+import com.mycompany.myapp.service.dto.VacationBalanceDTO;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for reading {@link com.mycompany.myapp.domain.VacationBalance}.
+ */
+@RestController
+@RequestMapping("/api/vacation-balances")
+public class VacationBalanceResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VacationBalanceResource.class);
+
+    private final VacationBalanceService vacationBalanceService;
+
+    public VacationBalanceResource(VacationBalanceService vacationBalanceService) {
+        this.vacationBalanceService = vacationBalanceService;
+    }
+
+    /**
+     * {@code GET  /vacation-balances/mine} : get the balance of the current user's employee.
+     *
+     * @param year the calendar year, defaults to the current year.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the balance, or with status {@code 404 (Not Found)} if the current user is not an employee.
+     */
+    @GetMapping("/mine")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<VacationBalanceDTO> getMyVacationBalance(@RequestParam(name = "year", required = false) Integer year) {
+        String login = SecurityUtils.getCurrentUserLogin().orElseThrow();
+        LOG.debug("REST request to get VacationBalance of user {}", login);
+        return ResponseUtil.wrapOrNotFound(vacationBalanceService.findBalanceForLogin(login, yearOrCurrent(year)));
+    }
+
+    /**
+     * {@code GET  /vacation-balances/employees/:employeeId} : get the balance of an employee.
+     *
+     * @param employeeId the id of the employee.
+     * @param year the calendar year, defaults to the current year.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the balance, or with status {@code 404 (Not Found)} if the employee does not exist.
+     */
+    @GetMapping("/employees/{employeeId}")
+    @PreAuthorize("hasRole('ROLE_HR')")
+    public ResponseEntity<VacationBalanceDTO> getEmployeeVacationBalance(
+        @PathVariable("employeeId") Long employeeId,
+        @RequestParam(name = "year", required = false) Integer year
+    ) {
+        LOG.debug("REST request to get VacationBalance of employee {}", employeeId);
+        return ResponseUtil.wrapOrNotFound(vacationBalanceService.findBalance(employeeId, yearOrCurrent(year)));
+    }
+
+    private static int yearOrCurrent(Integer year) {
+        return year != null ? year : LocalDate.now().getYear();
+    }
+}
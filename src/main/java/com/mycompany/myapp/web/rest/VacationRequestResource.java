@@ -2,28 +2,47 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.enumeration.VacationStatus;
 import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.VacationRequestSummary;
 import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.VacationRequestExportService;
+import com.mycompany.myapp.service.VacationRequestConflictException;
 import com.mycompany.myapp.service.VacationRequestService;
+import com.mycompany.myapp.service.VacationStatusCountService;
+import com.mycompany.myapp.service.cache.PrimaryReads;
 import com.mycompany.myapp.service.dto.ApprovalCommand;
+import com.mycompany.myapp.service.dto.BulkDecisionCommand;
+import com.mycompany.myapp.service.dto.BulkDecisionResult;
+import com.mycompany.myapp.service.dto.CursorPage;
+import com.mycompany.myapp.service.dto.KeysetCursor;
 import com.mycompany.myapp.service.dto.VacationRequestDTO;
+import com.mycompany.myapp.service.dto.VacationStatusCountsDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -37,6 +56,8 @@ public class VacationRequestResource {
 
     private static final String ENTITY_NAME = "vacationRequest";
 
+    private static final int MAX_BULK_DECISION_ATTEMPTS = 3;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -44,9 +65,24 @@ public class VacationRequestResource {
 
     private final VacationRequestRepository vacationRequestRepository;
 
-    public VacationRequestResource(VacationRequestService vacationRequestService, VacationRequestRepository vacationRequestRepository) {
+    private final VacationRequestExportService vacationRequestExportService;
+
+    private final VacationStatusCountService vacationStatusCountService;
+
+    private final PrimaryReads primaryReads;
+
+    public VacationRequestResource(
+        VacationRequestService vacationRequestService,
+        VacationRequestRepository vacationRequestRepository,
+        VacationRequestExportService vacationRequestExportService,
+        VacationStatusCountService vacationStatusCountService,
+        PrimaryReads primaryReads
+    ) {
         this.vacationRequestService = vacationRequestService;
         this.vacationRequestRepository = vacationRequestRepository;
+        this.vacationRequestExportService = vacationRequestExportService;
+        this.vacationStatusCountService = vacationStatusCountService;
+        this.primaryReads = primaryReads;
     }
 
     /**
@@ -139,17 +175,27 @@ public class VacationRequestResource {
     }
 
     /**
-     * {@code GET  /vacation-requests} : get all the vacationRequests.
+     * {@code GET  /vacation-requests} : get the vacationRequests, one page at a time.
      *
+     * @param pageable the pagination information, its size capped by {@code application.pagination.max-page-size}.
+     * @param unpaged legacy flag to get all the vacationRequests in one list, refused above {@code application.pagination.unpaged-row-ceiling} rows.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of vacationRequests in body.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of vacationRequests in body,
+     * or with status {@code 413 (Payload Too Large)} if an unpaged result is too large.
      */
     @GetMapping("")
-    public List<VacationRequestDTO> getAllVacationRequests(
+    public ResponseEntity<List<VacationRequestDTO>> getAllVacationRequests(
+        @ParameterObject Pageable pageable,
+        @RequestParam(name = "unpaged", required = false, defaultValue = "false") boolean unpaged,
         @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
     ) {
-        LOG.debug("REST request to get all VacationRequests");
-        return vacationRequestService.findAll();
+        LOG.debug("REST request to get a page of VacationRequests");
+        if (unpaged) {
+            return ResponseEntity.ok(vacationRequestService.findAll());
+        }
+        Page<VacationRequestDTO> page = eagerload ? vacationRequestService.findAllWithEagerRelationships(pageable) : vacationRequestService.findAll(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
@@ -189,27 +235,137 @@ public class VacationRequestResource {
         return ResponseEntity.ok(saved);
     }
 
-    // 2) Listar MIS solicitudes (empleado)
+    // 2) Listar MIS solicitudes (empleado), paginado por cursor
     @GetMapping("/vacation-requests/mine")
     @PreAuthorize("hasRole('ROLE_USER')")
-    public Page<VacationRequestDTO> myRequests(@ParameterObject Pageable pageable) {
+    public CursorPage<VacationRequestDTO> myRequests(
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
         var login = SecurityUtils.getCurrentUserLogin().orElseThrow();
-        return vacationRequestService.findByEmployeeLogin(login, pageable);
+        return vacationRequestService.findByEmployeeLogin(login, parseCursor(cursor), size);
     }
 
-    // 3) Listar TODAS para revisión (RH)
+    // 3) Cola de revisión (RH), PENDING por defecto, paginada por cursor
     @GetMapping("/vacation-requests/review")
     @PreAuthorize("hasRole('ROLE_HR')")
-    public Page<VacationRequestDTO> toReview(@RequestParam Optional<VacationStatus> status, @ParameterObject Pageable pageable) {
-        return vacationRequestService.findForReview(status, pageable);
+    public CursorPage<VacationRequestDTO> toReview(
+        @RequestParam Optional<VacationStatus> status,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        return vacationRequestService.findForReview(status, parseCursor(cursor), size);
+    }
+
+    // 2b) MIS solicitudes como resumen plano (sin entidades ni DTO anidados)
+    @GetMapping("/vacation-requests/mine/summaries")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public CursorPage<VacationRequestSummary> mySummaries(
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        var login = SecurityUtils.getCurrentUserLogin().orElseThrow();
+        return vacationRequestService.findSummariesByEmployeeLogin(login, parseCursor(cursor), size);
+    }
+
+    // 3b) Cola de revisión (RH) como resumen plano
+    @GetMapping("/vacation-requests/review/summaries")
+    @PreAuthorize("hasRole('ROLE_HR')")
+    public CursorPage<VacationRequestSummary> toReviewSummaries(
+        @RequestParam Optional<VacationStatus> status,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        return vacationRequestService.findSummariesForReview(status, parseCursor(cursor), size);
+    }
+
+    // 3c) Todas las solicitudes como resumen plano, paginado
+    @GetMapping("/vacation-requests/summaries")
+    public ResponseEntity<List<VacationRequestSummary>> allSummaries(@ParameterObject Pageable pageable) {
+        Page<VacationRequestSummary> page = vacationRequestService.findAllSummaries(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    // 3d) Conteo por estado (RH) para las pestañas de la cola, servido desde memoria
+    @GetMapping("/vacation-requests/status-counts")
+    @PreAuthorize("hasRole('ROLE_HR')")
+    public VacationStatusCountsDTO statusCounts(@RequestParam(name = "year", required = false) Integer year) {
+        return vacationStatusCountService.getCounts(year);
     }
 
-    // 4) Aprobar / modificar / negar (RH)
+    // 4) Aprobar / modificar / negar (RH); 409 con el estado actual si otra persona decidió antes
     @PostMapping("/vacation-requests/{id}/decision")
     @PreAuthorize("hasRole('ROLE_HR')")
     public ResponseEntity<VacationRequestDTO> decide(@PathVariable Long id, @RequestBody ApprovalCommand cmd) {
         var login = SecurityUtils.getCurrentUserLogin().orElseThrow();
-        var updated = vacationRequestService.decide(id, cmd, login);
-        return ResponseEntity.ok(updated);
+        try {
+            return ResponseUtil.wrapOrNotFound(vacationRequestService.decide(id, cmd, login));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // the other decision committed first: reply with what it left, read on the primary as a replica may lag behind
+            throw new VacationRequestConflictException(
+                "The vacation request was decided concurrently",
+                primaryReads.load(() -> vacationRequestService.findOne(id)).orElse(null)
+            );
+        }
+    }
+
+    // 5) Aprobar / modificar / negar en bloque (RH), por lista de ids o por filtro;
+    //    se reintenta si otra decisión cambió alguna solicitud a la vez
+    @PostMapping("/vacation-requests/decisions")
+    @PreAuthorize("hasRole('ROLE_HR')")
+    public List<BulkDecisionResult> decideAll(@RequestBody BulkDecisionCommand command) {
+        var login = SecurityUtils.getCurrentUserLogin().orElseThrow();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return vacationRequestService.decideAll(command, login);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_BULK_DECISION_ATTEMPTS) {
+                    throw e;
+                }
+                LOG.debug("Concurrent change during bulk decision, attempt {}", attempt);
+            }
+        }
+    }
+
+    // 6) Exportar todas las solicitudes (nómina), en CSV o NDJSON, opcionalmente comprimido
+    @GetMapping("/vacation-requests/export")
+    @PreAuthorize("hasRole('ROLE_HR')")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(name = "format", required = false, defaultValue = "csv") String format,
+        @RequestParam(name = "gzip", required = false, defaultValue = "false") boolean gzip
+    ) {
+        LOG.debug("REST request to export VacationRequests as {}", format);
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"csv".equalsIgnoreCase(format)) {
+            throw new BadRequestAlertException("Unknown export format", ENTITY_NAME, "formatinvalid");
+        }
+        String filename = "vacation-requests." + (ndjson ? "ndjson" : "csv") + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : ndjson ? MediaType.parseMediaType("application/x-ndjson") : MediaType.parseMediaType("text/csv;charset=UTF-8");
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            long count = ndjson ? vacationRequestExportService.exportNdjson(target) : vacationRequestExportService.exportCsv(target);
+            if (target instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+            LOG.debug("Exported {} VacationRequests", count);
+        };
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+
+    private KeysetCursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", ENTITY_NAME, "cursorinvalid");
+        }
     }
 }
@@ -6,12 +6,16 @@ public final class ErrorConstants {
 
     public static final String ERR_CONCURRENCY_FAILURE = "error.concurrencyFailure";
     public static final String ERR_VALIDATION = "error.validation";
+    public static final String ERR_RESULT_TOO_LARGE = "error.resultTooLarge";
+    public static final String ERR_LOGIN_BUSY = "error.loginBusy";
+    public static final String ERR_LOGIN_THROTTLED = "error.loginThrottled";
     public static final String PROBLEM_BASE_URL = "https://www.jhipster.tech/problem";
     public static final URI DEFAULT_TYPE = URI.create(PROBLEM_BASE_URL + "/problem-with-message");
     public static final URI CONSTRAINT_VIOLATION_TYPE = URI.create(PROBLEM_BASE_URL + "/constraint-violation");
     public static final URI INVALID_PASSWORD_TYPE = URI.create(PROBLEM_BASE_URL + "/invalid-password");
     public static final URI EMAIL_ALREADY_USED_TYPE = URI.create(PROBLEM_BASE_URL + "/email-already-used");
     public static final URI LOGIN_ALREADY_USED_TYPE = URI.create(PROBLEM_BASE_URL + "/login-already-used");
+    public static final URI VACATION_REQUEST_CONFLICT_TYPE = URI.create(PROBLEM_BASE_URL + "/vacation-request-conflict");
 
     private ErrorConstants() {}
 }
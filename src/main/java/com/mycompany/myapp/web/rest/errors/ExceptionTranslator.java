@@ -95,6 +95,28 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (
             ex instanceof com.mycompany.myapp.service.InvalidPasswordException
         ) return (ProblemDetailWithCause) new InvalidPasswordException().getBody();
+        if (
+            ex instanceof com.mycompany.myapp.service.InvalidVacationRequestException invalidVacationRequestException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(
+            invalidVacationRequestException.getMessage(),
+            "vacationRequest",
+            invalidVacationRequestException.getErrorKey()
+        ).getBody();
+        if (
+            ex instanceof com.mycompany.myapp.service.InvalidImportException invalidImportException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(
+            invalidImportException.getMessage(),
+            "import",
+            "importinvalid"
+        ).getBody();
+        if (ex instanceof com.mycompany.myapp.service.VacationRequestConflictException vacationRequestConflictException) {
+            ProblemDetailWithCause problem = ProblemDetailWithCauseBuilder.instance()
+                .withStatus(HttpStatus.CONFLICT.value())
+                .withType(ErrorConstants.VACATION_REQUEST_CONFLICT_TYPE)
+                .build();
+            problem.setProperty("current", vacationRequestConflictException.getCurrent());
+            return problem;
+        }
 
         if (
             ex instanceof ErrorResponseException exp && exp.getBody() instanceof ProblemDetailWithCause problemDetailWithCause
@@ -192,8 +214,18 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     private String getMappedMessageKey(Throwable err) {
         if (err instanceof MethodArgumentNotValidException) {
             return ErrorConstants.ERR_VALIDATION;
-        } else if (err instanceof ConcurrencyFailureException || err.getCause() instanceof ConcurrencyFailureException) {
+        } else if (
+            err instanceof ConcurrencyFailureException ||
+            err.getCause() instanceof ConcurrencyFailureException ||
+            err instanceof com.mycompany.myapp.service.VacationRequestConflictException
+        ) {
             return ErrorConstants.ERR_CONCURRENCY_FAILURE;
+        } else if (err instanceof com.mycompany.myapp.service.ResultTooLargeException) {
+            return ErrorConstants.ERR_RESULT_TOO_LARGE;
+        } else if (err instanceof com.mycompany.myapp.security.PasswordHashingBusyException) {
+            return ErrorConstants.ERR_LOGIN_BUSY;
+        } else if (err instanceof com.mycompany.myapp.security.LoginThrottledException) {
+            return ErrorConstants.ERR_LOGIN_THROTTLED;
         }
         return null;
     }
@@ -218,6 +250,10 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (err instanceof AccessDeniedException) return HttpStatus.FORBIDDEN;
         if (err instanceof ConcurrencyFailureException) return HttpStatus.CONFLICT;
         if (err instanceof BadCredentialsException) return HttpStatus.UNAUTHORIZED;
+        if (err instanceof com.mycompany.myapp.service.InvalidRefreshTokenException) return HttpStatus.UNAUTHORIZED;
+        if (err instanceof com.mycompany.myapp.service.ResultTooLargeException) return HttpStatus.PAYLOAD_TOO_LARGE;
+        if (err instanceof com.mycompany.myapp.security.PasswordHashingBusyException) return HttpStatus.SERVICE_UNAVAILABLE;
+        if (err instanceof com.mycompany.myapp.security.LoginThrottledException) return HttpStatus.TOO_MANY_REQUESTS;
         return null;
     }
 
@@ -227,6 +263,11 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
+        if (err instanceof com.mycompany.myapp.security.LoginThrottledException loginThrottledException) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(loginThrottledException.getRetryAfterSeconds()));
+            return headers;
+        }
         return err instanceof BadRequestAlertException badRequestAlertException
             ? HeaderUtil.createFailureAlert(
                 applicationName,
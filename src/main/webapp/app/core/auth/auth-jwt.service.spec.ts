@@ -66,6 +66,84 @@ describe('Auth JWT', () => {
     });
   });
 
+  describe('Refresh', () => {
+    it('should store the refresh token with the access token', () => {
+      // GIVEN
+      mockStorageService.storeRefreshToken = jest.fn();
+
+      // WHEN
+      service.login({ username: 'John', password: '123', rememberMe: true }).subscribe();
+      httpMock.expectOne('api/authenticate').flush({ id_token: '1', refresh_token: 'r1' });
+
+      // THEN
+      httpMock.verify();
+      expect(mockStorageService.storeRefreshToken).toHaveBeenCalledWith('r1', true);
+    });
+
+    it('should exchange the refresh token once for concurrent callers', () => {
+      // GIVEN
+      sessionStorage.setItem('jhi-refreshToken', JSON.stringify('r1'));
+      const tokens: string[] = [];
+
+      // WHEN
+      service.refresh().subscribe(token => tokens.push(token));
+      service.refresh().subscribe(token => tokens.push(token));
+      const req = httpMock.expectOne('api/authenticate/refresh');
+      req.flush({ id_token: '2', refresh_token: 'r2' });
+
+      // THEN
+      httpMock.verify();
+      expect(req.request.body).toEqual({ refresh_token: 'r1' });
+      expect(tokens).toEqual(['2', '2']);
+      expect(service.getToken()).toEqual('2');
+      expect(mockStorageService.getRefreshToken()).toEqual('r2');
+    });
+
+    it('should use the tokens stored by another tab when the exchange is refused', () => {
+      // GIVEN
+      sessionStorage.setItem('jhi-refreshToken', JSON.stringify('r1'));
+      const tokens: string[] = [];
+
+      // WHEN
+      service.refresh().subscribe(token => tokens.push(token));
+      mockStorageService.storeAuthenticationToken('3', false);
+      mockStorageService.storeRefreshToken('r3', false);
+      httpMock.expectOne('api/authenticate/refresh').flush(null, { status: 401, statusText: 'Unauthorized' });
+
+      // THEN
+      httpMock.verify();
+      expect(tokens).toEqual(['3']);
+    });
+
+    it('should fail when the exchange is refused and no other tab refreshed', () => {
+      // GIVEN
+      sessionStorage.setItem('jhi-refreshToken', JSON.stringify('r1'));
+
+      // WHEN
+      let failed = false;
+      service.refresh().subscribe({ error: () => (failed = true) });
+      httpMock.expectOne('api/authenticate/refresh').flush(null, { status: 401, statusText: 'Unauthorized' });
+
+      // THEN
+      httpMock.verify();
+      expect(failed).toBe(true);
+    });
+
+    it('should fail without a refresh token', () => {
+      // GIVEN
+      sessionStorage.clear();
+      localStorage.clear();
+
+      // WHEN
+      let failed = false;
+      service.refresh().subscribe({ error: () => (failed = true) });
+
+      // THEN
+      httpMock.verify();
+      expect(failed).toBe(true);
+    });
+  });
+
   describe('Logout', () => {
     it('should clear storage', () => {
       // GIVEN
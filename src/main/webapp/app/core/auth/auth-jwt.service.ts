@@ -1,14 +1,17 @@
 import { Injectable, inject } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
-import { map } from 'rxjs/operators';
+import { Observable, firstValueFrom, from, of, throwError } from 'rxjs';
+import { catchError, finalize, map, shareReplay } from 'rxjs/operators';
 
 import { Login } from 'app/login/login.model';
 import { ApplicationConfigService } from '../config/application-config.service';
 import { StateStorageService } from './state-storage.service';
 
+const REFRESH_LOCK = 'jhi-refreshToken';
+
 type JwtToken = {
   id_token: string;
+  refresh_token?: string;
 };
 
 @Injectable({ providedIn: 'root' })
@@ -16,17 +19,41 @@ export class AuthServerProvider {
   private readonly http = inject(HttpClient);
   private readonly stateStorageService = inject(StateStorageService);
   private readonly applicationConfigService = inject(ApplicationConfigService);
+  private refreshing: Observable<string> | null = null;
 
   getToken(): string {
     return this.stateStorageService.getAuthenticationToken() ?? '';
   }
 
+  canRefresh(): boolean {
+    return this.stateStorageService.getRefreshToken() !== null;
+  }
+
   login(credentials: Login): Observable<void> {
     return this.http
       .post<JwtToken>(this.applicationConfigService.getEndpointFor('api/authenticate'), credentials)
       .pipe(map(response => this.authenticateSuccess(response, credentials.rememberMe)));
   }
 
+  /**
+   * Exchanges the refresh token for a new access token. Requests failing together share a single exchange,
+   * as a refresh token can only be used once.
+   *
+   * A remembered session keeps its tokens in the local storage, shared by every tab: the tabs take turns through
+   * a Web Lock, and a tab finding the token already exchanged by another one uses the tokens it stored.
+   */
+  refresh(): Observable<string> {
+    const refreshToken = this.stateStorageService.getRefreshToken();
+    if (!refreshToken) {
+      return throwError(() => new Error('No refresh token'));
+    }
+    this.refreshing ??= this.exchangeAcrossTabs(refreshToken).pipe(
+      finalize(() => (this.refreshing = null)),
+      shareReplay(1),
+    );
+    return this.refreshing;
+  }
+
   logout(): Observable<void> {
     return new Observable(observer => {
       this.stateStorageService.clearAuthenticationToken();
@@ -34,7 +61,42 @@ export class AuthServerProvider {
     });
   }
 
+  private exchangeAcrossTabs(refreshToken: string): Observable<string> {
+    const locks = typeof navigator === 'undefined' ? undefined : navigator.locks;
+    if (!locks || !this.stateStorageService.isRefreshTokenRemembered()) {
+      return this.exchange(refreshToken);
+    }
+    return from(
+      locks.request(REFRESH_LOCK, () => {
+        const storedToken = this.stateStorageService.getRefreshToken();
+        if (storedToken !== refreshToken) {
+          return storedToken ? Promise.resolve(this.getToken()) : Promise.reject(new Error('Signed out in another tab'));
+        }
+        return firstValueFrom(this.exchange(refreshToken));
+      }),
+    );
+  }
+
+  private exchange(refreshToken: string): Observable<string> {
+    return this.http
+      .post<JwtToken>(this.applicationConfigService.getEndpointFor('api/authenticate/refresh'), { refresh_token: refreshToken })
+      .pipe(
+        map(response => {
+          this.authenticateSuccess(response, this.stateStorageService.isRefreshTokenRemembered());
+          return response.id_token;
+        }),
+        catchError((error: unknown) => {
+          // another tab exchanged the token just before, and stored the new ones
+          const storedToken = this.stateStorageService.getRefreshToken();
+          return storedToken && storedToken !== refreshToken ? of(this.getToken()) : throwError(() => error);
+        }),
+      );
+  }
+
   private authenticateSuccess(response: JwtToken, rememberMe: boolean): void {
     this.stateStorageService.storeAuthenticationToken(response.id_token, rememberMe);
+    if (response.refresh_token) {
+      this.stateStorageService.storeRefreshToken(response.refresh_token, rememberMe);
+    }
   }
 }
@@ -4,6 +4,7 @@ import { Injectable } from '@angular/core';
 export class StateStorageService {
   private readonly previousUrlKey = 'previousUrl';
   private readonly authenticationKey = 'jhi-authenticationToken';
+  private readonly refreshKey = 'jhi-refreshToken';
   private readonly localeKey = 'locale';
 
   storeUrl(url: string): void {
@@ -37,6 +38,28 @@ export class StateStorageService {
   clearAuthenticationToken(): void {
     sessionStorage.removeItem(this.authenticationKey);
     localStorage.removeItem(this.authenticationKey);
+    sessionStorage.removeItem(this.refreshKey);
+    localStorage.removeItem(this.refreshKey);
+  }
+
+  storeRefreshToken(refreshToken: string, rememberMe: boolean): void {
+    refreshToken = JSON.stringify(refreshToken);
+    sessionStorage.removeItem(this.refreshKey);
+    localStorage.removeItem(this.refreshKey);
+    if (rememberMe) {
+      localStorage.setItem(this.refreshKey, refreshToken);
+    } else {
+      sessionStorage.setItem(this.refreshKey, refreshToken);
+    }
+  }
+
+  getRefreshToken(): string | null {
+    const refreshToken = localStorage.getItem(this.refreshKey) ?? sessionStorage.getItem(this.refreshKey);
+    return refreshToken ? (JSON.parse(refreshToken) as string | null) : refreshToken;
+  }
+
+  isRefreshTokenRemembered(): boolean {
+    return localStorage.getItem(this.refreshKey) !== null;
   }
 
   storeLocale(locale: string): void {
@@ -1,29 +1,44 @@
 import { Injectable, inject } from '@angular/core';
 import { HttpErrorResponse, HttpEvent, HttpHandler, HttpInterceptor, HttpRequest } from '@angular/common/http';
-import { Observable } from 'rxjs';
-import { tap } from 'rxjs/operators';
+import { Observable, throwError } from 'rxjs';
+import { catchError, switchMap } from 'rxjs/operators';
 import { Router } from '@angular/router';
 
 import { LoginService } from 'app/login/login.service';
+import { AuthServerProvider } from 'app/core/auth/auth-jwt.service';
 import { StateStorageService } from 'app/core/auth/state-storage.service';
 
 @Injectable()
 export class AuthExpiredInterceptor implements HttpInterceptor {
   private readonly loginService = inject(LoginService);
+  private readonly authServerProvider = inject(AuthServerProvider);
   private readonly stateStorageService = inject(StateStorageService);
   private readonly router = inject(Router);
 
   intercept(request: HttpRequest<any>, next: HttpHandler): Observable<HttpEvent<any>> {
     return next.handle(request).pipe(
-      tap({
-        error: (err: HttpErrorResponse) => {
-          if (err.status === 401 && err.url && !err.url.includes('api/account')) {
-            this.stateStorageService.storeUrl(this.router.routerState.snapshot.url);
-            this.loginService.logout();
-            this.router.navigate(['/login']);
-          }
-        },
+      catchError((err: HttpErrorResponse) => {
+        if (err.status === 401 && err.url && !err.url.includes('api/authenticate') && this.authServerProvider.canRefresh()) {
+          // the access token expired: exchange the refresh token and replay the request once
+          return this.authServerProvider.refresh().pipe(
+            catchError(() => {
+              this.expire(err);
+              return throwError(() => err);
+            }),
+            switchMap(token => next.handle(request.clone({ setHeaders: { Authorization: `Bearer ${token}` } }))),
+          );
+        }
+        this.expire(err);
+        return throwError(() => err);
       }),
     );
   }
+
+  private expire(err: HttpErrorResponse): void {
+    if (err.status === 401 && err.url && !err.url.includes('api/account')) {
+      this.stateStorageService.storeUrl(this.router.routerState.snapshot.url);
+      this.loginService.logout();
+      this.router.navigate(['/login']);
+    }
+  }
 }
@@ -16,7 +16,10 @@ export class AuthInterceptor implements HttpInterceptor {
       return next.handle(request);
     }
 
-    const token: string | null = this.stateStorageService.getAuthenticationToken();
+    // a stale access token would get the exchange rejected before it reaches the controller
+    const token: string | null = request.url.endsWith('api/authenticate/refresh')
+      ? null
+      : this.stateStorageService.getAuthenticationToken();
     if (token) {
       request = request.clone({
         setHeaders: {
@@ -62,6 +62,7 @@ describe('Employee Management Component', () => {
             body: [{ id: 1749 }],
             headers: new HttpHeaders({
               link: '<http://localhost/api/foo?page=1&size=20>; rel="next"',
+              'X-Total-Count': '21',
             }),
           }),
         ),
@@ -112,6 +113,23 @@ describe('Employee Management Component', () => {
     );
   });
 
+  it('should load a page', () => {
+    // WHEN
+    comp.navigateToPage(1);
+
+    // THEN
+    expect(routerNavigateSpy).toHaveBeenCalled();
+  });
+
+  it('should ask the server for one page', () => {
+    // WHEN
+    comp.ngOnInit();
+
+    // THEN
+    expect(service.query).toHaveBeenLastCalledWith(expect.objectContaining({ page: 0, size: comp.itemsPerPage }));
+    expect(comp.totalItems).toBe(21);
+  });
+
   it('should calculate the sort attribute for an id', () => {
     // WHEN
     comp.ngOnInit();
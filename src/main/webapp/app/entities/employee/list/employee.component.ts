@@ -1,4 +1,5 @@
 import { Component, NgZone, OnInit, inject, signal } from '@angular/core';
+import { HttpHeaders } from '@angular/common/http';
 import { ActivatedRoute, Data, ParamMap, Router, RouterModule } from '@angular/router';
 import { Observable, Subscription, combineLatest, filter, tap } from 'rxjs';
 import { NgbModal } from '@ng-bootstrap/ng-bootstrap';
@@ -6,7 +7,9 @@ import { NgbModal } from '@ng-bootstrap/ng-bootstrap';
 import SharedModule from 'app/shared/shared.module';
 import { SortByDirective, SortDirective, SortService, type SortState, sortStateSignal } from 'app/shared/sort';
 import { FormatMediumDatePipe } from 'app/shared/date';
+import { ItemCountComponent } from 'app/shared/pagination';
 import { FormsModule } from '@angular/forms';
+import { ITEMS_PER_PAGE, PAGE_HEADER, TOTAL_COUNT_RESPONSE_HEADER } from 'app/config/pagination.constants';
 import { DEFAULT_SORT_DATA, ITEM_DELETED_EVENT, SORT } from 'app/config/navigation.constants';
 import { IEmployee } from '../employee.model';
 import { EmployeeService, EntityArrayResponseType } from '../service/employee.service';
@@ -15,7 +18,7 @@ import { EmployeeDeleteDialogComponent } from '../delete/employee-delete-dialog.
 @Component({
   selector: 'jhi-employee',
   templateUrl: './employee.component.html',
-  imports: [RouterModule, FormsModule, SharedModule, SortDirective, SortByDirective, FormatMediumDatePipe],
+  imports: [RouterModule, FormsModule, SharedModule, SortDirective, SortByDirective, ItemCountComponent, FormatMediumDatePipe],
 })
 export class EmployeeComponent implements OnInit {
   subscription: Subscription | null = null;
@@ -24,6 +27,10 @@ export class EmployeeComponent implements OnInit {
 
   sortState = sortStateSignal({});
 
+  itemsPerPage = ITEMS_PER_PAGE;
+  totalItems = 0;
+  page = 1;
+
   public readonly router = inject(Router);
   protected readonly employeeService = inject(EmployeeService);
   protected readonly activatedRoute = inject(ActivatedRoute);
@@ -37,13 +44,7 @@ export class EmployeeComponent implements OnInit {
     this.subscription = combineLatest([this.activatedRoute.queryParamMap, this.activatedRoute.data])
       .pipe(
         tap(([params, data]) => this.fillComponentAttributeFromRoute(params, data)),
-        tap(() => {
-          if (this.employees().length === 0) {
-            this.load();
-          } else {
-            this.employees.set(this.refineData(this.employees()));
-          }
-        }),
+        tap(() => this.load()),
       )
       .subscribe();
   }
@@ -69,38 +70,47 @@ export class EmployeeComponent implements OnInit {
   }
 
   navigateToWithComponentValues(event: SortState): void {
-    this.handleNavigation(event);
+    this.handleNavigation(this.page, event);
+  }
+
+  navigateToPage(page: number): void {
+    this.handleNavigation(page, this.sortState());
   }
 
   protected fillComponentAttributeFromRoute(params: ParamMap, data: Data): void {
+    const page = params.get(PAGE_HEADER);
+    this.page = +(page ?? 1);
     this.sortState.set(this.sortService.parseSortParam(params.get(SORT) ?? data[DEFAULT_SORT_DATA]));
   }
 
   protected onResponseSuccess(response: EntityArrayResponseType): void {
+    this.fillComponentAttributesFromResponseHeader(response.headers);
     const dataFromBody = this.fillComponentAttributesFromResponseBody(response.body);
-    this.employees.set(this.refineData(dataFromBody));
-  }
-
-  protected refineData(data: IEmployee[]): IEmployee[] {
-    const { predicate, order } = this.sortState();
-    return predicate && order ? data.sort(this.sortService.startSort({ predicate, order })) : data;
+    this.employees.set(dataFromBody);
   }
 
   protected fillComponentAttributesFromResponseBody(data: IEmployee[] | null): IEmployee[] {
     return data ?? [];
   }
 
+  protected fillComponentAttributesFromResponseHeader(headers: HttpHeaders): void {
+    this.totalItems = Number(headers.get(TOTAL_COUNT_RESPONSE_HEADER));
+  }
+
   protected queryBackend(): Observable<EntityArrayResponseType> {
     this.isLoading = true;
     const queryObject: any = {
+      page: this.page - 1,
+      size: this.itemsPerPage,
       eagerload: true,
       sort: this.sortService.buildSortParam(this.sortState()),
     };
     return this.employeeService.query(queryObject).pipe(tap(() => (this.isLoading = false)));
   }
 
-  protected handleNavigation(sortState: SortState): void {
+  protected handleNavigation(page: number, sortState: SortState): void {
     const queryParamsObj = {
+      page,
       sort: this.sortService.buildSortParam(sortState),
     };
 
@@ -4,6 +4,8 @@ import { ActivatedRoute } from '@angular/router';
 import { Subject, of } from 'rxjs';
 import { NgbModal } from '@ng-bootstrap/ng-bootstrap';
 
+import { AccountService } from 'app/core/auth/account.service';
+import { Account } from 'app/core/auth/account.model';
 import { sampleWithRequiredData } from '../vacation-request.test-samples';
 import { VacationRequestService } from '../service/vacation-request.service';
 
@@ -14,6 +16,7 @@ describe('VacationRequest Management Component', () => {
   let comp: VacationRequestComponent;
   let fixture: ComponentFixture<VacationRequestComponent>;
   let service: VacationRequestService;
+  let accountService: AccountService;
   let routerNavigateSpy: SpyInstance<Promise<boolean>>;
 
   beforeEach(() => {
@@ -52,8 +55,12 @@ describe('VacationRequest Management Component', () => {
     fixture = TestBed.createComponent(VacationRequestComponent);
     comp = fixture.componentInstance;
     service = TestBed.inject(VacationRequestService);
+    accountService = TestBed.inject(AccountService);
     routerNavigateSpy = jest.spyOn(comp.router, 'navigate');
 
+    jest.spyOn(accountService, 'identity').mockReturnValue(of({ login: 'admin' } as Account));
+    jest.spyOn(accountService, 'hasAnyAuthority').mockReturnValue(true);
+
     jest
       .spyOn(service, 'query')
       .mockReturnValueOnce(
@@ -62,6 +69,7 @@ describe('VacationRequest Management Component', () => {
             body: [{ id: 10483 }],
             headers: new HttpHeaders({
               link: '<http://localhost/api/foo?page=1&size=20>; rel="next"',
+              'X-Total-Count': '21',
             }),
           }),
         ),
@@ -85,6 +93,65 @@ describe('VacationRequest Management Component', () => {
     // THEN
     expect(service.query).toHaveBeenCalled();
     expect(comp.vacationRequests()[0]).toEqual(expect.objectContaining({ id: 10483 }));
+    expect(comp.totalItems).toEqual(21);
+  });
+
+  it('should load the page of the route', () => {
+    // WHEN
+    comp.ngOnInit();
+
+    // THEN
+    expect(service.query).toHaveBeenLastCalledWith(expect.objectContaining({ page: 0, size: 20 }));
+  });
+
+  it('should navigate to another page', () => {
+    // GIVEN
+    comp.ngOnInit();
+
+    // WHEN
+    comp.navigateToPage(2);
+
+    // THEN
+    expect(routerNavigateSpy).toHaveBeenLastCalledWith(
+      expect.anything(),
+      expect.objectContaining({
+        queryParams: expect.objectContaining({ page: 2 }),
+      }),
+    );
+  });
+
+  describe('for a user without admin role', () => {
+    beforeEach(() => {
+      jest.spyOn(accountService, 'hasAnyAuthority').mockReturnValue(false);
+      jest
+        .spyOn(service, 'queryMine')
+        .mockReturnValueOnce(of(new HttpResponse({ body: { content: [{ id: 10483 }], nextCursor: 'next' } })))
+        .mockReturnValueOnce(of(new HttpResponse({ body: { content: [{ id: 12195 }], nextCursor: null } })));
+    });
+
+    it('should load the first slice of their own requests', () => {
+      // WHEN
+      comp.ngOnInit();
+
+      // THEN
+      expect(service.query).not.toHaveBeenCalled();
+      expect(service.queryMine).toHaveBeenCalledWith({ cursor: null, size: 20 });
+      expect(comp.vacationRequests()).toEqual([expect.objectContaining({ id: 10483 })]);
+      expect(comp.nextCursor).toEqual('next');
+    });
+
+    it('should append the next slice', () => {
+      // GIVEN
+      comp.ngOnInit();
+
+      // WHEN
+      comp.loadMore();
+
+      // THEN
+      expect(service.queryMine).toHaveBeenLastCalledWith({ cursor: 'next', size: 20 });
+      expect(comp.vacationRequests()).toEqual([expect.objectContaining({ id: 10483 }), expect.objectContaining({ id: 12195 })]);
+      expect(comp.nextCursor).toBeNull();
+    });
   });
 
   describe('trackId', () => {
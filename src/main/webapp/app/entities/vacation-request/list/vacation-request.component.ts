@@ -1,28 +1,38 @@
 import { Component, NgZone, OnInit, inject, signal } from '@angular/core';
+import { HttpResponse } from '@angular/common/http';
 import { ActivatedRoute, Data, ParamMap, Router, RouterModule } from '@angular/router';
-import { Observable, Subscription, combineLatest, filter as rxFilter, tap, switchMap, of, map } from 'rxjs';
+import { Observable, Subscription, combineLatest, filter as rxFilter, tap, switchMap } from 'rxjs';
 import { NgbModal } from '@ng-bootstrap/ng-bootstrap';
 
 import SharedModule from 'app/shared/shared.module';
 import { SortByDirective, SortDirective, SortService, type SortState, sortStateSignal } from 'app/shared/sort';
 import { FormatMediumDatePipe, FormatMediumDatetimePipe } from 'app/shared/date';
+import { ItemCountComponent } from 'app/shared/pagination';
 import { FormsModule } from '@angular/forms';
+import { ITEMS_PER_PAGE, PAGE_HEADER, TOTAL_COUNT_RESPONSE_HEADER } from 'app/config/pagination.constants';
 import { DEFAULT_SORT_DATA, ITEM_DELETED_EVENT, SORT } from 'app/config/navigation.constants';
 
 import { IVacationRequest } from '../vacation-request.model';
-import { EntityArrayResponseType, VacationRequestService } from '../service/vacation-request.service';
+import { EntityArrayResponseType, ICursorPage, VacationRequestService } from '../service/vacation-request.service';
 import { VacationRequestDeleteDialogComponent } from '../delete/vacation-request-delete-dialog.component';
 
-// Identidad/roles y Employee
+// Identidad/roles
 import { AccountService } from 'app/core/auth/account.service';
 import { Authority } from 'app/config/authority.constants';
-import { EmployeeService } from 'app/entities/employee/service/employee.service';
-import { IEmployee } from 'app/entities/employee/employee.model';
 
 @Component({
   selector: 'jhi-vacation-request',
   templateUrl: './vacation-request.component.html',
-  imports: [RouterModule, FormsModule, SharedModule, SortDirective, SortByDirective, FormatMediumDatetimePipe, FormatMediumDatePipe],
+  imports: [
+    RouterModule,
+    FormsModule,
+    SharedModule,
+    SortDirective,
+    SortByDirective,
+    ItemCountComponent,
+    FormatMediumDatetimePipe,
+    FormatMediumDatePipe,
+  ],
   standalone: true,
 })
 export class VacationRequestComponent implements OnInit {
@@ -32,6 +42,14 @@ export class VacationRequestComponent implements OnInit {
 
   sortState = sortStateSignal({});
 
+  itemsPerPage = ITEMS_PER_PAGE;
+  totalItems = 0;
+  page = 1;
+
+  // Admin: páginas del servidor. Resto: sus propias solicitudes, por cursor y de la más reciente a la más antigua
+  isAdmin = false;
+  nextCursor: string | null = null;
+
   public readonly router = inject(Router);
   protected readonly vacationRequestService = inject(VacationRequestService);
   protected readonly activatedRoute = inject(ActivatedRoute);
@@ -40,43 +58,20 @@ export class VacationRequestComponent implements OnInit {
   protected ngZone = inject(NgZone);
 
   protected readonly accountService = inject(AccountService);
-  protected readonly employeeService = inject(EmployeeService);
-
-  // Estado para filtrar
-  private isAdmin = false;
-  private currentEmployeeId: number | null = null;
 
   trackId = (item: IVacationRequest): number => this.vacationRequestService.getVacationRequestIdentifier(item);
 
   ngOnInit(): void {
-    // 1) Lee sort desde la ruta
-    // 2) Resuelve identidad → rol → employeeId (por login)
-    // 3) Carga y filtra en cliente según el rol
+    // 1) Lee página y sort desde la ruta
+    // 2) Resuelve el rol: admin ve todas las solicitudes, el resto solo las suyas
+    // 3) Carga una página (admin) o el primer tramo de las suyas
     this.subscription = combineLatest([this.activatedRoute.queryParamMap, this.activatedRoute.data])
       .pipe(
         tap(([params, data]) => this.fillComponentAttributeFromRoute(params, data)),
-        switchMap(() =>
-          this.accountService.identity().pipe(
-            tap(account => {
-              // Si no hay cuenta, tratamos como no-admin sin employee
-              this.isAdmin = !!account && this.accountService.hasAnyAuthority(Authority.ADMIN);
-            }),
-            switchMap(account => {
-              // Admin: ve todo, no necesitamos employeeId
-              if (!account || this.isAdmin) {
-                return of<IEmployee | null>(null);
-              }
-              // 🔎 Tu relación Employee{user(login)} → busca Employee por login
-              return this.employeeService
-                .query({ 'userLogin.equals': account.login, size: 1 })
-                .pipe(map(res => (res.body && res.body.length ? res.body[0] : null)));
-            }),
-            tap(emp => {
-              // Si el usuario no está registrado como Employee, emp será null
-              this.currentEmployeeId = emp?.id ?? null;
-            }),
-          ),
-        ),
+        switchMap(() => this.accountService.identity()),
+        tap(account => {
+          this.isAdmin = !!account && this.accountService.hasAnyAuthority(Authority.ADMIN);
+        }),
         tap(() => this.load()),
       )
       .subscribe();
@@ -94,61 +89,76 @@ export class VacationRequestComponent implements OnInit {
   }
 
   load(): void {
-    // Si NO es admin y aún no conozco su employeeId (o no existe porque no está registrado),
-    // mostramos vacío sin pedir todo para evitar “flicker”
-    if (!this.isAdmin && this.currentEmployeeId === null) {
-      this.vacationRequests.set([]);
-      return;
+    if (this.isAdmin) {
+      this.queryBackend().subscribe({
+        next: (res: EntityArrayResponseType) => this.onResponseSuccess(res),
+      });
+    } else {
+      this.queryMine(null).subscribe({
+        next: res => this.onMineResponseSuccess(res, false),
+      });
     }
+  }
 
-    this.queryBackend().subscribe({
-      next: (res: EntityArrayResponseType) => this.onResponseSuccess(res),
+  loadMore(): void {
+    if (this.isAdmin || this.isLoading || !this.nextCursor) {
+      return;
+    }
+    this.queryMine(this.nextCursor).subscribe({
+      next: res => this.onMineResponseSuccess(res, true),
     });
   }
 
   navigateToWithComponentValues(event: SortState): void {
-    this.handleNavigation(event);
+    this.handleNavigation(this.page, event);
+  }
+
+  navigateToPage(page: number): void {
+    this.handleNavigation(page, this.sortState());
   }
 
   protected fillComponentAttributeFromRoute(params: ParamMap, data: Data): void {
+    const page = params.get(PAGE_HEADER);
+    this.page = +(page ?? 1);
     this.sortState.set(this.sortService.parseSortParam(params.get(SORT) ?? data[DEFAULT_SORT_DATA]));
   }
 
   protected onResponseSuccess(response: EntityArrayResponseType): void {
-    let data = this.fillComponentAttributesFromResponseBody(response.body);
-
-    // 🚦 FILTRO EN CLIENTE:
-    // - Admin: ve todo
-    // - No admin: solo registros cuyo employee.id === currentEmployeeId
-    if (!this.isAdmin && this.currentEmployeeId != null) {
-      data = data.filter(vr => vr.employee?.id === this.currentEmployeeId);
-    }
-    // Si currentEmployeeId es null (usuario no registrado como Employee), ya devolvemos vacío en load()
-
-    this.vacationRequests.set(this.refineData(data));
+    this.totalItems = Number(response.headers.get(TOTAL_COUNT_RESPONSE_HEADER));
+    this.vacationRequests.set(this.fillComponentAttributesFromResponseBody(response.body));
   }
 
-  protected refineData(data: IVacationRequest[]): IVacationRequest[] {
-    const { predicate, order } = this.sortState();
-    return predicate && order ? data.sort(this.sortService.startSort({ predicate, order })) : data;
+  protected onMineResponseSuccess(response: HttpResponse<ICursorPage<IVacationRequest>>, append: boolean): void {
+    const slice = response.body?.content ?? [];
+    this.nextCursor = response.body?.nextCursor ?? null;
+    this.vacationRequests.set(append ? [...this.vacationRequests(), ...slice] : slice);
   }
 
   protected fillComponentAttributesFromResponseBody(data: IVacationRequest[] | null): IVacationRequest[] {
     return data ?? [];
   }
 
-  // ⚠️ No enviamos filtros al backend; el filtrado es 100% TS (cliente)
   protected queryBackend(): Observable<EntityArrayResponseType> {
     this.isLoading = true;
     const queryObject: any = {
+      page: this.page - 1,
+      size: this.itemsPerPage,
       eagerload: true,
       sort: this.sortService.buildSortParam(this.sortState()),
     };
     return this.vacationRequestService.query(queryObject).pipe(tap(() => (this.isLoading = false)));
   }
 
-  protected handleNavigation(sortState: SortState): void {
+  protected queryMine(cursor: string | null): Observable<HttpResponse<ICursorPage<IVacationRequest>>> {
+    this.isLoading = true;
+    return this.vacationRequestService
+      .queryMine({ cursor, size: this.itemsPerPage })
+      .pipe(tap({ next: () => (this.isLoading = false), error: () => (this.isLoading = false) }));
+  }
+
+  protected handleNavigation(page: number, sortState: SortState): void {
     const queryParamsObj = {
+      page,
       sort: this.sortService.buildSortParam(sortState),
     };
 
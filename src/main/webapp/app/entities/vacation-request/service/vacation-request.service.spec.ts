@@ -6,7 +6,7 @@ import { DATE_FORMAT } from 'app/config/input.constants';
 import { IVacationRequest } from '../vacation-request.model';
 import { sampleWithFullData, sampleWithNewData, sampleWithPartialData, sampleWithRequiredData } from '../vacation-request.test-samples';
 
-import { RestVacationRequest, VacationRequestService } from './vacation-request.service';
+import { ICursorPage, RestVacationRequest, VacationRequestService } from './vacation-request.service';
 
 const requireRestSample: RestVacationRequest = {
   ...sampleWithRequiredData,
@@ -93,6 +93,19 @@ describe('VacationRequest Service', () => {
       expect(expectedResult).toMatchObject([expected]);
     });
 
+    it('should return a slice of the current user VacationRequests', () => {
+      const returnedFromService = { content: [{ ...requireRestSample }], nextCursor: 'next' };
+      let slice: ICursorPage<IVacationRequest> | null = null;
+
+      service.queryMine({ cursor: 'current', size: 20 }).subscribe(resp => (slice = resp.body));
+
+      const req = httpMock.expectOne(request => request.method === 'GET' && request.url.endsWith('/vacation-requests/mine'));
+      expect(req.request.params.get('cursor')).toBe('current');
+      req.flush(returnedFromService);
+      httpMock.verify();
+      expect(slice).toMatchObject({ content: [{ ...sampleWithRequiredData }], nextCursor: 'next' });
+    });
+
     it('should delete a VacationRequest', () => {
       const expected = true;
 
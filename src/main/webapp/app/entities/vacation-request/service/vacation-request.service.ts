@@ -33,6 +33,14 @@ export type PartialUpdateRestVacationRequest = RestOf<PartialUpdateVacationReque
 export type EntityResponseType = HttpResponse<IVacationRequest>;
 export type EntityArrayResponseType = HttpResponse<IVacationRequest[]>;
 
+/**
+ * A slice of a keyset paginated result: pass nextCursor back as the cursor parameter to get the following slice.
+ */
+export interface ICursorPage<T> {
+  content: T[];
+  nextCursor?: string | null;
+}
+
 @Injectable({ providedIn: 'root' })
 export class VacationRequestService {
   protected readonly http = inject(HttpClient);
@@ -76,6 +84,13 @@ export class VacationRequestService {
       .pipe(map(res => this.convertResponseArrayFromServer(res)));
   }
 
+  queryMine(req?: any): Observable<HttpResponse<ICursorPage<IVacationRequest>>> {
+    const options = createRequestOption(req);
+    return this.http
+      .get<ICursorPage<RestVacationRequest>>(`${this.resourceUrl}/vacation-requests/mine`, { params: options, observe: 'response' })
+      .pipe(map(res => this.convertCursorPageFromServer(res)));
+  }
+
   delete(id: number): Observable<HttpResponse<{}>> {
     return this.http.delete(`${this.resourceUrl}/${id}`, { observe: 'response' });
   }
@@ -142,6 +157,14 @@ export class VacationRequestService {
     });
   }
 
+  protected convertCursorPageFromServer(
+    res: HttpResponse<ICursorPage<RestVacationRequest>>,
+  ): HttpResponse<ICursorPage<IVacationRequest>> {
+    return res.clone({
+      body: res.body ? { ...res.body, content: res.body.content.map(item => this.convertDateFromServer(item)) } : null,
+    });
+  }
+
   protected convertResponseArrayFromServer(res: HttpResponse<RestVacationRequest[]>): HttpResponse<IVacationRequest[]> {
     return res.clone({
       body: res.body ? res.body.map(item => this.convertDateFromServer(item)) : null,
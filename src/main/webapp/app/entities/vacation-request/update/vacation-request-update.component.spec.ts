@@ -1,4 +1,4 @@
-import { ComponentFixture, TestBed } from '@angular/core/testing';
+import { ComponentFixture, TestBed, fakeAsync, tick } from '@angular/core/testing';
 import { HttpResponse, provideHttpClient } from '@angular/common/http';
 import { FormBuilder } from '@angular/forms';
 import { ActivatedRoute } from '@angular/router';
@@ -51,28 +51,6 @@ describe('VacationRequest Management Update Component', () => {
   });
 
   describe('ngOnInit', () => {
-    it('should call Employee query and add missing value', () => {
-      const vacationRequest: IVacationRequest = { id: 12195 };
-      const employee: IEmployee = { id: 1749 };
-      vacationRequest.employee = employee;
-
-      const employeeCollection: IEmployee[] = [{ id: 1749 }];
-      jest.spyOn(employeeService, 'query').mockReturnValue(of(new HttpResponse({ body: employeeCollection })));
-      const additionalEmployees = [employee];
-      const expectedCollection: IEmployee[] = [...additionalEmployees, ...employeeCollection];
-      jest.spyOn(employeeService, 'addEmployeeToCollectionIfMissing').mockReturnValue(expectedCollection);
-
-      activatedRoute.data = of({ vacationRequest });
-      comp.ngOnInit();
-
-      expect(employeeService.query).toHaveBeenCalled();
-      expect(employeeService.addEmployeeToCollectionIfMissing).toHaveBeenCalledWith(
-        employeeCollection,
-        ...additionalEmployees.map(expect.objectContaining),
-      );
-      expect(comp.employeesSharedCollection).toEqual(expectedCollection);
-    });
-
     it('should call User query and add missing value', () => {
       const vacationRequest: IVacationRequest = { id: 12195 };
       const approver: IUser = { id: 3944 };
@@ -105,12 +83,37 @@ describe('VacationRequest Management Update Component', () => {
       activatedRoute.data = of({ vacationRequest });
       comp.ngOnInit();
 
-      expect(comp.employeesSharedCollection).toContainEqual(employee);
+      expect(comp.editForm.get('employee')?.value).toEqual(employee);
       expect(comp.usersSharedCollection).toContainEqual(approver);
       expect(comp.vacationRequest).toEqual(vacationRequest);
     });
   });
 
+  describe('searchEmployees', () => {
+    it('should ask the server for a small page of matching employees', fakeAsync(() => {
+      const employeeCollection: IEmployee[] = [{ id: 1749 }];
+      jest.spyOn(employeeService, 'query').mockReturnValue(of(new HttpResponse({ body: employeeCollection })));
+      let result: IEmployee[] = [];
+
+      comp.searchEmployees(of(' ana ')).subscribe(employees => (result = employees));
+      tick(300);
+
+      expect(employeeService.query).toHaveBeenCalledWith(expect.objectContaining({ search: 'ana', page: 0, size: 10 }));
+      expect(result).toEqual(employeeCollection);
+    }));
+
+    it('should not ask the server for a single letter', fakeAsync(() => {
+      jest.spyOn(employeeService, 'query');
+      let result: IEmployee[] | null = null;
+
+      comp.searchEmployees(of('a')).subscribe(employees => (result = employees));
+      tick(300);
+
+      expect(employeeService.query).not.toHaveBeenCalled();
+      expect(result).toEqual([]);
+    }));
+  });
+
   describe('save', () => {
     it('should call update service on save for existing entity', () => {
       // GIVEN
@@ -180,16 +183,6 @@ describe('VacationRequest Management Update Component', () => {
   });
 
   describe('Compare relationships', () => {
-    describe('compareEmployee', () => {
-      it('should forward to employeeService', () => {
-        const entity = { id: 1749 };
-        const entity2 = { id: 1545 };
-        jest.spyOn(employeeService, 'compareEmployee');
-        comp.compareEmployee(entity, entity2);
-        expect(employeeService.compareEmployee).toHaveBeenCalledWith(entity, entity2);
-      });
-    });
-
     describe('compareUser', () => {
       it('should forward to userService', () => {
         const entity = { id: 3944 };
@@ -1,8 +1,8 @@
 import { Component, OnInit, inject } from '@angular/core';
 import { HttpResponse } from '@angular/common/http';
 import { ActivatedRoute } from '@angular/router';
-import { Observable } from 'rxjs';
-import { finalize, map } from 'rxjs/operators';
+import { Observable, of } from 'rxjs';
+import { catchError, debounceTime, distinctUntilChanged, finalize, map, switchMap } from 'rxjs/operators';
 import dayjs from 'dayjs/esm';
 
 import SharedModule from 'app/shared/shared.module';
@@ -21,6 +21,9 @@ import { VacationRequestFormGroup, VacationRequestFormService } from './vacation
 import { AccountService } from 'app/core/auth/account.service';
 import { Authority } from 'app/config/authority.constants';
 
+const EMPLOYEE_SEARCH_MIN_LENGTH = 2;
+const EMPLOYEE_SEARCH_SIZE = 10;
+
 @Component({
   selector: 'jhi-vacation-request-update',
   templateUrl: './vacation-request-update.component.html',
@@ -31,7 +34,6 @@ export class VacationRequestUpdateComponent implements OnInit {
   vacationRequest: IVacationRequest | null = null;
   vacationStatusValues = Object.keys(VacationStatus);
 
-  employeesSharedCollection: IEmployee[] = [];
   usersSharedCollection: IUser[] = [];
 
   // Cálculos
@@ -61,7 +63,23 @@ export class VacationRequestUpdateComponent implements OnInit {
 
   editForm: VacationRequestFormGroup = this.vacationRequestFormService.createVacationRequestFormGroup();
 
-  compareEmployee = (o1: IEmployee | null, o2: IEmployee | null): boolean => this.employeeService.compareEmployee(o1, o2);
+  // Empleado: se busca en el servidor mientras se escribe, una página pequeña cada vez
+  searchEmployees = (text$: Observable<string>): Observable<IEmployee[]> =>
+    text$.pipe(
+      debounceTime(300),
+      map(term => term.trim()),
+      distinctUntilChanged(),
+      switchMap(term =>
+        term.length < EMPLOYEE_SEARCH_MIN_LENGTH
+          ? of([])
+          : this.employeeService.query({ search: term, page: 0, size: EMPLOYEE_SEARCH_SIZE, sort: ['lastName,asc', 'id,asc'] }).pipe(
+              map((res: HttpResponse<IEmployee[]>) => res.body ?? []),
+              catchError(() => of([])),
+            ),
+      ),
+    );
+
+  formatEmployee = (employee: IEmployee): string => [employee.firstName, employee.lastName].filter(Boolean).join(' ');
   compareUser = (o1: IUser | null, o2: IUser | null): boolean => this.userService.compareUser(o1, o2);
 
   ngOnInit(): void {
@@ -121,8 +139,7 @@ export class VacationRequestUpdateComponent implements OnInit {
     window.history.back();
   }
 
-  onEmployeeChange(): void {
-    const selectedEmployee = this.editForm.get('employee')?.value;
+  onEmployeeChange(selectedEmployee: IEmployee | null | undefined = this.editForm.get('employee')?.value): void {
     if (selectedEmployee?.id) {
       this.employeeService.find(selectedEmployee.id).subscribe({
         next: (res: HttpResponse<IEmployee>) => {
@@ -323,12 +340,6 @@ export class VacationRequestUpdateComponent implements OnInit {
     this.vacationRequest = vacationRequest;
     this.vacationRequestFormService.resetForm(this.editForm, vacationRequest);
 
-    // Employees
-    this.employeesSharedCollection = this.employeeService.addEmployeeToCollectionIfMissing<IEmployee>(
-      this.employeesSharedCollection,
-      vacationRequest.employee as IEmployee,
-    );
-
     // Cargar datos del empleado para cálculos
     if (vacationRequest.employee?.id) {
       this.employeeService.find(vacationRequest.employee.id).subscribe({
@@ -364,17 +375,6 @@ export class VacationRequestUpdateComponent implements OnInit {
   }
 
   protected loadRelationshipsOptions(): void {
-    // Employees
-    this.employeeService
-      .query()
-      .pipe(map((res: HttpResponse<IEmployee[]>) => res.body ?? []))
-      .pipe(
-        map((employees: IEmployee[]) =>
-          this.employeeService.addEmployeeToCollectionIfMissing<IEmployee>(employees, this.vacationRequest?.employee),
-        ),
-      )
-      .subscribe((employees: IEmployee[]) => (this.employeesSharedCollection = employees));
-
     // Users (ya se carga también en identity() para resolver currentUser)
     if (this.usersSharedCollection.length === 0) {
       this.userService
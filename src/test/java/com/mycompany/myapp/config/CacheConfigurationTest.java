@@ -0,0 +1,30 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.ehcache.config.units.MemoryUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for the sizes of the {@link CacheConfiguration} regions.
+ */
+class CacheConfigurationTest {
+
+    @Test
+    void keepsSizesInTheLargestWholeUnit() {
+        assertSize(DataSize.ofMegabytes(64), 64, MemoryUnit.MB);
+        assertSize(DataSize.ofKilobytes(1536), 1536, MemoryUnit.KB);
+    }
+
+    @Test
+    void doesNotRoundSizesDown() {
+        assertSize(DataSize.ofBytes(1500), 1500, MemoryUnit.B);
+        assertSize(DataSize.ofBytes(500), 500, MemoryUnit.B);
+    }
+
+    private static void assertSize(DataSize size, long amount, MemoryUnit unit) {
+        assertThat(CacheConfiguration.amount(size)).isEqualTo(amount);
+        assertThat(CacheConfiguration.unit(size)).isEqualTo(unit);
+    }
+}
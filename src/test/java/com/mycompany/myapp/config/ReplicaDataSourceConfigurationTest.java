@@ -0,0 +1,126 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Unit tests for the routing set up by {@link ReplicaDataSourceConfiguration}.
+ */
+class ReplicaDataSourceConfigurationTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-02T10:00:00Z");
+
+    private HikariDataSource primary;
+
+    private HikariDataSource replica;
+
+    private RecentWriters recentWriters;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() throws Exception {
+        primary = mock(HikariDataSource.class);
+        replica = mock(HikariDataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        when(primary.unwrap(HikariDataSource.class)).thenReturn(primary);
+        recentWriters = new RecentWriters(Duration.ofSeconds(5), 2, Clock.fixed(NOW, ZoneOffset.UTC));
+        ReplicaReads replicaReads = new ReplicaReads(recentWriters, mock(ObjectProvider.class));
+        dataSource = new ReplicaDataSourceConfiguration().dataSource(primary, replica, replicaReads);
+        SecurityContextHolder.getContext()
+            .setAuthentication(new UsernamePasswordAuthenticationToken("jane", "jane", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyConnectionsComeFromTheReplica() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void readWriteConnectionsComeFromThePrimary() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void unusedConnectionsAreNotTaken() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+        }
+
+        verify(primary, never()).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void recentWriterReadsFromThePrimary() throws Exception {
+        recentWriters.recordWrite("jane");
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void writesAreForgottenAfterTheWindow() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(4), NOW.plusSeconds(5));
+        RecentWriters writers = new RecentWriters(Duration.ofSeconds(5), 2, clock);
+
+        writers.recordWrite("jane");
+
+        assertThat(writers.isRecentWriter("jane")).isTrue();
+        assertThat(writers.isRecentWriter("jane")).isFalse();
+    }
+
+    @Test
+    void trackedWritersAreBounded() {
+        recentWriters.recordWrite("jane");
+        recentWriters.recordWrite("john");
+        recentWriters.recordWrite("jack");
+
+        assertThat(recentWriters.isRecentWriter("jane")).isTrue();
+        assertThat(recentWriters.isRecentWriter("john")).isTrue();
+        assertThat(recentWriters.isRecentWriter("jack")).isFalse();
+    }
+}
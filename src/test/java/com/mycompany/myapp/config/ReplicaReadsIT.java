@@ -0,0 +1,136 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.WorkingDayCalculator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the caching of the reads routed to a replica, with a second pool on the test database as the
+ * replica.
+ */
+@IntegrationTest
+@TestPropertySource(properties = "application.datasource.replica.url=${spring.datasource.url}")
+class ReplicaReadsIT {
+
+    private static final String LOGIN = "admin";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private TransactionTemplate readWriteTransaction;
+
+    private Long userId;
+
+    @BeforeEach
+    void initTest() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        userId = readWriteTransaction.execute(status -> userRepository.findOneByLogin(LOGIN).orElseThrow().getId());
+        clearCaches();
+    }
+
+    @AfterEach
+    void cleanup() {
+        clearCaches();
+    }
+
+    @Test
+    void bothPoolsAreUp() throws Exception {
+        Optional<User> user = readOnlyTransaction.execute(status -> userRepository.findById(userId));
+
+        assertThat(replicaDataSource.unwrap(HikariDataSource.class).getPoolName()).isEqualTo("HikariReplica");
+        assertThat(user).isPresent();
+    }
+
+    @Test
+    void replicaReadsDoNotFillTheSecondLevelCache() {
+        readOnlyTransaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isFalse();
+
+        readWriteTransaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+
+    @Test
+    void replicaReadsStillHitTheSecondLevelCache() {
+        readWriteTransaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        readOnlyTransaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+        assertThat(entityManagerFactory.getCache().contains(User.class, userId)).isTrue();
+    }
+
+    @Test
+    void replicaReadsDoNotFillTheSpringCaches() {
+        readOnlyTransaction.execute(status -> userRepository.findOneWithAuthoritiesByLogin(LOGIN).orElseThrow());
+
+        assertThat(cache(UserRepository.USERS_BY_LOGIN_CACHE).get(LOGIN)).isNull();
+
+        readWriteTransaction.execute(status -> userRepository.findOneWithAuthoritiesByLogin(LOGIN).orElseThrow());
+
+        assertThat(cache(UserRepository.USERS_BY_LOGIN_CACHE).get(LOGIN)).isNotNull();
+    }
+
+    @Test
+    void cacheLoadsOfReplicaReadsRunOnThePrimary() {
+        Cache cache = cache(WorkingDayCalculator.WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE);
+        AtomicBoolean loadedReadOnly = new AtomicBoolean(true);
+
+        readOnlyTransaction.execute(status ->
+            cache.get("replica-reads", () -> {
+                loadedReadOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                return new int[] { 1 };
+            })
+        );
+
+        assertThat(loadedReadOnly).isFalse();
+        assertThat(cache.get("replica-reads")).isNotNull();
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+    }
+}
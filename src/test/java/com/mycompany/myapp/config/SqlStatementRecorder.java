@@ -0,0 +1,65 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} recording the SQL statements prepared by the current thread while a call runs,
+ * so that integration tests can bound the number of statements of an endpoint and catch N+1 regressions.
+ * <p>
+ * Registered for the test profiles with {@code hibernate.session_factory.statement_inspector}. Hibernate creates the
+ * inspector itself, hence the static, thread-bound recording: MockMvc calls run on the test thread.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDING.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Run a call and return the SQL statements it prepared, in order.
+     *
+     * @param call the call to record.
+     * @return the statements.
+     * @throws Exception if the call fails.
+     */
+    public static List<String> record(RecordedCall call) throws Exception {
+        List<String> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            call.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * Run a call and fail, printing the statements, if it prepared more than {@code max} SQL statements.
+     *
+     * @param max the maximum number of statements.
+     * @param call the call to record.
+     * @throws Exception if the call fails.
+     */
+    public static void assertMaxStatements(int max, RecordedCall call) throws Exception {
+        List<String> statements = record(call);
+        assertThat(statements)
+            .as(() -> "expected at most " + max + " SQL statements, got " + statements.size() + ":\n" + String.join("\n", statements))
+            .hasSizeLessThanOrEqualTo(max);
+    }
+
+    @FunctionalInterface
+    public interface RecordedCall {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mycompany.myapp.domain;
+
+import static com.mycompany.myapp.domain.HolidayTestSamples.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class HolidayTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(Holiday.class);
+        Holiday holiday1 = getHolidaySample1();
+        Holiday holiday2 = new Holiday();
+        assertThat(holiday1).isNotEqualTo(holiday2);
+
+        holiday2.setId(holiday1.getId());
+        assertThat(holiday1).isEqualTo(holiday2);
+
+        holiday2 = getHolidaySample2();
+        assertThat(holiday1).isNotEqualTo(holiday2);
+    }
+}
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.domain;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HolidayTestSamples {
+
+    private static final Random random = new Random();
+    private static final AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
+
+    public static Holiday getHolidaySample1() {
+        return new Holiday().id(1L).calendar("calendar1").name("name1");
+    }
+
+    public static Holiday getHolidaySample2() {
+        return new Holiday().id(2L).calendar("calendar2").name("name2");
+    }
+
+    public static Holiday getHolidayRandomSampleGenerator() {
+        return new Holiday().id(longCount.incrementAndGet()).calendar(UUID.randomUUID().toString()).name(UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,24 @@
+package com.mycompany.myapp.domain;
+
+import static com.mycompany.myapp.domain.RefreshTokenTestSamples.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class RefreshTokenTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(RefreshToken.class);
+        RefreshToken refreshToken1 = getRefreshTokenSample1();
+        RefreshToken refreshToken2 = new RefreshToken();
+        assertThat(refreshToken1).isNotEqualTo(refreshToken2);
+
+        refreshToken2.setId(refreshToken1.getId());
+        assertThat(refreshToken1).isEqualTo(refreshToken2);
+
+        refreshToken2 = getRefreshTokenSample2();
+        assertThat(refreshToken1).isNotEqualTo(refreshToken2);
+    }
+}
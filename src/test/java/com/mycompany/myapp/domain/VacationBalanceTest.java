@@ -0,0 +1,37 @@
+package com.mycompany.myapp.domain;
+
+import static com.mycompany.myapp.domain.EmployeeTestSamples.*;
+import static com.mycompany.myapp.domain.VacationBalanceTestSamples.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class VacationBalanceTest {
+
+    @Test
+    void equalsVerifier() throws Exception {
+        TestUtil.equalsVerifier(VacationBalance.class);
+        VacationBalance vacationBalance1 = getVacationBalanceSample1();
+        VacationBalance vacationBalance2 = new VacationBalance();
+        assertThat(vacationBalance1).isNotEqualTo(vacationBalance2);
+
+        vacationBalance2.setId(vacationBalance1.getId());
+        assertThat(vacationBalance1).isEqualTo(vacationBalance2);
+
+        vacationBalance2 = getVacationBalanceSample2();
+        assertThat(vacationBalance1).isNotEqualTo(vacationBalance2);
+    }
+
+    @Test
+    void employeeTest() {
+        VacationBalance vacationBalance = getVacationBalanceRandomSampleGenerator();
+        Employee employeeBack = getEmployeeRandomSampleGenerator();
+
+        vacationBalance.setEmployee(employeeBack);
+        assertThat(vacationBalance.getEmployee()).isEqualTo(employeeBack);
+
+        vacationBalance.employee(null);
+        assertThat(vacationBalance.getEmployee()).isNull();
+    }
+}
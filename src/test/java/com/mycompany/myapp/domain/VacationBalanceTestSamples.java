@@ -0,0 +1,29 @@
+package com.mycompany.myapp.domain;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class VacationBalanceTestSamples {
+
+    private static final Random random = new Random();
+    private static final AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
+    private static final AtomicInteger intCount = new AtomicInteger(random.nextInt() + (2 * Short.MAX_VALUE));
+
+    public static VacationBalance getVacationBalanceSample1() {
+        return new VacationBalance().id(1L).year(1).entitledDays(1).usedDays(1).pendingDays(1);
+    }
+
+    public static VacationBalance getVacationBalanceSample2() {
+        return new VacationBalance().id(2L).year(2).entitledDays(2).usedDays(2).pendingDays(2);
+    }
+
+    public static VacationBalance getVacationBalanceRandomSampleGenerator() {
+        return new VacationBalance()
+            .id(longCount.incrementAndGet())
+            .year(intCount.incrementAndGet())
+            .entitledDays(intCount.incrementAndGet())
+            .usedDays(intCount.incrementAndGet())
+            .pendingDays(intCount.incrementAndGet());
+    }
+}
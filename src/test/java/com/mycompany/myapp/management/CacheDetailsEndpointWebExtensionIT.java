@@ -0,0 +1,95 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for {@link CacheDetailsEndpointWebExtension}.
+ */
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+@IntegrationTest
+class CacheDetailsEndpointWebExtensionIT {
+
+    private static final String CACHES = "$.cacheManagers.cacheManager.caches";
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void testDefaultRegion() throws Exception {
+        restMockMvc
+            .perform(get("/management/caches"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].tiers[0].type").value("heap"))
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].tiers[0].unit").value("entries"))
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].timeToLive").value("PT1H"))
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].timeToIdle").doesNotExist());
+    }
+
+    @Test
+    void testConfiguredRegion() throws Exception {
+        // see application.cache.regions in the test configuration
+        restMockMvc
+            .perform(get("/management/caches"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.Authority'].tiers[0].size").value(50))
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.Authority'].timeToIdle").value("PT10M"))
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.Authority'].timeToLive").doesNotExist());
+    }
+
+    @Test
+    void testStatistics() throws Exception {
+        restMockMvc
+            .perform(get("/management/caches"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].statistics.entries").isNumber())
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].statistics.gets").isNumber())
+            .andExpect(jsonPath(CACHES + "['com.mycompany.myapp.domain.User'].statistics.evictions").isNumber());
+    }
+
+    @Test
+    void testOccupancyDoesNotCountAsHits() throws Exception {
+        Cache cache = cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE);
+        cache.clear();
+        cache.put("occupancy-1", "1");
+        cache.put("occupancy-2", "2");
+        String path = CACHES + "['" + UserRepository.USERS_BY_LOGIN_CACHE + "'].statistics";
+
+        String first = restMockMvc
+            .perform(get("/management/caches"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        String second = restMockMvc
+            .perform(get("/management/caches"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThat(((Number) JsonPath.read(first, path + ".entries")).longValue()).isEqualTo(2);
+        assertThat(((Number) JsonPath.read(second, path + ".entries")).longValue()).isEqualTo(2);
+        assertThat(((Number) JsonPath.read(second, path + ".hits")).longValue()).isEqualTo(
+            ((Number) JsonPath.read(first, path + ".hits")).longValue()
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ConnectionMonitor}.
+ */
+class ConnectionMonitorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private Connection target;
+
+    private DataSource pool;
+
+    @BeforeEach
+    void setup() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        target = mock(Connection.class);
+        pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(target);
+    }
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    void closeRecordsAcquireAndHoldTimesOnce() throws Exception {
+        ConnectionMonitor monitor = monitor(Duration.ZERO);
+        DataSource dataSource = new MonitoredDataSource(pool, "Hikari", monitor);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(monitor.getLeases()).hasSize(1);
+        connection.close();
+        connection.close();
+
+        verify(target, times(1)).close();
+        assertThat(monitor.getLeases()).isEmpty();
+        assertThat(timerCount(ConnectionMonitor.ACQUIRE_METER_NAME, ConnectionMonitor.NO_TRANSACTION)).isEqualTo(1);
+        assertThat(timerCount(ConnectionMonitor.HOLD_METER_NAME, ConnectionMonitor.NO_TRANSACTION)).isEqualTo(1);
+    }
+
+    @Test
+    void timersAreTaggedWithTheTransactionalMethod() throws Exception {
+        ConnectionMonitor monitor = monitor(Duration.ZERO);
+        DataSource dataSource = new MonitoredDataSource(pool, "Hikari", monitor);
+
+        // read-only transactions are named after their connection is taken
+        Connection connection = dataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionName("com.mycompany.myapp.service.UserService.getAllManagedUsers");
+        connection.createStatement();
+        connection.close();
+
+        assertThat(timerCount(ConnectionMonitor.HOLD_METER_NAME, "UserService.getAllManagedUsers")).isEqualTo(1);
+        assertThat(monitor.getTimers("Hikari")).containsOnlyKeys("UserService.getAllManagedUsers");
+    }
+
+    @Test
+    void unwrapReachesTheTargetConnection() throws Exception {
+        DataSource dataSource = new MonitoredDataSource(pool, "Hikari", monitor(Duration.ZERO));
+        when(target.unwrap(String.class)).thenReturn("pg");
+
+        Connection connection = dataSource.getConnection();
+
+        assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+        assertThat(connection.unwrap(String.class)).isEqualTo("pg");
+        assertThat(connection).isEqualTo(connection).isNotEqualTo(target);
+    }
+
+    @Test
+    void connectionsHeldTooLongAreReportedOnce() throws Exception {
+        ConnectionMonitor monitor = monitor(Duration.ofMillis(1));
+        DataSource dataSource = new MonitoredDataSource(pool, "Hikari", monitor);
+
+        Connection connection = dataSource.getConnection();
+        Thread.sleep(10);
+        monitor.detectLeaks();
+        monitor.detectLeaks();
+
+        ConnectionMonitor.Lease lease = monitor.getLeases().iterator().next();
+        assertThat(lease.leaked).isTrue();
+        assertThat(lease.callSite.getStackTrace()).isNotEmpty();
+        assertThat(meterRegistry.get(ConnectionMonitor.LEAKS_METER_NAME).tag("pool", "Hikari").counter().count()).isEqualTo(1);
+        connection.close();
+        assertThat(monitor.getLeases()).isEmpty();
+    }
+
+    @Test
+    void callSitesAreNotCapturedWhenLeakDetectionIsDisabled() throws Exception {
+        ConnectionMonitor monitor = monitor(Duration.ZERO);
+        new MonitoredDataSource(pool, "Hikari", monitor).getConnection();
+
+        assertThat(monitor.getLeases().iterator().next().callSite).isNull();
+    }
+
+    private ConnectionMonitor monitor(Duration leakDetectionThreshold) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getDatasource().setLeakDetectionThreshold(leakDetectionThreshold);
+        return new ConnectionMonitor(meterRegistry, applicationProperties);
+    }
+
+    private long timerCount(String name, String method) {
+        return meterRegistry.get(name).tag("pool", "Hikari").tag("method", method).timer().count();
+    }
+}
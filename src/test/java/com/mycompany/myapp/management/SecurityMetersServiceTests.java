@@ -13,6 +13,8 @@ class SecurityMetersServiceTests {
 
     private static final String INVALID_TOKENS_METER_EXPECTED_NAME = "security.authentication.invalid-tokens";
 
+    private static final String TOKEN_CACHE_METER_EXPECTED_NAME = "security.authentication.token-cache";
+
     private MeterRegistry meterRegistry;
 
     private SecurityMetersService securityMetersService;
@@ -67,4 +69,18 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testTokenCacheMethodsShouldBeBoundToCorrectCounters() {
+        securityMetersService.trackTokenCacheHit();
+        securityMetersService.trackTokenCacheHit();
+        securityMetersService.trackTokenCacheMiss();
+        securityMetersService.trackTokenCacheEvictions(3);
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter().count()).isEqualTo(2);
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME + ".evictions").counter().count()).isEqualTo(3);
+    }
 }
@@ -0,0 +1,106 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-02T10:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Mock
+    private Clock clock;
+
+    private MeterRegistry meterRegistry;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 2, new SecurityMetersService(meterRegistry), clock);
+        when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void decodesATokenOnce() {
+        Jwt jwt = jwt("a", NOW.plusSeconds(60));
+        when(delegate.decode("a")).thenReturn(jwt);
+
+        assertThat(cachingJwtDecoder.decode("a")).isSameAs(jwt);
+        assertThat(cachingJwtDecoder.decode("a")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("a");
+        assertThat(cacheCount("hit")).isEqualTo(1);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void sendsATokenBackToTheDelegateAtItsExpiry() {
+        when(delegate.decode("a")).thenReturn(jwt("a", NOW.plusSeconds(60)));
+        cachingJwtDecoder.decode("a");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(60));
+        when(delegate.decode("a")).thenThrow(new BadJwtException("Jwt expired at " + NOW.plusSeconds(60)));
+
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("a")).isInstanceOf(BadJwtException.class);
+        assertThat(cachingJwtDecoder.size()).isZero();
+        assertThat(meterRegistry.get(SecurityMetersService.TOKEN_CACHE_EVICTIONS_METER_NAME).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void neverKeepsRejectedTokens() {
+        when(delegate.decode(anyString())).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("a")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("a")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("a");
+        assertThat(cachingJwtDecoder.size()).isZero();
+    }
+
+    @Test
+    void staysWithinItsBound() {
+        when(delegate.decode(anyString())).thenAnswer(invocation -> jwt(invocation.getArgument(0), NOW.plusSeconds(60)));
+
+        cachingJwtDecoder.decode("a");
+        cachingJwtDecoder.decode("b");
+        cachingJwtDecoder.decode("c");
+
+        assertThat(cachingJwtDecoder.size()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get(SecurityMetersService.TOKEN_CACHE_EVICTIONS_METER_NAME).counter().count()).isPositive();
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry
+            .get(SecurityMetersService.TOKEN_CACHE_METER_NAME)
+            .tag(SecurityMetersService.TOKEN_CACHE_METER_RESULT_DIMENSION, result)
+            .counter()
+            .count();
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token).header("alg", "HS512").subject("user").issuedAt(NOW.minusSeconds(1)).expiresAt(expiresAt).build();
+    }
+}
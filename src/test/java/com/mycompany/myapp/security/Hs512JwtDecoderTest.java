@@ -0,0 +1,132 @@
+package com.mycompany.myapp.security;
+
+import static com.mycompany.myapp.security.SecurityUtils.AUTHORITIES_CLAIM;
+import static com.mycompany.myapp.security.SecurityUtils.JWT_ALGORITHM;
+import static com.mycompany.myapp.security.SecurityUtils.USER_ID_CLAIM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+class Hs512JwtDecoderTest {
+
+    private static final SecretKey SECRET_KEY = secretKey(1);
+
+    private NimbusJwtDecoder nimbusDecoder;
+
+    private JwtDecoder fallback;
+
+    private Hs512JwtDecoder hs512JwtDecoder;
+
+    @BeforeEach
+    void init() {
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(SECRET_KEY).macAlgorithm(JWT_ALGORITHM).build();
+        fallback = spy(new DelegatingDecoder(nimbusDecoder));
+        hs512JwtDecoder = new Hs512JwtDecoder(SECRET_KEY, fallback, Clock.systemUTC());
+    }
+
+    @Test
+    void decodesOurTokensLikeNimbus() {
+        String token = encode(SECRET_KEY, claims -> claims.claim(AUTHORITIES_CLAIM, "ROLE_ADMIN ROLE_USER").claim(USER_ID_CLAIM, 1L));
+
+        Jwt jwt = hs512JwtDecoder.decode(token);
+        // a second decode reuses the buffers of the thread
+        hs512JwtDecoder.decode(token);
+
+        Jwt expected = nimbusDecoder.decode(token);
+        assertThat(jwt.getTokenValue()).isEqualTo(token);
+        assertThat(jwt.getHeaders()).isEqualTo(expected.getHeaders());
+        assertThat(jwt.getClaims()).isEqualTo(expected.getClaims());
+        verify(fallback, never()).decode(anyString());
+    }
+
+    @Test
+    void handsOtherTokensToTheFallback() {
+        assertFallsBack(encode(SECRET_KEY, claims -> claims.claim(AUTHORITIES_CLAIM, List.of("ROLE_ADMIN"))));
+        assertFallsBack(encode(SECRET_KEY, claims -> claims.claim(AUTHORITIES_CLAIM, "ROLE_USER").issuer("somebody")));
+        assertFallsBack(encode(SECRET_KEY, claims -> claims.subject("josé \"pepe\"")));
+        assertFallsBack(encode(secretKey(2), claims -> claims.claim(AUTHORITIES_CLAIM, "ROLE_USER")));
+        Instant past = Instant.now().minusSeconds(600);
+        assertFallsBack(encode(SECRET_KEY, claims -> claims.issuedAt(past).expiresAt(past.plusSeconds(1))));
+        assertFallsBack("not.a.token");
+    }
+
+    @Test
+    void decodesBase64UrlLikeTheJdk() {
+        Random random = new Random(42);
+        byte[] out = new byte[128];
+        for (int length = 0; length < 100; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+            int written = Hs512JwtDecoder.decodeBase64Url(encoded, 0, encoded.length(), out);
+
+            assertThat(written).isEqualTo(length);
+            assertThat(Arrays.copyOf(out, written)).isEqualTo(bytes);
+        }
+        assertThat(Hs512JwtDecoder.decodeBase64Url("ab+c", 0, 4, out)).isNegative();
+    }
+
+    private void assertFallsBack(String token) {
+        try {
+            hs512JwtDecoder.decode(token);
+        } catch (RuntimeException e) {
+            // rejected by the fallback
+        }
+        verify(fallback).decode(token);
+    }
+
+    private static String encode(SecretKey secretKey, Consumer<JwtClaimsSet.Builder> customizer) {
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder().issuedAt(now).expiresAt(now.plusSeconds(60)).subject("admin");
+        customizer.accept(claims);
+        return new NimbusJwtEncoder(new ImmutableSecret<>(secretKey))
+            .encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims.build()))
+            .getTokenValue();
+    }
+
+    private static SecretKey secretKey(long seed) {
+        byte[] keyBytes = new byte[64];
+        new Random(seed).nextBytes(keyBytes);
+        return new SecretKeySpec(keyBytes, JWT_ALGORITHM.getName());
+    }
+
+    /**
+     * Non-final wrapper, so Mockito can spy on the fallback.
+     */
+    private static class DelegatingDecoder implements JwtDecoder {
+
+        private final JwtDecoder delegate;
+
+        DelegatingDecoder(JwtDecoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Jwt decode(String token) {
+            return delegate.decode(token);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@ExtendWith(MockitoExtension.class)
+class LoginThrottleTest {
+
+    private static final long NOW = 1_750_000_000_000L;
+
+    @Mock
+    private Clock clock;
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties.Security.LoginThrottle properties;
+
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ApplicationProperties().getSecurity().getLoginThrottle();
+        properties.setAttemptsPerLogin(3);
+        properties.setAttemptsPerAddress(5);
+        properties.setPeriod(Duration.ofMinutes(1));
+        properties.setTrustedProxies(List.of("10.1.0.0/16", "192.168.0.1"));
+        loginThrottle = new LoginThrottle(properties, new SecurityMetersService(meterRegistry), clock);
+        lenient().when(clock.millis()).thenReturn(NOW);
+    }
+
+    @Test
+    void refusesALoginAfterItsBurstUntilATokenIsBack() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            loginThrottle.acquire("admin", "10.0.0." + attempt);
+        }
+
+        // logins are case insensitive
+        assertThatThrownBy(() -> loginThrottle.acquire("ADMIN", "10.0.0.9"))
+            .isInstanceOf(LoginThrottledException.class)
+            .extracting(e -> ((LoginThrottledException) e).getRetryAfterSeconds())
+            .isEqualTo(20L);
+        assertThat(throttledCount("login")).isEqualTo(1);
+
+        // one token every 20 seconds
+        when(clock.millis()).thenReturn(NOW + 20_000);
+        assertThatNoException().isThrownBy(() -> loginThrottle.acquire("admin", "10.0.0.9"));
+        assertThatThrownBy(() -> loginThrottle.acquire("admin", "10.0.0.9")).isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    void refusesAnAddressAfterItsBurst() {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            loginThrottle.acquire("user" + attempt, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginThrottle.acquire("other", "10.0.0.1")).isInstanceOf(LoginThrottledException.class);
+        assertThatNoException().isThrownBy(() -> loginThrottle.acquire("other", "10.0.0.2"));
+        assertThat(throttledCount("address")).isEqualTo(1);
+    }
+
+    @Test
+    void canThrottleByLoginOnly() {
+        properties.setAttemptsPerAddress(0);
+        loginThrottle = new LoginThrottle(properties, new SecurityMetersService(meterRegistry), clock);
+
+        // every client behind the same proxy address
+        for (int attempt = 0; attempt < 10; attempt++) {
+            loginThrottle.acquire("user" + attempt, "10.0.0.1");
+        }
+        loginThrottle.acquire("admin", "10.0.0.1");
+        loginThrottle.acquire("admin", "10.0.0.1");
+        loginThrottle.acquire("admin", "10.0.0.1");
+
+        assertThatThrownBy(() -> loginThrottle.acquire("admin", "10.0.0.1")).isInstanceOf(LoginThrottledException.class);
+        assertThat(throttledCount("address")).isZero();
+        assertThat(loginThrottle.size()).isEqualTo(11);
+    }
+
+    @Test
+    void dropsBucketsOnceTheyAreFullAgain() {
+        loginThrottle.acquire("admin", "10.0.0.1");
+        assertThat(loginThrottle.size()).isEqualTo(2);
+
+        loginThrottle.evictIdle();
+        assertThat(loginThrottle.size()).isEqualTo(2);
+
+        when(clock.millis()).thenReturn(NOW + 60_000);
+        loginThrottle.evictIdle();
+        assertThat(loginThrottle.size()).isZero();
+    }
+
+    @Test
+    void staysWithinItsBound() {
+        properties.setMaxEntries(16);
+        loginThrottle = new LoginThrottle(properties, new SecurityMetersService(meterRegistry), clock);
+
+        for (int attempt = 0; attempt < 1_000; attempt++) {
+            loginThrottle.acquire("user" + attempt, "10.0." + (attempt / 256) + "." + (attempt % 256));
+        }
+
+        // one entry per stripe, for logins and for addresses
+        assertThat(loginThrottle.size()).isLessThanOrEqualTo(32);
+    }
+
+    @Test
+    void ignoresTheForwardedAddressOfAClient() {
+        MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+
+        assertThat(loginThrottle.clientAddress(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void takesTheAddressForwardedByTheTrustedProxies() {
+        // the proxy appends the address it received the request from to what the client sent
+        MockHttpServletRequest request = request("192.168.0.1", "198.51.100.1, 203.0.113.7", "10.1.2.3");
+
+        assertThat(loginThrottle.clientAddress(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void stopsAtTheFirstUntrustedForwardedAddress() {
+        assertThat(loginThrottle.clientAddress(request("10.1.0.5", "not-an-address, 10.1.2.3"))).isEqualTo("not-an-address");
+        // only trusted proxies in the header
+        assertThat(loginThrottle.clientAddress(request("10.1.0.5", "10.1.2.3"))).isEqualTo("10.1.2.3");
+        assertThat(loginThrottle.clientAddress(request("10.1.0.5"))).isEqualTo("10.1.0.5");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String... forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        for (String line : forwardedFor) {
+            request.addHeader("X-Forwarded-For", line);
+        }
+        return request;
+    }
+
+    private double throttledCount(String key) {
+        return meterRegistry
+            .get(SecurityMetersService.LOGIN_THROTTLED_METER_NAME)
+            .tag(SecurityMetersService.LOGIN_THROTTLED_METER_KEY_DIMENSION, key)
+            .counter()
+            .count();
+    }
+}
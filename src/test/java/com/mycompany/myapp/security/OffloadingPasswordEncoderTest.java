@@ -0,0 +1,111 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class OffloadingPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicReference<String> hashingThread = new AtomicReference<>();
+
+    private MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+
+    private OffloadingPasswordEncoder offloadingPasswordEncoder;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        SecurityMetersService metersService = new SecurityMetersService(meterRegistry);
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        metersService.monitorPasswordHashQueue(executor);
+        offloadingPasswordEncoder = new OffloadingPasswordEncoder(new BlockingEncoder(), executor, metersService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        offloadingPasswordEncoder.shutdown();
+    }
+
+    @Test
+    void hashesOnTheExecutor() {
+        release.countDown();
+
+        assertThat(offloadingPasswordEncoder.matches("secret", "{plain}secret")).isTrue();
+        assertThat(offloadingPasswordEncoder.encode("secret")).isEqualTo("{plain}secret");
+
+        assertThat(hashingThread.get()).isNotEqualTo(Thread.currentThread().getName());
+        assertThat(hashCount("matches")).isEqualTo(1);
+        assertThat(hashCount("encode")).isEqualTo(1);
+    }
+
+    @Test
+    void refusesAtOnceWhenTheQueueIsFull() throws Exception {
+        // one password being hashed, one waiting
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> offloadingPasswordEncoder.matches("a", "{plain}a"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> offloadingPasswordEncoder.matches("b", "{plain}b"));
+        while (executor.getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+        assertThat(meterRegistry.get(SecurityMetersService.PASSWORD_HASH_QUEUE_METER_NAME).gauge().value()).isEqualTo(1);
+
+        assertThatThrownBy(() -> offloadingPasswordEncoder.matches("c", "{plain}c")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(meterRegistry.get(SecurityMetersService.PASSWORD_HASH_REJECTED_METER_NAME).counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private long hashCount(String operation) {
+        return meterRegistry
+            .get(SecurityMetersService.PASSWORD_HASH_METER_NAME)
+            .tag(SecurityMetersService.PASSWORD_HASH_METER_OPERATION_DIMENSION, operation)
+            .timer()
+            .count();
+    }
+
+    /**
+     * Plain text encoder that waits for {@link #release} before hashing.
+     */
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("{plain}" + rawPassword);
+        }
+
+        private void await() {
+            hashingThread.set(Thread.currentThread().getName());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.AbsenceSpan;
+import com.mycompany.myapp.service.cache.CacheInvalidation;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
+import com.mycompany.myapp.service.cache.InMemoryCacheInvalidationBus;
+import com.mycompany.myapp.service.cache.PrimaryReads;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class AbsenceCalendarServiceTest {
+
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryCacheInvalidationBus bus;
+
+    private AbsenceCalendarService absenceCalendarService;
+
+    @BeforeEach
+    void init() {
+        bus = new InMemoryCacheInvalidationBus();
+        absenceCalendarService = new AbsenceCalendarService(
+            vacationRequestRepository,
+            cacheInvalidationService,
+            new PrimaryReads(transactionManager, new ApplicationProperties()),
+            bus
+        );
+    }
+
+    @Test
+    void countsAbsentEmployeesPerDayAcrossYears() {
+        when(vacationRequestRepository.findAbsenceSpans(any(), eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31)))).thenReturn(
+            List.of(
+                new AbsenceSpan(1L, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2)),
+                new AbsenceSpan(2L, LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 31))
+            )
+        );
+        when(vacationRequestRepository.findAbsenceSpans(any(), eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 12, 31)))).thenReturn(
+            List.of(new AbsenceSpan(1L, LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2)))
+        );
+
+        var calendar = absenceCalendarService.countAbsent(LocalDate.of(2024, 12, 29), LocalDate.of(2025, 1, 3), null);
+
+        assertThat(calendar.absent()).containsExactly(0, 1, 2, 1, 1, 0);
+        assertThat(absenceCalendarService.countAbsent(LocalDate.of(2024, 12, 29), LocalDate.of(2025, 1, 3), List.of(2L)).absent()).containsExactly(
+            0,
+            0,
+            1,
+            0,
+            0,
+            0
+        );
+        assertThat(absenceCalendarService.findAbsentEmployeeIds(LocalDate.of(2024, 12, 31))).containsExactlyInAnyOrder(1L, 2L);
+        // each year is read once
+        verify(vacationRequestRepository, times(2)).findAbsenceSpans(any(), any(), any());
+    }
+
+    @Test
+    void countsDaysOnWordBoundaries() {
+        // the span covers both ends of the second word, which holds the zero based days 64 to 127
+        LocalDate first = LocalDate.ofYearDay(2026, 64);
+        LocalDate last = LocalDate.ofYearDay(2026, 129);
+        when(vacationRequestRepository.findAbsenceSpans(any(), any(), any())).thenReturn(List.of(new AbsenceSpan(1L, first, last)));
+
+        int[] absent = absenceCalendarService.countAbsent(LocalDate.ofYearDay(2026, 1), LocalDate.of(2026, 12, 31), null).absent();
+
+        assertThat(absent[62]).isZero();
+        for (int day = 63; day <= 128; day++) {
+            assertThat(absent[day]).isEqualTo(1);
+        }
+        assertThat(absent[129]).isZero();
+    }
+
+    @Test
+    void dropsTheYearsChangedOnAnotherNode() {
+        LocalDate day = LocalDate.of(2025, 6, 2);
+        when(vacationRequestRepository.findAbsenceSpans(any(), eq(LocalDate.of(2025, 1, 1)), any())).thenReturn(
+            List.of(),
+            List.of(new AbsenceSpan(1L, day, day))
+        );
+        assertThat(absenceCalendarService.findAbsentEmployeeIds(day)).isEmpty();
+
+        // another year, then the year held by this node
+        bus.publish(List.of(CacheInvalidation.evict(AbsenceCalendarService.ABSENCE_INDEX_REGION, 2024L)));
+        assertThat(absenceCalendarService.findAbsentEmployeeIds(day)).isEmpty();
+        bus.publish(List.of(CacheInvalidation.evict(AbsenceCalendarService.ABSENCE_INDEX_REGION, 2025L)));
+        assertThat(absenceCalendarService.findAbsentEmployeeIds(day)).containsExactly(1L);
+
+        verify(vacationRequestRepository, times(2)).findAbsenceSpans(any(), any(), any());
+    }
+
+    @Test
+    void keepsOnlyTheYearsUsedLast() {
+        when(vacationRequestRepository.findAbsenceSpans(any(), any(), any())).thenReturn(List.of());
+        LocalDate day = LocalDate.of(2025, 6, 2);
+        absenceCalendarService.findAbsentEmployeeIds(day);
+
+        for (int year = 1; year <= AbsenceCalendarService.MAX_LOADED_YEARS; year++) {
+            absenceCalendarService.findAbsentEmployeeIds(LocalDate.of(year, 1, 1));
+        }
+        // the most recent one is still loaded, the first one was dropped
+        absenceCalendarService.findAbsentEmployeeIds(LocalDate.of(AbsenceCalendarService.MAX_LOADED_YEARS, 1, 1));
+        absenceCalendarService.findAbsentEmployeeIds(day);
+
+        verify(vacationRequestRepository, times(AbsenceCalendarService.MAX_LOADED_YEARS + 2)).findAbsenceSpans(any(), any(), any());
+    }
+
+    @Test
+    void dropsEveryYearWhenAllCachesAreDropped() {
+        LocalDate day = LocalDate.of(2025, 6, 2);
+        when(vacationRequestRepository.findAbsenceSpans(any(), any(), any())).thenReturn(List.of());
+        absenceCalendarService.findAbsentEmployeeIds(day);
+
+        bus.publish(List.of(CacheInvalidation.all()));
+        absenceCalendarService.findAbsentEmployeeIds(day);
+
+        verify(vacationRequestRepository, times(2)).findAbsenceSpans(any(), any(), any());
+    }
+}
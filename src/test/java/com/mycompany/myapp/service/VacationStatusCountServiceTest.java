@@ -0,0 +1,133 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.repository.projection.StatusCount;
+import com.mycompany.myapp.service.cache.PrimaryReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class VacationStatusCountServiceTest {
+
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VacationStatusCountService vacationStatusCountService;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        vacationStatusCountService = new VacationStatusCountService(
+            vacationRequestRepository,
+            new PrimaryReads(transactionManager, new ApplicationProperties()),
+            meterRegistry
+        );
+        when(vacationRequestRepository.countByStatusAndYear()).thenReturn(
+            List.of(
+                new StatusCount(VacationStatus.PENDING, 2024, 2L),
+                new StatusCount(VacationStatus.PENDING, 2025, 3L),
+                new StatusCount(VacationStatus.REJECTED, 2025, 1L)
+            )
+        );
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(vacationStatusCountService);
+    }
+
+    @Test
+    void countsAreLoadedOnceAndServedFromMemory() {
+        assertThat(vacationStatusCountService.getCounts(null).counts()).containsEntry(VacationStatus.PENDING, 5L);
+        assertThat(vacationStatusCountService.getCounts(2025).counts())
+            .containsEntry(VacationStatus.PENDING, 3L)
+            .containsEntry(VacationStatus.REJECTED, 1L)
+            .containsEntry(VacationStatus.APPROVED, 0L);
+        assertThat(vacationStatusCountService.getCounts(2023).counts()).containsEntry(VacationStatus.PENDING, 0L);
+
+        verify(vacationRequestRepository, times(1)).countByStatusAndYear();
+    }
+
+    @Test
+    void transitionsAreCountedOnceCommitted() {
+        vacationStatusCountService.getCounts(null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        vacationStatusCountService.countAfterCommit(VacationStatus.PENDING, 2025, -1);
+        vacationStatusCountService.countAfterCommit(VacationStatus.APPROVED, 2025, 1);
+        assertThat(vacationStatusCountService.getCounts(2025).counts()).containsEntry(VacationStatus.PENDING, 3L);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(vacationStatusCountService.getCounts(2025).counts())
+            .containsEntry(VacationStatus.PENDING, 2L)
+            .containsEntry(VacationStatus.APPROVED, 1L);
+    }
+
+    @Test
+    void transitionsAreDroppedOnRollback() {
+        vacationStatusCountService.getCounts(null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        vacationStatusCountService.countAfterCommit(VacationStatus.PENDING, 2025, 1);
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(),
+            TransactionSynchronization.STATUS_ROLLED_BACK
+        );
+
+        assertThat(vacationStatusCountService.getCounts(2025).counts()).containsEntry(VacationStatus.PENDING, 3L);
+    }
+
+    @Test
+    void reconciliationReplacesTheCounts() {
+        vacationStatusCountService.getCounts(null);
+        when(vacationRequestRepository.countByStatusAndYear()).thenReturn(List.of(new StatusCount(VacationStatus.APPROVED, 2025, 4L)));
+
+        vacationStatusCountService.reconcile();
+
+        assertThat(vacationStatusCountService.getCounts(null).counts())
+            .containsEntry(VacationStatus.PENDING, 0L)
+            .containsEntry(VacationStatus.APPROVED, 4L);
+    }
+
+    @Test
+    void countsAreExportedAsGauges() {
+        assertThat(gauge("pending")).isEqualTo(5.0);
+        assertThat(gauge("rejected")).isEqualTo(1.0);
+    }
+
+    private double gauge(String status) {
+        return meterRegistry
+            .get(VacationStatusCountService.STATUS_METER_NAME)
+            .tag(VacationStatusCountService.STATUS_METER_STATUS_DIMENSION, status)
+            .gauge()
+            .value();
+    }
+}
@@ -0,0 +1,104 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.repository.HolidayRepository;
+import com.mycompany.myapp.service.cache.CacheInvalidation;
+import com.mycompany.myapp.service.cache.CacheInvalidationService;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class WorkingDayCalculatorTest {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    private WorkingDayCalculator workingDayCalculator;
+
+    @BeforeEach
+    void init() {
+        workingDayCalculator = new WorkingDayCalculator(
+            holidayRepository,
+            new ConcurrentMapCacheManager(WorkingDayCalculator.WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE),
+            cacheInvalidationService,
+            new ApplicationProperties()
+        );
+    }
+
+    @Test
+    void skipsWeekendsAndHolidaysAcrossYears() {
+        when(holidayRepository.findDates(eq("default"), eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31)))).thenReturn(
+            List.of(LocalDate.of(2024, 12, 25))
+        );
+        when(holidayRepository.findDates(eq("default"), eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 12, 31)))).thenReturn(
+            List.of(LocalDate.of(2025, 1, 1))
+        );
+
+        // Mon 2024-12-23 to Fri 2025-01-03: 10 week days, minus Christmas and New Year
+        assertThat(workingDayCalculator.workingDays(LocalDate.of(2024, 12, 23), LocalDate.of(2025, 1, 3))).isEqualTo(8);
+        // a weekend only
+        assertThat(workingDayCalculator.workingDays(LocalDate.of(2024, 12, 28), LocalDate.of(2024, 12, 29))).isZero();
+        // a single working day
+        assertThat(workingDayCalculator.workingDays(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 2))).isEqualTo(1);
+        // each year is read once
+        verify(holidayRepository, times(2)).findDates(any(), any(), any());
+    }
+
+    @Test
+    void countsNothingForAnInvertedPeriod() {
+        assertThat(workingDayCalculator.workingDays(LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 7))).isZero();
+    }
+
+    @Test
+    void keepsCalendarsApart() {
+        when(holidayRepository.findDates(eq("default"), any(), any())).thenReturn(List.of());
+        when(holidayRepository.findDates(eq("mx"), any(), any())).thenReturn(List.of(LocalDate.of(2025, 9, 16)));
+
+        // Mon 2025-09-15 to Fri 2025-09-19
+        assertThat(workingDayCalculator.workingDays(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 19))).isEqualTo(5);
+        assertThat(workingDayCalculator.workingDays("mx", LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 19))).isEqualTo(4);
+    }
+
+    @Test
+    void reloadsAYearOnceAHolidayChanges() {
+        when(holidayRepository.findDates(eq("default"), any(), any())).thenReturn(List.of(), List.of(LocalDate.of(2025, 9, 16)));
+        LocalDate monday = LocalDate.of(2025, 9, 15);
+        LocalDate friday = LocalDate.of(2025, 9, 19);
+        assertThat(workingDayCalculator.workingDays(monday, friday)).isEqualTo(5);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            workingDayCalculator.invalidateAfterCompletion("default", 2025);
+            // still cached until the transaction completes
+            assertThat(workingDayCalculator.workingDays(monday, friday)).isEqualTo(5);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync ->
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+            );
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(workingDayCalculator.workingDays(monday, friday)).isEqualTo(4);
+        verify(cacheInvalidationService).broadcast(
+            CacheInvalidation.evict(WorkingDayCalculator.WORKING_DAYS_BY_CALENDAR_AND_YEAR_CACHE, "default:2025")
+        );
+    }
+}
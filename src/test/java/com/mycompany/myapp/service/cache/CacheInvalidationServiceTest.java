@@ -0,0 +1,100 @@
+package com.mycompany.myapp.service.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationServiceTest {
+
+    @Mock
+    private CacheInvalidationBus bus;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache cache;
+
+    private CacheInvalidationService cacheInvalidationService;
+
+    @BeforeEach
+    void init() {
+        cacheInvalidationService = new CacheInvalidationService(bus, cacheManager, entityManagerFactory);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cacheInvalidationService);
+    }
+
+    @Test
+    void publishesRightAwayOutsideOfATransaction() {
+        cacheInvalidationService.broadcast(CacheInvalidation.evict("usersByLogin", "jane"));
+
+        verify(bus).publish(List.of(CacheInvalidation.evict("usersByLogin", "jane")));
+    }
+
+    @Test
+    void publishesOneBatchOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheInvalidationService.broadcast(CacheInvalidation.evict("usersByLogin", "jane"));
+        cacheInvalidationService.broadcast(CacheInvalidation.evict("usersByEmail", "jane@localhost"));
+        cacheInvalidationService.broadcast(CacheInvalidation.evict("usersByLogin", "jane"));
+        verify(bus, never()).publish(any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(bus).publish(
+            List.of(CacheInvalidation.evict("usersByLogin", "jane"), CacheInvalidation.evict("usersByEmail", "jane@localhost"))
+        );
+    }
+
+    @Test
+    void dropsTheBatchOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheInvalidationService.broadcast(CacheInvalidation.evict("usersByLogin", "jane"));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+            TransactionSynchronizationManager.getSynchronizations(),
+            TransactionSynchronization.STATUS_ROLLED_BACK
+        );
+
+        verify(bus, never()).publish(any());
+    }
+
+    @Test
+    void appliesReceivedInvalidationsToTheSpringCaches() {
+        when(cacheManager.getCache("usersByLogin")).thenReturn(cache);
+        when(cacheManager.getCache("usersByEmail")).thenReturn(cache);
+
+        cacheInvalidationService.apply(List.of(CacheInvalidation.evict("usersByLogin", "jane"), CacheInvalidation.clear("usersByEmail")));
+
+        verify(cache).evict("jane");
+        verify(cache).clear();
+    }
+}
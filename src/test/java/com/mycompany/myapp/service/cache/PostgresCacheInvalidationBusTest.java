@@ -0,0 +1,75 @@
+package com.mycompany.myapp.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PostgresCacheInvalidationBusTest {
+
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    @Test
+    void encodedInvalidationsAreDecoded() {
+        List<CacheInvalidation> invalidations = List.of(
+            CacheInvalidation.evict("usersByLogin", "jane\tdoe"),
+            CacheInvalidation.clear("usersByEmail"),
+            CacheInvalidation.entity("com.mycompany.myapp.domain.User", 42L),
+            CacheInvalidation.collection("com.mycompany.myapp.domain.User.authorities", 42L),
+            CacheInvalidation.all()
+        );
+
+        for (CacheInvalidation invalidation : invalidations) {
+            assertThat(PostgresCacheInvalidationBus.decode(PostgresCacheInvalidationBus.encode(invalidation))).isEqualTo(invalidation);
+        }
+    }
+
+    @Test
+    void unsupportedKeyIsSentAsItsRegion() {
+        String line = PostgresCacheInvalidationBus.encode(CacheInvalidation.entity("com.mycompany.myapp.domain.Authority", 1));
+
+        assertThat(PostgresCacheInvalidationBus.decode(line)).isEqualTo(CacheInvalidation.clear("com.mycompany.myapp.domain.Authority"));
+    }
+
+    @Test
+    void unreadableLineIsIgnored() {
+        assertThat(PostgresCacheInvalidationBus.decode("EVICT\tusersByLogin")).isNull();
+        assertThat(PostgresCacheInvalidationBus.decode("EXPIRE\tusersByLogin\tsjane")).isNull();
+        assertThat(PostgresCacheInvalidationBus.decode("ENTITY\tcom.mycompany.myapp.domain.User\tlabc")).isNull();
+    }
+
+    @Test
+    void largeBatchIsSplitIntoPayloads() {
+        List<CacheInvalidation> invalidations = IntStream.range(0, 1000)
+            .mapToObj(i -> CacheInvalidation.evict("usersByLogin", "user-" + i))
+            .toList();
+
+        List<String> payloads = PostgresCacheInvalidationBus.payloads(NODE_ID, invalidations);
+
+        assertThat(payloads).hasSizeGreaterThan(1);
+        List<CacheInvalidation> decoded = new ArrayList<>();
+        for (String payload : payloads) {
+            assertThat(payload.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(PostgresCacheInvalidationBus.MAX_PAYLOAD_BYTES);
+            String[] lines = payload.split("\n");
+            assertThat(lines[0]).isEqualTo(NODE_ID);
+            for (int i = 1; i < lines.length; i++) {
+                decoded.add(PostgresCacheInvalidationBus.decode(lines[i]));
+            }
+        }
+        assertThat(decoded).containsExactlyElementsOf(invalidations);
+    }
+
+    @Test
+    void keyTooLongIsSentAsItsRegion() {
+        List<String> payloads = PostgresCacheInvalidationBus.payloads(
+            NODE_ID,
+            List.of(CacheInvalidation.evict("usersByLogin", "x".repeat(PostgresCacheInvalidationBus.MAX_PAYLOAD_BYTES)))
+        );
+
+        assertThat(payloads).containsExactly(NODE_ID + "\nCLEAR\tusersByLogin\t");
+    }
+}
@@ -0,0 +1,31 @@
+package com.mycompany.myapp.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodedCursorRoundTrips() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-10-31T04:41:40.123456789Z"), 1051L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String token = new KeysetCursor(Instant.ofEpochSecond(-1L, 999_999_999), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode("not a cursor"));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode("MTox"));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode("YToxOjI"));
+    }
+}
@@ -9,8 +9,10 @@ import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.config.Constants;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.AuthorityRepository;
+import com.mycompany.myapp.repository.RefreshTokenRepository;
 import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.RefreshTokenService;
 import com.mycompany.myapp.service.UserService;
 import com.mycompany.myapp.service.dto.AdminUserDTO;
 import com.mycompany.myapp.service.dto.PasswordChangeDTO;
@@ -57,6 +59,12 @@ class AccountResourceIT {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Autowired
     private MockMvc restAccountMockMvc;
 
@@ -565,6 +573,8 @@ class AccountResourceIT {
         user.setLogin("change-password");
         user.setEmail("change-password@example.com");
         userRepository.saveAndFlush(user);
+        refreshTokenService.create(user.getId(), false);
+        long refreshTokensBefore = refreshTokenRepository.count();
 
         restAccountMockMvc
             .perform(
@@ -576,6 +586,8 @@ class AccountResourceIT {
 
         User updatedUser = userRepository.findOneByLogin("change-password").orElse(null);
         assertThat(passwordEncoder.matches("new password", updatedUser.getPassword())).isTrue();
+        // the sessions opened with the old password cannot be refreshed any more
+        assertThat(refreshTokenRepository.count()).isEqualTo(refreshTokensBefore - 1);
 
         userService.deleteUser("change-password");
     }
@@ -712,6 +724,8 @@ class AccountResourceIT {
         user.setResetDate(Instant.now().plusSeconds(60));
         user.setResetKey("reset key");
         userRepository.saveAndFlush(user);
+        refreshTokenService.create(user.getId(), true);
+        long refreshTokensBefore = refreshTokenRepository.count();
 
         KeyAndPasswordVM keyAndPassword = new KeyAndPasswordVM();
         keyAndPassword.setKey(user.getResetKey());
@@ -727,6 +741,7 @@ class AccountResourceIT {
 
         User updatedUser = userRepository.findOneByLogin(user.getLogin()).orElse(null);
         assertThat(passwordEncoder.matches(keyAndPassword.getNewPassword(), updatedUser.getPassword())).isTrue();
+        assertThat(refreshTokenRepository.count()).isEqualTo(refreshTokensBefore - 1);
 
         userService.deleteUser("finish-password-reset");
     }
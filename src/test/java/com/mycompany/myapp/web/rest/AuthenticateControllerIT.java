@@ -1,5 +1,6 @@
 package com.mycompany.myapp.web.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -9,18 +10,33 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.RefreshTokenRepository;
 import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.web.rest.vm.LoginVM;
+import com.mycompany.myapp.web.rest.vm.RefreshTokenVM;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Integration tests for the {@link AuthenticateController} REST controller.
@@ -35,6 +51,15 @@ class AuthenticateControllerIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -60,6 +85,7 @@ class AuthenticateControllerIT {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id_token").isString())
             .andExpect(jsonPath("$.id_token").isNotEmpty())
+            .andExpect(jsonPath("$.refresh_token").isNotEmpty())
             .andExpect(header().string("Authorization", not(nullValue())))
             .andExpect(header().string("Authorization", not(is(emptyString()))));
     }
@@ -99,4 +125,177 @@ class AuthenticateControllerIT {
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    void testAuthorizeIsThrottledPerLogin() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername("throttled-user");
+        login.setPassword("wrong password");
+        for (int attempt = 0; attempt < 5; attempt++) {
+            mockMvc
+                .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+                .andExpect(status().isUnauthorized());
+        }
+        mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.message").value("error.loginThrottled"))
+            .andExpect(header().doesNotExist("Authorization"));
+    }
+
+    @Test
+    @Transactional
+    void testRefresh() throws Exception {
+        String refreshToken = authenticate("user-jwt-controller-refresh");
+
+        mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id_token").isNotEmpty())
+            .andExpect(jsonPath("$.refresh_token").isNotEmpty())
+            .andExpect(jsonPath("$.refresh_token").value(not(refreshToken)))
+            .andExpect(header().string("Authorization", not(nullValue())));
+    }
+
+    @Test
+    @Transactional
+    void testRefreshTokenReuseRevokesTheSession() throws Exception {
+        String refreshToken = authenticate("user-jwt-controller-refresh-reuse");
+        JsonNode rotated = om.readTree(
+            mockMvc
+                .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray()
+        );
+
+        // the first token is presented again past the grace period: it may have been stolen, so the whole session ends
+        em
+            .createQuery("update RefreshToken token set token.usedAt = :usedAt where token.user.login = :login")
+            .setParameter("usedAt", Instant.now().minus(Duration.ofMinutes(1)))
+            .setParameter("login", "user-jwt-controller-refresh-reuse")
+            .executeUpdate();
+        mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.id_token").doesNotExist());
+        mockMvc
+            .perform(
+                post("/api/authenticate/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshTokenBody(rotated.get("refresh_token").asText()))
+            )
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @Transactional
+    void testRefreshTokenReuseWithinTheGracePeriodKeepsTheSession() throws Exception {
+        String refreshToken = authenticate("user-jwt-controller-refresh-grace");
+        JsonNode rotated = om.readTree(
+            mockMvc
+                .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray()
+        );
+
+        // another tab sharing the token refreshed just after this one: it is refused, and the session goes on
+        mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+            .andExpect(status().isUnauthorized());
+        mockMvc
+            .perform(
+                post("/api/authenticate/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshTokenBody(rotated.get("refresh_token").asText()))
+            )
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void testConcurrentRefreshesWithTheSameTokenKeepTheSession() throws Exception {
+        String login = "user-jwt-controller-refresh-race";
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            String refreshToken = authenticate(login);
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Callable<MockHttpServletResponse> refresh = () -> {
+                barrier.await();
+                return mockMvc
+                    .perform(
+                        post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken))
+                    )
+                    .andReturn()
+                    .getResponse();
+            };
+
+            List<MockHttpServletResponse> responses = new ArrayList<>();
+            for (Future<MockHttpServletResponse> response : executor.invokeAll(List.of(refresh, refresh))) {
+                responses.add(response.get());
+            }
+
+            assertThat(responses).extracting(MockHttpServletResponse::getStatus).containsExactlyInAnyOrder(200, 401);
+            MockHttpServletResponse exchanged = responses
+                .stream()
+                .filter(response -> response.getStatus() == 200)
+                .findFirst()
+                .orElseThrow();
+            mockMvc
+                .perform(
+                    post("/api/authenticate/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshTokenBody(om.readTree(exchanged.getContentAsByteArray()).get("refresh_token").asText()))
+                )
+                .andExpect(status().isOk());
+        } finally {
+            executor.shutdownNow();
+            transactionTemplate.executeWithoutResult(status ->
+                userRepository
+                    .findOneByLogin(login)
+                    .ifPresent(user -> {
+                        refreshTokenRepository.deleteByUserId(user.getId());
+                        userRepository.delete(user);
+                    })
+            );
+        }
+    }
+
+    @Test
+    void testRefreshFailsWithUnknownToken() throws Exception {
+        mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody("unknown")))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.id_token").doesNotExist())
+            .andExpect(header().doesNotExist("Authorization"));
+    }
+
+    private String authenticate(String userLogin) throws Exception {
+        User user = new User();
+        user.setLogin(userLogin);
+        user.setEmail(userLogin + "@example.com");
+        user.setActivated(true);
+        user.setPassword(passwordEncoder.encode("test"));
+        userRepository.saveAndFlush(user);
+
+        LoginVM login = new LoginVM();
+        login.setUsername(userLogin);
+        login.setPassword("test");
+        byte[] response = mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        return om.readTree(response).get("refresh_token").asText();
+    }
+
+    private byte[] refreshTokenBody(String refreshToken) throws Exception {
+        RefreshTokenVM refreshTokenVM = new RefreshTokenVM();
+        refreshTokenVM.setRefreshToken(refreshToken);
+        return om.writeValueAsBytes(refreshTokenVM);
+    }
 }
@@ -0,0 +1,127 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link BulkImportResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class BulkImportResourceIT {
+
+    /**
+     * Imported ids start this far above the current value of the sequence, past the blocks of ids already allocated.
+     * The import moves the sequence past them, and {@code setval} is not rolled back with the test.
+     */
+    private static final long IMPORTED_ID_OFFSET = 1_000L;
+
+    private static final String VACATION_REQUEST_HEADER =
+        "id;start_date;end_date;requested_days;status;approver_comment;approved_start_date;approved_end_date;approved_days;created_at;decided_at;employee_id\n";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private MockMvc restBulkImportMockMvc;
+
+    @Test
+    @Transactional
+    void importVacationRequests() throws Exception {
+        Employee employee = EmployeeResourceIT.createEntity(em);
+        em.persist(employee);
+        em.flush();
+        Number lastValue = (Number) em.createNativeQuery("select last_value from sequence_generator").getSingleResult();
+        long firstImportedId = lastValue.longValue() + IMPORTED_ID_OFFSET;
+
+        String csv =
+            VACATION_REQUEST_HEADER +
+            (firstImportedId + ";2025-07-01;2025-07-04;4;APPROVED;ok;2025-07-01;2025-07-04;4;2025-06-01T10:00:00;2025-06-02T10:00:00;" +
+                employee.getId() + "\n") +
+            (firstImportedId + 1 + ";2025-08-04;2025-08-01;4;PENDING;;;;;2025-06-01T10:00:00;;" + employee.getId() + "\n") +
+            (firstImportedId + 2 + ";2025-08-01;2025-08-04;4;UNKNOWN;;;;;2025-06-01T10:00:00;;" + employee.getId() + "\n");
+
+        restBulkImportMockMvc
+            .perform(post("/api/admin/imports/vacation-requests").contentType("text/csv").content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(3))
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.skipped").value(0))
+            .andExpect(jsonPath("$.rejected.periodinvalid").value(1))
+            .andExpect(jsonPath("$.rejected.statusinvalid").value(1));
+
+        assertThat(vacationRequestRepository.findById(firstImportedId)).hasValueSatisfying(vacationRequest ->
+            assertThat(vacationRequest.getStatus()).isEqualTo(VacationStatus.APPROVED)
+        );
+        assertThat(vacationRequestRepository.findById(firstImportedId + 1)).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void importRejectsIdsTheSequenceMayHaveAllocated() throws Exception {
+        Employee employee = EmployeeResourceIT.createEntity(em);
+        em.persist(employee);
+        em.flush();
+        Number lastValue = (Number) em.createNativeQuery("select last_value from sequence_generator").getSingleResult();
+        // within the block of ids this node took from the sequence last, though no row uses it yet
+        long allocatedId = lastValue.longValue() - 1;
+        long count = vacationRequestRepository.count();
+
+        String csv =
+            VACATION_REQUEST_HEADER +
+            (allocatedId + ";2025-07-01;2025-07-04;4;PENDING;;;;;2025-06-01T10:00:00;;" + employee.getId() + "\n") +
+            // the sequence is shared: the id of the employee is taken
+            (employee.getId() + ";2025-07-07;2025-07-08;2;PENDING;;;;;2025-06-01T10:00:00;;" + employee.getId() + "\n");
+
+        restBulkImportMockMvc
+            .perform(post("/api/admin/imports/vacation-requests").contentType("text/csv").content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(2))
+            .andExpect(jsonPath("$.imported").value(0))
+            .andExpect(jsonPath("$.skipped").value(0))
+            .andExpect(jsonPath("$.rejected.idallocated").value(2));
+
+        assertThat(vacationRequestRepository.count()).isEqualTo(count);
+        assertThat(((Number) em.createNativeQuery("select last_value from sequence_generator").getSingleResult()).longValue()).isEqualTo(
+            lastValue.longValue()
+        );
+    }
+
+    @Test
+    @Transactional
+    void importMalformedFileIsRejected() throws Exception {
+        String csv = VACATION_REQUEST_HEADER + "not-a-number;2025-07-01;2025-07-04;4;APPROVED;;;;;2025-06-01T10:00:00;;1\n";
+
+        restBulkImportMockMvc
+            .perform(post("/api/admin/imports/vacation-requests").contentType("text/csv").content(csv))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.importinvalid"));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void importRequiresAdmin() throws Exception {
+        restBulkImportMockMvc
+            .perform(post("/api/admin/imports/employees").contentType("text/csv").content("id;first_name;last_name;start_date;user_id\n"))
+            .andExpect(status().isForbidden());
+    }
+}
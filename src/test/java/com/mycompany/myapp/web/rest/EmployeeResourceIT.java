@@ -1,5 +1,6 @@
 package com.mycompany.myapp.web.rest;
 
+import static com.mycompany.myapp.config.SqlStatementRecorder.assertMaxStatements;
 import static com.mycompany.myapp.domain.EmployeeAsserts.*;
 import static com.mycompany.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -245,6 +246,37 @@ class EmployeeResourceIT {
             .andExpect(jsonPath("$.[*].startDate").value(hasItem(DEFAULT_START_DATE.toString())));
     }
 
+    @Test
+    @Transactional
+    void searchEmployeesByNamePrefix() throws Exception {
+        // Initialize the database
+        insertedEmployee = employeeRepository.saveAndFlush(employee.firstName("Searchable").lastName("Prefix-Test"));
+
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL).param("search", " sEARCHab").param("page", "0").param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(employee.getId().intValue())));
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL).param("search", "prefix-t"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(employee.getId().intValue())));
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL).param("search", employee.getUser().getLogin()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(employee.getId().intValue())));
+
+        // only prefixes match, and the user's wildcards are taken literally
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL).param("search", "archable"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"));
+        restEmployeeMockMvc
+            .perform(get(ENTITY_API_URL).param("search", "_earchable"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "0"));
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllEmployeesWithEagerRelationshipsIsEnabled() throws Exception {
         when(employeeServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -511,6 +543,25 @@ class EmployeeResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    @Transactional
+    void employeeEndpointsRunABoundedNumberOfStatements() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            em.persist(createEntity(em));
+        }
+        insertedEmployee = employeeRepository.saveAndFlush(employee);
+        em.clear();
+
+        for (int size : new int[] { 1, 20 }) {
+            // page and count, the users being fetched with the page
+            assertMaxStatements(2, () -> restEmployeeMockMvc.perform(get(ENTITY_API_URL + "?size=" + size)).andExpect(status().isOk()));
+            assertMaxStatements(2, () ->
+                restEmployeeMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false&size=" + size)).andExpect(status().isOk())
+            );
+        }
+        assertMaxStatements(1, () -> restEmployeeMockMvc.perform(get(ENTITY_API_URL_ID, employee.getId())).andExpect(status().isOk()));
+    }
+
     protected long getRepositoryCount() {
         return employeeRepository.count();
     }
@@ -0,0 +1,101 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.repository.HolidayRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.dto.HolidayDTO;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link HolidayResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class HolidayResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/holidays";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private MockMvc restHolidayMockMvc;
+
+    @Test
+    @Transactional
+    void createdHolidayIsNotAWorkingDay() throws Exception {
+        long databaseSizeBeforeCreate = holidayRepository.count();
+        // a calendar of its own, so no other test has cached its working days
+        String calendar = UUID.randomUUID().toString().substring(0, 8);
+        HolidayDTO holidayDTO = new HolidayDTO();
+        holidayDTO.setCalendar(calendar);
+        holidayDTO.setDate(LocalDate.of(2025, 9, 16));
+        holidayDTO.setName("Día de la Independencia");
+
+        restHolidayMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(holidayDTO)))
+            .andExpect(status().isCreated());
+        assertThat(holidayRepository.count()).isEqualTo(databaseSizeBeforeCreate + 1);
+
+        // Mon 2025-09-15 to Sun 2025-09-21
+        restHolidayMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/working-days").param("from", "2025-09-15").param("to", "2025-09-21").param("calendar", calendar)
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().string("4"));
+    }
+
+    @Test
+    @Transactional
+    void getWorkingDaysOfInvalidPeriod() throws Exception {
+        restHolidayMockMvc
+            .perform(get(ENTITY_API_URL + "/working-days").param("from", "2025-09-21").param("to", "2025-09-15"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getWorkingDaysOfUnknownCalendar() throws Exception {
+        restHolidayMockMvc
+            .perform(
+                get(ENTITY_API_URL + "/working-days")
+                    .param("from", "2025-09-15")
+                    .param("to", "2025-09-21")
+                    .param("calendar", "no-such-calendar")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.calendarunknown"));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser
+    void createHolidayRequiresAdmin() throws Exception {
+        HolidayDTO holidayDTO = new HolidayDTO();
+        holidayDTO.setCalendar("default");
+        holidayDTO.setDate(LocalDate.of(2025, 12, 25));
+        holidayDTO.setName("Navidad");
+
+        restHolidayMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(holidayDTO)))
+            .andExpect(status().isForbidden());
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.myapp.web.rest;
 
+import static com.mycompany.myapp.config.SqlStatementRecorder.assertMaxStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -267,6 +268,20 @@ class UserResourceIT {
             .andExpect(jsonPath("$.[*].langKey").value(hasItem(DEFAULT_LANGKEY)));
     }
 
+    @Test
+    @Transactional
+    void getAllUsersRunsABoundedNumberOfStatements() throws Exception {
+        // with the users of the test data, the page holds several users
+        userRepository.saveAndFlush(user);
+        em.clear();
+
+        for (int size : new int[] { 1, 20 }) {
+            // page, count and one batch of authorities per 20 users
+            assertMaxStatements(3, () -> restUserMockMvc.perform(get("/api/admin/users?size=" + size)).andExpect(status().isOk()));
+            assertMaxStatements(2, () -> restUserMockMvc.perform(get("/api/users?size=" + size)).andExpect(status().isOk()));
+        }
+    }
+
     @Test
     @Transactional
     void getUser() throws Exception {
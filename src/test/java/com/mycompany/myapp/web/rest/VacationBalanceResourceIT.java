@@ -0,0 +1,303 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.domain.VacationBalance;
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.VacationBalanceRepository;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import com.mycompany.myapp.service.dto.ApprovalCommand;
+import com.mycompany.myapp.service.dto.VacationRequestDTO;
+import com.mycompany.myapp.service.mapper.VacationRequestMapper;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link VacationBalanceResource} REST controller and the ledger kept by the vacation request
+ * workflow.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class VacationBalanceResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/vacation-balances";
+
+    private static final String VACATION_REQUEST_API_URL = "/api/vacation-requests";
+
+    /**
+     * A year no other test uses, so its ledger rows start empty.
+     */
+    private static final int YEAR = 2031;
+
+    // Mon 2031-03-03 to Fri 2031-03-07, five working days
+    private static final LocalDate START_DATE = LocalDate.of(YEAR, 3, 3);
+    private static final LocalDate END_DATE = LocalDate.of(YEAR, 3, 7);
+    private static final int WORKING_DAYS = 5;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private VacationBalanceRepository vacationBalanceRepository;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private VacationRequestMapper vacationRequestMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restVacationBalanceMockMvc;
+
+    private Employee employee;
+
+    private String login;
+
+    @BeforeEach
+    void initTest() {
+        employee = EmployeeResourceIT.createEntity(em);
+        em.persist(employee);
+        em.flush();
+        login = employee.getUser().getLogin();
+    }
+
+    @Test
+    @Transactional
+    void getMyVacationBalanceWithoutLedgerRow() throws Exception {
+        int entitlement = applicationProperties.getVacation().getAnnualEntitlementDays();
+
+        restVacationBalanceMockMvc
+            .perform(get(ENTITY_API_URL + "/mine?year=" + YEAR).with(user(login).roles("USER")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.employeeId").value(employee.getId().intValue()))
+            .andExpect(jsonPath("$.year").value(YEAR))
+            .andExpect(jsonPath("$.entitledDays").value(entitlement))
+            .andExpect(jsonPath("$.usedDays").value(0))
+            .andExpect(jsonPath("$.pendingDays").value(0))
+            .andExpect(jsonPath("$.availableDays").value(entitlement));
+    }
+
+    @Test
+    @Transactional
+    void getMyVacationBalanceOfUserWithoutEmployee() throws Exception {
+        restVacationBalanceMockMvc
+            .perform(get(ENTITY_API_URL + "/mine").with(user("not-an-employee").roles("USER")))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void getEmployeeVacationBalance() throws Exception {
+        vacationBalanceRepository.saveAndFlush(balance(20, 3, 2));
+
+        restVacationBalanceMockMvc
+            .perform(get(ENTITY_API_URL + "/employees/{employeeId}?year=" + YEAR, employee.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.entitledDays").value(20))
+            .andExpect(jsonPath("$.usedDays").value(3))
+            .andExpect(jsonPath("$.pendingDays").value(2))
+            .andExpect(jsonPath("$.availableDays").value(15));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void getVacationBalanceOfNonExistingEmployee() throws Exception {
+        restVacationBalanceMockMvc
+            .perform(get(ENTITY_API_URL + "/employees/{employeeId}", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getEmployeeVacationBalanceIsForbiddenWithoutHrRole() throws Exception {
+        restVacationBalanceMockMvc
+            .perform(get(ENTITY_API_URL + "/employees/{employeeId}", employee.getId()))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Transactional
+    void createVacationRequestReservesPendingDays() throws Exception {
+        restVacationBalanceMockMvc
+            .perform(
+                post(VACATION_REQUEST_API_URL + "/vacation-requests")
+                    .with(user(login).roles("USER"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(period()))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requestedDays").value(WORKING_DAYS))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+
+        assertLedger(0, WORKING_DAYS);
+    }
+
+    @Test
+    @Transactional
+    void createVacationRequestAboveAvailableDaysIsRejected() throws Exception {
+        vacationBalanceRepository.saveAndFlush(balance(WORKING_DAYS, 1, 0));
+        long databaseSizeBeforeCreate = vacationRequestRepository.count();
+
+        restVacationBalanceMockMvc
+            .perform(
+                post(VACATION_REQUEST_API_URL + "/vacation-requests")
+                    .with(user(login).roles("USER"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(period()))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.insufficientbalance"));
+
+        assertThat(vacationRequestRepository.count()).isEqualTo(databaseSizeBeforeCreate);
+        assertLedger(1, 0);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void approvingMovesPendingDaysToUsed() throws Exception {
+        long id = createPendingRequest();
+
+        decide(id, new ApprovalCommand("APPROVE", null, null, null, "ok", null));
+
+        assertLedger(WORKING_DAYS, 0);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void approvingWithChangesUsesTheApprovedDays() throws Exception {
+        long id = createPendingRequest();
+
+        decide(id, new ApprovalCommand("APPROVE_WITH_CHANGES", START_DATE, START_DATE.plusDays(1), 2, "two days", null));
+
+        assertLedger(2, 0);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void rejectingReleasesPendingDays() throws Exception {
+        long id = createPendingRequest();
+
+        decide(id, new ApprovalCommand("REJECT", null, null, null, "no", null));
+
+        assertLedger(0, 0);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void updatingARequestAdjustsTheLedger() throws Exception {
+        long id = createPendingRequest();
+        VacationRequestDTO updated = vacationRequestMapper.toDto(vacationRequestRepository.findById(id).orElseThrow());
+        updated.setRequestedDays(3);
+
+        restVacationBalanceMockMvc
+            .perform(
+                put(VACATION_REQUEST_API_URL + "/{id}", id).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(updated))
+            )
+            .andExpect(status().isOk());
+
+        assertLedger(0, 3);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void deletingARequestReleasesItsDays() throws Exception {
+        long id = createPendingRequest();
+        decide(id, new ApprovalCommand("APPROVE", null, null, null, "ok", null));
+
+        restVacationBalanceMockMvc.perform(delete(VACATION_REQUEST_API_URL + "/{id}", id)).andExpect(status().isNoContent());
+
+        assertLedger(0, 0);
+    }
+
+    private VacationBalance balance(int entitledDays, int usedDays, int pendingDays) {
+        return new VacationBalance()
+            .employee(employee)
+            .year(YEAR)
+            .entitledDays(entitledDays)
+            .usedDays(usedDays)
+            .pendingDays(pendingDays);
+    }
+
+    private VacationRequestDTO period() {
+        VacationRequestDTO dto = new VacationRequestDTO();
+        dto.setStartDate(START_DATE);
+        dto.setEndDate(END_DATE);
+        return dto;
+    }
+
+    private long createPendingRequest() throws Exception {
+        String response = restVacationBalanceMockMvc
+            .perform(
+                post(VACATION_REQUEST_API_URL + "/vacation-requests")
+                    .with(user(login).roles("USER"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(period()))
+            )
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        assertLedger(0, WORKING_DAYS);
+        return ((Number) JsonPath.read(response, "$.id")).longValue();
+    }
+
+    private void decide(long id, ApprovalCommand command) throws Exception {
+        restVacationBalanceMockMvc
+            .perform(
+                post(VACATION_REQUEST_API_URL + "/vacation-requests/{id}/decision", id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(command))
+            )
+            .andExpect(status().isOk());
+        assertThat(vacationRequestRepository.findById(id).orElseThrow().getStatus()).isNotEqualTo(VacationStatus.PENDING);
+    }
+
+    /**
+     * Check the ledger row in the database and as served by the API.
+     */
+    private void assertLedger(int usedDays, int pendingDays) throws Exception {
+        // the ledger is changed with bulk updates, which the persistence context does not see
+        em.flush();
+        em.clear();
+        VacationBalance row = vacationBalanceRepository.findOneByEmployeeIdAndYear(employee.getId(), YEAR).orElseThrow();
+        assertThat(row.getUsedDays()).isEqualTo(usedDays);
+        assertThat(row.getPendingDays()).isEqualTo(pendingDays);
+
+        restVacationBalanceMockMvc
+            .perform(get(ENTITY_API_URL + "/mine?year=" + YEAR).with(user(login).roles("USER")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.usedDays").value(usedDays))
+            .andExpect(jsonPath("$.pendingDays").value(pendingDays))
+            .andExpect(jsonPath("$.availableDays").value(row.getEntitledDays() - usedDays - pendingDays));
+    }
+}
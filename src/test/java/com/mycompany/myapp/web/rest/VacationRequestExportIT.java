@@ -0,0 +1,222 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.VacationRequest;
+import com.mycompany.myapp.domain.enumeration.VacationStatus;
+import com.mycompany.myapp.repository.EmployeeRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.repository.VacationRequestRepository;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the export of {@link VacationRequestResource}.
+ * <p>
+ * The export is written by another thread, in a transaction of its own, so the rows are committed before and deleted
+ * after each test.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = "ROLE_HR")
+class VacationRequestExportIT {
+
+    private static final String EXPORT_API_URL = "/api/vacation-requests/vacation-requests/export";
+
+    private static final String COMMENT = "Ok; \"fine\"\nsee you";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc restVacationRequestMockMvc;
+
+    private Employee employee;
+
+    private VacationRequest approved;
+
+    private VacationRequest pending;
+
+    @BeforeEach
+    void initTest() {
+        transactionTemplate.executeWithoutResult(status -> {
+            employee = EmployeeResourceIT.createEntity(em);
+            em.persist(employee);
+            approved = new VacationRequest()
+                .startDate(LocalDate.of(2025, 7, 1))
+                .endDate(LocalDate.of(2025, 7, 4))
+                .requestedDays(4)
+                .status(VacationStatus.APPROVED)
+                .approverComment(COMMENT)
+                .approvedStartDate(LocalDate.of(2025, 7, 1))
+                .approvedEndDate(LocalDate.of(2025, 7, 4))
+                .approvedDays(4)
+                .createdAt(Instant.parse("2025-06-01T10:00:00Z"))
+                .decidedAt(Instant.parse("2025-06-02T10:00:00Z"))
+                .employee(employee);
+            em.persist(approved);
+            pending = new VacationRequest()
+                .startDate(LocalDate.of(2025, 8, 4))
+                .endDate(LocalDate.of(2025, 8, 8))
+                .requestedDays(5)
+                .status(VacationStatus.PENDING)
+                .createdAt(Instant.parse("2025-06-03T10:00:00Z"))
+                .employee(employee);
+            em.persist(pending);
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> {
+            vacationRequestRepository.deleteAllById(List.of(approved.getId(), pending.getId()));
+            employeeRepository.deleteById(employee.getId());
+            userRepository.deleteById(employee.getUser().getId());
+        });
+    }
+
+    @Test
+    void exportVacationRequestsAsCsv() throws Exception {
+        MvcResult result = export("csv", false);
+
+        assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("vacation-requests.csv");
+        String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id;start_date;end_date;requested_days;status;approver_comment;").endsWith("\n");
+        // the comment is quoted, with its quotes doubled and its line break kept
+        assertThat(csv).contains(
+            csvLine(
+                approved.getId(),
+                "2025-07-01;2025-07-04;4;APPROVED",
+                "\"Ok; \"\"fine\"\"\nsee you\"",
+                "2025-07-01;2025-07-04;4;2025-06-01T10:00:00Z;2025-06-02T10:00:00Z",
+                employee.getId()
+            ) +
+            "\n"
+        );
+        String pendingLine = csvLine(pending.getId(), "2025-08-04;2025-08-08;5;PENDING;;;;;2025-06-03T10:00:00Z;", employee.getId());
+        assertThat(csv).contains("\n" + pendingLine + "\n");
+    }
+
+    @Test
+    void exportVacationRequestsAsNdjson() throws Exception {
+        MvcResult result = export("ndjson", false);
+
+        assertThat(result.getResponse().getContentType()).isEqualTo("application/x-ndjson");
+        String ndjson = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(ndjson).endsWith("\n");
+        JsonNode approvedRow = null;
+        JsonNode pendingRow = null;
+        for (String line : ndjson.split("\n")) {
+            JsonNode row = om.readTree(line);
+            if (row.get("id").asLong() == approved.getId()) {
+                approvedRow = row;
+            } else if (row.get("id").asLong() == pending.getId()) {
+                pendingRow = row;
+            }
+        }
+        assertThat(approvedRow).isNotNull();
+        assertThat(approvedRow.get("status").asText()).isEqualTo("APPROVED");
+        assertThat(approvedRow.get("approverComment").asText()).isEqualTo(COMMENT);
+        assertThat(approvedRow.get("approvedDays").asInt()).isEqualTo(4);
+        assertThat(approvedRow.get("employeeId").asLong()).isEqualTo(employee.getId());
+        assertThat(pendingRow).isNotNull();
+        assertThat(pendingRow.get("status").asText()).isEqualTo("PENDING");
+        assertThat(pendingRow.path("approverComment").asText(null)).isNull();
+    }
+
+    @Test
+    void exportVacationRequestsAsGzippedCsv() throws Exception {
+        MvcResult result = export("csv", true);
+
+        assertThat(result.getResponse().getContentType()).isEqualTo("application/gzip");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("vacation-requests.csv.gz");
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).startsWith("id;start_date;end_date;");
+        assertThat(csv).contains("\n" + pending.getId() + ";2025-08-04;2025-08-08;5;PENDING;");
+    }
+
+    @Test
+    void exportVacationRequestsAsGzippedNdjson() throws Exception {
+        MvcResult result = export("ndjson", true);
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("vacation-requests.ndjson.gz");
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            ids.add(om.readTree(line).get("id").asLong());
+        }
+        assertThat(ids).contains(approved.getId(), pending.getId());
+    }
+
+    @Test
+    void exportVacationRequestsWithUnknownFormat() throws Exception {
+        restVacationRequestMockMvc.perform(get(EXPORT_API_URL + "?format=xml")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void exportVacationRequestsRequiresHrRole() throws Exception {
+        restVacationRequestMockMvc.perform(get(EXPORT_API_URL)).andExpect(status().isForbidden());
+    }
+
+    private static String csvLine(Object... columns) {
+        StringBuilder line = new StringBuilder();
+        for (Object column : columns) {
+            line.append(line.isEmpty() ? "" : ";").append(column);
+        }
+        return line.toString();
+    }
+
+    private MvcResult export(String format, boolean gzip) throws Exception {
+        MvcResult mvcResult = restVacationRequestMockMvc
+            .perform(get(EXPORT_API_URL).param("format", format).param("gzip", String.valueOf(gzip)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return restVacationRequestMockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk()).andReturn();
+    }
+}
@@ -1,29 +1,42 @@
 package com.mycompany.myapp.web.rest;
 
+import static com.mycompany.myapp.config.SqlStatementRecorder.assertMaxStatements;
 import static com.mycompany.myapp.domain.VacationRequestAsserts.*;
 import static com.mycompany.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.Employee;
+import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.domain.VacationRequest;
 import com.mycompany.myapp.domain.enumeration.VacationStatus;
 import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.repository.VacationRequestRepository;
 import com.mycompany.myapp.service.VacationRequestService;
+import com.mycompany.myapp.service.dto.ApprovalCommand;
+import com.mycompany.myapp.service.dto.BulkDecisionCommand;
 import com.mycompany.myapp.service.dto.VacationRequestDTO;
+import com.mycompany.myapp.service.dto.VacationRequestFilter;
 import com.mycompany.myapp.service.mapper.VacationRequestMapper;
+import com.mycompany.myapp.web.rest.errors.ErrorConstants;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +49,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -89,6 +103,9 @@ class VacationRequestResourceIT {
     @Autowired
     private ObjectMapper om;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @Autowired
     private VacationRequestRepository vacationRequestRepository;
 
@@ -644,6 +661,325 @@ class VacationRequestResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    @Test
+    @Transactional
+    void getMyVacationRequestsWithCursor() throws Exception {
+        // Initialize the database with two requests of the same employee
+        vacationRequestRepository.saveAndFlush(vacationRequest);
+        VacationRequest olderVacationRequest = createEntity(em).createdAt(DEFAULT_CREATED_AT.minusSeconds(60));
+        vacationRequestRepository.saveAndFlush(olderVacationRequest);
+        String login = vacationRequest.getEmployee().getUser().getLogin();
+
+        String nextCursor = JsonPath.read(
+            restVacationRequestMockMvc
+                .perform(get(ENTITY_API_URL + "/vacation-requests/mine?size=1").with(user(login).roles("USER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.[*].id").value(contains(vacationRequest.getId().intValue())))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            "$.nextCursor"
+        );
+
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "/vacation-requests/mine?size=1&cursor=" + nextCursor).with(user(login).roles("USER")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.[*].id").value(contains(olderVacationRequest.getId().intValue())))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void getMyVacationRequestsWithInvalidCursor() throws Exception {
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "/vacation-requests/mine?cursor=not-a-cursor").with(user("user").roles("USER")))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void getReviewQueueReturnsPendingRequestsOldestFirst() throws Exception {
+        // Initialize the database with a pending and an already decided request
+        vacationRequestRepository.saveAndFlush(vacationRequest);
+        VacationRequest decidedVacationRequest = createEntity(em).status(VacationStatus.APPROVED);
+        vacationRequestRepository.saveAndFlush(decidedVacationRequest);
+
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "/vacation-requests/review?size=100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.[0].id").value(vacationRequest.getId().intValue()))
+            .andExpect(jsonPath("$.content.[*].id").value(not(hasItem(decidedVacationRequest.getId().intValue()))));
+
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "/vacation-requests/review?status=APPROVED&size=100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.[*].id").value(hasItem(decidedVacationRequest.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void getStatusCountsOfVacationRequests() throws Exception {
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "/vacation-requests/status-counts?year=2025"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.year").value(2025))
+            .andExpect(jsonPath("$.counts.PENDING").isNumber())
+            .andExpect(jsonPath("$.counts.APPROVED").isNumber())
+            .andExpect(jsonPath("$.counts.APPROVED_WITH_CHANGES").isNumber())
+            .andExpect(jsonPath("$.counts.REJECTED").isNumber());
+    }
+
+    @Test
+    @Transactional
+    void getStatusCountsIsForbiddenWithoutHrRole() throws Exception {
+        restVacationRequestMockMvc.perform(get(ENTITY_API_URL + "/vacation-requests/status-counts")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void decideAllByIdsReportsEachRequest() throws Exception {
+        // Initialize the database with a pending and an already decided request
+        vacationRequestRepository.saveAndFlush(vacationRequest);
+        VacationRequest decidedVacationRequest = createEntity(em).status(VacationStatus.REJECTED);
+        vacationRequestRepository.saveAndFlush(decidedVacationRequest);
+        long missingId = longCount.incrementAndGet();
+
+        BulkDecisionCommand command = new BulkDecisionCommand(
+            List.of(vacationRequest.getId(), decidedVacationRequest.getId(), missingId),
+            null,
+            new ApprovalCommand("APPROVE", null, null, null, "ok", null)
+        );
+        restVacationRequestMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/vacation-requests/decisions").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(command))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].outcome").value("DECIDED"))
+            .andExpect(jsonPath("$.[0].status").value("APPROVED"))
+            .andExpect(jsonPath("$.[1].outcome").value("SKIPPED"))
+            .andExpect(jsonPath("$.[1].errorKey").value("alreadydecided"))
+            .andExpect(jsonPath("$.[2].outcome").value("NOT_FOUND"));
+
+        VacationRequest approvedVacationRequest = getPersistedVacationRequest(vacationRequest);
+        assertThat(approvedVacationRequest.getStatus()).isEqualTo(VacationStatus.APPROVED);
+        assertThat(approvedVacationRequest.getApprovedDays()).isEqualTo(vacationRequest.getRequestedDays());
+        assertThat(getPersistedVacationRequest(decidedVacationRequest).getStatus()).isEqualTo(VacationStatus.REJECTED);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void decideAllByFilterOnlyTouchesMatchingRequests() throws Exception {
+        vacationRequestRepository.saveAndFlush(vacationRequest);
+
+        BulkDecisionCommand command = new BulkDecisionCommand(
+            null,
+            new VacationRequestFilter(VacationStatus.PENDING, vacationRequest.getEmployee().getId(), null, null),
+            new ApprovalCommand("REJECT", null, null, null, "no", null)
+        );
+        restVacationRequestMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/vacation-requests/decisions").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(command))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(vacationRequest.getId().intValue())));
+
+        assertThat(getPersistedVacationRequest(vacationRequest).getStatus()).isEqualTo(VacationStatus.REJECTED);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void decideAlreadyDecidedVacationRequestReturnsCurrentState() throws Exception {
+        VacationRequest decidedVacationRequest = createEntity(em).status(VacationStatus.REJECTED);
+        vacationRequestRepository.saveAndFlush(decidedVacationRequest);
+
+        restVacationRequestMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/vacation-requests/{id}/decision", decidedVacationRequest.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new ApprovalCommand("APPROVE", null, null, null, "ok", null)))
+            )
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("error.concurrencyFailure"))
+            .andExpect(jsonPath("$.current.id").value(decidedVacationRequest.getId().intValue()))
+            .andExpect(jsonPath("$.current.status").value("REJECTED"));
+
+        assertThat(getPersistedVacationRequest(decidedVacationRequest).getStatus()).isEqualTo(VacationStatus.REJECTED);
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void decideStaleVersionOfVacationRequestConflicts() throws Exception {
+        vacationRequestRepository.saveAndFlush(vacationRequest.status(VacationStatus.PENDING));
+        long staleVersion = vacationRequest.getVersion() + 1;
+
+        restVacationRequestMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/vacation-requests/{id}/decision", vacationRequest.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(new ApprovalCommand("REJECT", null, null, null, "no", staleVersion)))
+            )
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.current.version").value(vacationRequest.getVersion().intValue()))
+            .andExpect(jsonPath("$.current.status").value("PENDING"));
+
+        assertThat(getPersistedVacationRequest(vacationRequest).getStatus()).isEqualTo(VacationStatus.PENDING);
+    }
+
+    @Test
+    @Transactional
+    void getAllVacationRequestsIsPaginated() throws Exception {
+        insertedVacationRequest = vacationRequestRepository.saveAndFlush(vacationRequest);
+
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=100000"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(header().exists(HttpHeaders.LINK))
+            .andExpect(jsonPath("$.length()").value(lessThanOrEqualTo(applicationProperties.getPagination().getMaxPageSize())));
+    }
+
+    @Test
+    @Transactional
+    void getAllVacationRequestsUnpagedAboveCeiling() throws Exception {
+        insertedVacationRequest = vacationRequestRepository.saveAndFlush(vacationRequest);
+        int ceiling = applicationProperties.getPagination().getUnpagedRowCeiling();
+        applicationProperties.getPagination().setUnpagedRowCeiling(0);
+        try {
+            restVacationRequestMockMvc
+                .perform(get(ENTITY_API_URL + "?unpaged=true"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value(ErrorConstants.ERR_RESULT_TOO_LARGE));
+        } finally {
+            applicationProperties.getPagination().setUnpagedRowCeiling(ceiling);
+        }
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(authorities = "ROLE_HR")
+    void getReviewSummariesOfVacationRequests() throws Exception {
+        insertedVacationRequest = vacationRequestRepository.saveAndFlush(vacationRequest);
+
+        restVacationRequestMockMvc
+            .perform(get(ENTITY_API_URL + "/vacation-requests/review/summaries?size=100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.[*].id").value(hasItem(vacationRequest.getId().intValue())))
+            .andExpect(jsonPath("$.content.[*].employeeId").value(hasItem(vacationRequest.getEmployee().getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getSummariesOfVacationRequestsMatchesBothReadModels() throws Exception {
+        insertedVacationRequest = vacationRequestRepository.saveAndFlush(vacationRequest);
+        String url = ENTITY_API_URL + "/vacation-requests/summaries?sort=id,desc&size=20";
+
+        String fromProjection = restVacationRequestMockMvc
+            .perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(jsonPath("$.[0].id").value(vacationRequest.getId().intValue()))
+            .andExpect(jsonPath("$.[0].status").value(DEFAULT_STATUS.toString()))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        ApplicationProperties.ReadModel readModel = applicationProperties.getReadModel();
+        applicationProperties.setReadModel(ApplicationProperties.ReadModel.ENTITY);
+        try {
+            restVacationRequestMockMvc.perform(get(url)).andExpect(status().isOk()).andExpect(content().json(fromProjection, true));
+        } finally {
+            applicationProperties.setReadModel(readModel);
+        }
+    }
+
+    @Test
+    @Transactional
+    void listEndpointsRunABoundedNumberOfStatements() throws Exception {
+        insertRequestsOfDistinctEmployees(3);
+
+        for (int size : new int[] { 1, 20 }) {
+            // page and count, whatever the number of employees and approvers on the page
+            assertMaxStatements(2, () -> restVacationRequestMockMvc.perform(get(ENTITY_API_URL + "?size=" + size)).andExpect(status().isOk()));
+            assertMaxStatements(2, () ->
+                restVacationRequestMockMvc.perform(get(ENTITY_API_URL + "?eagerload=false&size=" + size)).andExpect(status().isOk())
+            );
+            assertMaxStatements(2, () ->
+                restVacationRequestMockMvc.perform(get(ENTITY_API_URL + "/vacation-requests/summaries?size=" + size)).andExpect(status().isOk())
+            );
+            // keyset slices read one extra row instead of counting
+            assertMaxStatements(1, () ->
+                restVacationRequestMockMvc
+                    .perform(get(ENTITY_API_URL + "/vacation-requests/review?size=" + size).with(user("hr").roles("HR")))
+                    .andExpect(status().isOk())
+            );
+            assertMaxStatements(1, () ->
+                restVacationRequestMockMvc
+                    .perform(get(ENTITY_API_URL + "/vacation-requests/review/summaries?size=" + size).with(user("hr").roles("HR")))
+                    .andExpect(status().isOk())
+            );
+        }
+    }
+
+    @Test
+    @Transactional
+    void myVacationRequestsRunABoundedNumberOfStatements() throws Exception {
+        Employee employee = EmployeeResourceIT.createEntity(em);
+        em.persist(employee);
+        for (int i = 0; i < 3; i++) {
+            em.persist(createEntity(em).employee(employee).createdAt(DEFAULT_CREATED_AT.plusSeconds(i)));
+        }
+        em.flush();
+        em.clear();
+        String login = employee.getUser().getLogin();
+
+        for (int size : new int[] { 1, 20 }) {
+            // the employee id of the user, then the slice
+            assertMaxStatements(2, () ->
+                restVacationRequestMockMvc
+                    .perform(get(ENTITY_API_URL + "/vacation-requests/mine?size=" + size).with(user(login).roles("USER")))
+                    .andExpect(status().isOk())
+            );
+            assertMaxStatements(2, () ->
+                restVacationRequestMockMvc
+                    .perform(get(ENTITY_API_URL + "/vacation-requests/mine/summaries?size=" + size).with(user(login).roles("USER")))
+                    .andExpect(status().isOk())
+            );
+        }
+    }
+
+    @Test
+    @Transactional
+    void getVacationRequestRunsOneStatement() throws Exception {
+        insertedVacationRequest = vacationRequestRepository.saveAndFlush(vacationRequest);
+        em.clear();
+
+        assertMaxStatements(1, () ->
+            restVacationRequestMockMvc.perform(get(ENTITY_API_URL_ID, vacationRequest.getId())).andExpect(status().isOk())
+        );
+    }
+
+    /**
+     * Insert pending requests of as many employees, each decided by its own approver, and clear the persistence context
+     * so that the endpoints read everything from the database.
+     */
+    private void insertRequestsOfDistinctEmployees(int count) {
+        for (int i = 0; i < count; i++) {
+            Employee employee = EmployeeResourceIT.createEntity(em);
+            em.persist(employee);
+            User approver = UserResourceIT.createEntity();
+            em.persist(approver);
+            em.persist(createEntity(em).employee(employee).approver(approver));
+        }
+        em.flush();
+        em.clear();
+    }
+
     protected long getRepositoryCount() {
         return vacationRequestRepository.count();
     }